@@ -0,0 +1,53 @@
+package com.github.elopteryx.reflect;
+
+/**
+ * Contention-free counter for a numeric field, which is updated from many
+ * threads. Instances are created by {@link ClassMirror#createAccumulator(String)}
+ * for static fields and {@link ObjectMirror#createAccumulator(String)} for
+ * instance fields. The increments are buffered in a striped adder, so the
+ * threads do not compete for the same cache line, and they are folded into
+ * the field with an atomic add, when the accumulator is flushed or read.
+ *
+ * <p>The field must be a long or an int. The value of an int field wraps
+ * around on overflow, the same way as with the plain addition, even if the
+ * buffered sum itself does not fit into an int. The writes made directly
+ * to the field are not lost, as the buffered increments are added to its
+ * current value.</p>
+ */
+public interface Accumulator {
+
+    /**
+     * Adds the given value, without updating the field.
+     * @param delta The value to add
+     */
+    void add(long delta);
+
+    /**
+     * Adds one, without updating the field.
+     */
+    default void increment() {
+        add(1L);
+    }
+
+    /**
+     * Returns the sum of the buffered increments, which
+     * were not added to the field yet.
+     * @return The pending sum
+     */
+    long pending();
+
+    /**
+     * Adds the buffered increments to the field atomically.
+     * @return The value of the field, after the increments were added
+     */
+    long flush();
+
+    /**
+     * Flushes the buffered increments, then returns the
+     * value of the field. Same as {@link #flush()}.
+     * @return The value of the field
+     */
+    default long get() {
+        return flush();
+    }
+}
@@ -0,0 +1,302 @@
+package com.github.elopteryx.reflect;
+
+import com.github.elopteryx.reflect.internal.ArrayOperations;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * An array based accessor. Works with the given array, which can have
+ * any component type, and provides the type-erased element access,
+ * backed by the element var handle of the array type, and bulk operations,
+ * which do not box the primitive elements. Unlike the object mirrors it
+ * does not need a lookup, as the elements of an array are always accessible.
+ * @param <A> The type of the array
+ */
+public final class ArrayMirror<A> {
+
+    /**
+     * The wrapped array. Cannot be null.
+     */
+    private final A array;
+
+    /**
+     * The element var handle for the type of the array.
+     */
+    private final VarHandle handle;
+
+    /**
+     * The length of the array.
+     */
+    private final int length;
+
+    ArrayMirror(final A array) {
+        this.array = Objects.requireNonNull(array);
+        this.handle = ArrayOperations.elementHandle(array.getClass());
+        this.length = ArrayOperations.length(array);
+    }
+
+    /**
+     * Returns the current array.
+     * @return The current array
+     */
+    public A get() {
+        return array;
+    }
+
+    /**
+     * Returns the length of the array.
+     * @return The length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the component type of the array.
+     * @return The component type
+     */
+    public Class<?> componentType() {
+        return array.getClass().getComponentType();
+    }
+
+    // ELEMENT
+
+    /**
+     * Gets the element at the given index, boxing it if it is a primitive.
+     * @param index The index of the element
+     * @return The element
+     */
+    public Object get(final int index) {
+        return handle.get(array, index);
+    }
+
+    /**
+     * Gets the element at the given index, as an int. The component
+     * type must be int or a narrower primitive type.
+     * @param index The index of the element
+     * @return The element
+     */
+    public int getInt(final int index) {
+        return (int) handle.get(array, index);
+    }
+
+    /**
+     * Gets the element at the given index, as a long. The component
+     * type must be long or a narrower primitive type.
+     * @param index The index of the element
+     * @return The element
+     */
+    public long getLong(final int index) {
+        return (long) handle.get(array, index);
+    }
+
+    /**
+     * Gets the element at the given index, as a double. The component
+     * type must be double or a narrower primitive type.
+     * @param index The index of the element
+     * @return The element
+     */
+    public double getDouble(final int index) {
+        return (double) handle.get(array, index);
+    }
+
+    /**
+     * Sets the element at the given index. A primitive
+     * element is unboxed from the value.
+     * @param index The index of the element
+     * @param value The new value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> set(final int index, final Object value) {
+        handle.set(array, index, value);
+        return this;
+    }
+
+    /**
+     * Sets the element at the given index. The component
+     * type must be int or a wider primitive type.
+     * @param index The index of the element
+     * @param value The new value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> setInt(final int index, final int value) {
+        handle.set(array, index, value);
+        return this;
+    }
+
+    /**
+     * Sets the element at the given index. The component
+     * type must be long or a wider primitive type.
+     * @param index The index of the element
+     * @param value The new value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> setLong(final int index, final long value) {
+        handle.set(array, index, value);
+        return this;
+    }
+
+    /**
+     * Sets the element at the given index. The component
+     * type must be double.
+     * @param index The index of the element
+     * @param value The new value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> setDouble(final int index, final double value) {
+        handle.set(array, index, value);
+        return this;
+    }
+
+    /**
+     * Gets the element at the given index, with volatile memory semantics.
+     * @param index The index of the element
+     * @return The element
+     */
+    public Object getVolatile(final int index) {
+        return handle.getVolatile(array, index);
+    }
+
+    /**
+     * Gets the element at the given index, with acquire memory semantics.
+     * @param index The index of the element
+     * @return The element
+     */
+    public Object getAcquire(final int index) {
+        return handle.getAcquire(array, index);
+    }
+
+    /**
+     * Sets the element at the given index, with volatile memory semantics.
+     * @param index The index of the element
+     * @param value The new value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> setVolatile(final int index, final Object value) {
+        handle.setVolatile(array, index, value);
+        return this;
+    }
+
+    /**
+     * Sets the element at the given index, with release memory semantics,
+     * so the writes made before it are visible to a thread which reads
+     * the new value with {@link #getAcquire(int)} or {@link #getVolatile(int)}.
+     * @param index The index of the element
+     * @param value The new value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> setRelease(final int index, final Object value) {
+        handle.setRelease(array, index, value);
+        return this;
+    }
+
+    /**
+     * Atomically sets the element at the given index, if its current value
+     * is the expected one. Reference elements are compared by identity,
+     * primitive elements by their value.
+     * @param index The index of the element
+     * @param expected The expected value
+     * @param newValue The new value
+     * @return True if the element was updated
+     */
+    public boolean compareAndSet(final int index, final Object expected, final Object newValue) {
+        return handle.compareAndSet(array, index, expected, newValue);
+    }
+
+    // BULK
+
+    /**
+     * Assigns the value to every element of the array.
+     * @param value The value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> fill(final Object value) {
+        return fill(0, length, value);
+    }
+
+    /**
+     * Assigns the value to the elements in the given range.
+     * @param from The first index, inclusive
+     * @param to The last index, exclusive
+     * @param value The value
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> fill(final int from, final int to, final Object value) {
+        ArrayOperations.fill(array, from, to, value);
+        return this;
+    }
+
+    /**
+     * Copies the elements of the array into the destination array,
+     * which must have a compatible type.
+     * @param sourceFrom The first index in the current array
+     * @param destination The destination array
+     * @param destinationFrom The first index in the destination array
+     * @param count The number of the elements to copy
+     * @return The same mirror instance
+     */
+    public ArrayMirror<A> copyTo(final int sourceFrom, final Object destination, final int destinationFrom, final int count) {
+        System.arraycopy(array, sourceFrom, destination, destinationFrom, count);
+        return this;
+    }
+
+    /**
+     * Creates a copy of the array, with the same type and length.
+     * @return The copy
+     */
+    public A copy() {
+        return copyOf(length);
+    }
+
+    /**
+     * Creates a copy of the array, truncating or padding it
+     * to the new length. The copy has the same type.
+     * @param newLength The length of the copy
+     * @return The copy
+     */
+    @SuppressWarnings("unchecked")
+    public A copyOf(final int newLength) {
+        return (A) ArrayOperations.copyOf(array, newLength);
+    }
+
+    /**
+     * Returns whether the given array has the same type
+     * and the same elements as the current one.
+     * @param other The other array
+     * @return True if the arrays are equal
+     */
+    public boolean contentEquals(final Object other) {
+        return ArrayOperations.equals(array, other);
+    }
+
+    /**
+     * Returns the hash code based on the elements of the array.
+     * @return The hash code
+     */
+    public int contentHashCode() {
+        return ArrayOperations.hashCode(array);
+    }
+
+    /**
+     * Returns the index of the first element which differs in the
+     * current and the given array, or -1 if there is none.
+     * The arrays must have the same type.
+     * @param other The other array
+     * @return The index of the first mismatch or -1
+     */
+    public int mismatch(final Object other) {
+        return ArrayOperations.mismatch(array, other);
+    }
+
+    /**
+     * Compares the current array to the given array lexicographically.
+     * The arrays must have the same type, reference elements must
+     * be comparable.
+     * @param other The other array
+     * @return The result of the comparison
+     */
+    public int compare(final Object other) {
+        return ArrayOperations.compare(array, other);
+    }
+}
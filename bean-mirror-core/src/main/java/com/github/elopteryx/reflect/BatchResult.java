@@ -0,0 +1,99 @@
+package com.github.elopteryx.reflect;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The outcome of invoking a method on every element of a collection,
+ * created by {@link ClassMirror#forEach(java.util.Collection, String, Object...)}
+ * and {@link ClassMirror#map(java.util.Collection, Class, String, Object...)}.
+ * The elements are identified by their position in the iteration order
+ * of the collection.
+ *
+ * <p>A failing element does not stop the batch, its exception is recorded
+ * instead, without wrapping it, and the other elements are still processed.</p>
+ * @param <R> The type of the results
+ */
+public final class BatchResult<R> {
+
+    /**
+     * The results, null for the failed elements and void methods.
+     */
+    private final List<R> results;
+
+    /**
+     * The failures, ordered by the index of the element.
+     */
+    private final Map<Integer, Throwable> failures;
+
+    @SuppressWarnings("unchecked")
+    BatchResult(final Object[] results, final Throwable[] failures) {
+        final var failed = new TreeMap<Integer, Throwable>();
+        for (var i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                failed.put(i, failures[i]);
+            }
+        }
+        this.results = Collections.unmodifiableList(Arrays.asList((R[]) results));
+        this.failures = Collections.unmodifiableMap(failed);
+    }
+
+    /**
+     * Returns the number of the processed elements.
+     * @return The size of the batch
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns whether the method completed normally for every element.
+     * @return True if there are no failures
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns the values returned by the method, in the same order as
+     * the elements. The value is null for the failed elements, and for
+     * every element if the method was only run.
+     * @return An unmodifiable list of the results
+     */
+    public List<R> results() {
+        return results;
+    }
+
+    /**
+     * Returns the exceptions thrown for the failed elements.
+     * @return An unmodifiable map from the index of the element to its exception
+     */
+    public Map<Integer, Throwable> failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the results if there are no failures. Otherwise throws
+     * an exception caused by the first failure, with the rest of them
+     * added as suppressed exceptions.
+     * @return An unmodifiable list of the results
+     * @throws BeanMirrorException If the method failed for any element
+     */
+    public List<R> orElseThrow() {
+        if (failures.isEmpty()) {
+            return results;
+        }
+        final var iterator = failures.values().iterator();
+        final var exception = new BeanMirrorException(iterator.next());
+        iterator.forEachRemaining(exception::addSuppressed);
+        throw exception;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult[size=" + results.size() + ", failures=" + failures.keySet() + "]";
+    }
+}
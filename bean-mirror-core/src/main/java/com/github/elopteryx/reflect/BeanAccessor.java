@@ -0,0 +1,111 @@
+package com.github.elopteryx.reflect;
+
+/**
+ * Indexed accessor for every instance field of a type, including
+ * the inherited ones. The fields are identified by their index,
+ * which starts from the fields of the topmost super type and follows
+ * the declaration order. Instances are created by {@link ClassMirror#accessor()}
+ * and are backed by a single generated class, so they can be shared
+ * between threads and used as a monomorphic call site for the type.
+ *
+ * <p>The primitive variants do not box the values. They can be used if
+ * the field type can be converted to or from the given primitive type
+ * with a widening conversion, otherwise an {@link IllegalArgumentException}
+ * is thrown. An invalid index results in an {@link IndexOutOfBoundsException}.</p>
+ * @param <T> The type of the bean
+ */
+public interface BeanAccessor<T> {
+
+    /**
+     * Returns the number of the accessible properties.
+     * @return The number of properties
+     */
+    int size();
+
+    /**
+     * Returns the name of the property.
+     * @param index The index of the property
+     * @return The name of the field
+     */
+    String name(int index);
+
+    /**
+     * Returns the type of the property.
+     * @param index The index of the property
+     * @return The type of the field
+     */
+    Class<?> type(int index);
+
+    /**
+     * Returns the index of the property, identified by its name. If
+     * the name is shadowed, the index of the field declared
+     * by the most specific type is returned.
+     * @param name The name of the field
+     * @return The index of the property, or -1 if there is no such field
+     */
+    int indexOf(String name);
+
+    /**
+     * Gets the value of the property.
+     * @param target The object to read
+     * @param index The index of the property
+     * @return The value of the field, boxed if it is a primitive
+     */
+    Object get(T target, int index);
+
+    /**
+     * Sets the value of the property.
+     * @param target The object to modify
+     * @param index The index of the property
+     * @param value The new value
+     */
+    void set(T target, int index, Object value);
+
+    /**
+     * Gets the value of the property as an int.
+     * @param target The object to read
+     * @param index The index of the property
+     * @return The value of the field
+     */
+    int getInt(T target, int index);
+
+    /**
+     * Sets the value of the property from an int.
+     * @param target The object to modify
+     * @param index The index of the property
+     * @param value The new value
+     */
+    void setInt(T target, int index, int value);
+
+    /**
+     * Gets the value of the property as a long.
+     * @param target The object to read
+     * @param index The index of the property
+     * @return The value of the field
+     */
+    long getLong(T target, int index);
+
+    /**
+     * Sets the value of the property from a long.
+     * @param target The object to modify
+     * @param index The index of the property
+     * @param value The new value
+     */
+    void setLong(T target, int index, long value);
+
+    /**
+     * Gets the value of the property as a double.
+     * @param target The object to read
+     * @param index The index of the property
+     * @return The value of the field
+     */
+    double getDouble(T target, int index);
+
+    /**
+     * Sets the value of the property from a double.
+     * @param target The object to modify
+     * @param index The index of the property
+     * @param value The new value
+     */
+    void setDouble(T target, int index, double value);
+}
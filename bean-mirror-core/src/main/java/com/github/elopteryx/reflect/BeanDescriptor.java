@@ -0,0 +1,382 @@
+package com.github.elopteryx.reflect;
+
+import com.github.elopteryx.reflect.internal.Utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable metadata of a class type. Collects the fields, properties,
+ * methods, constructors and record components of the type only once,
+ * the same descriptor instance is shared for every caller.
+ *
+ * <p>The fields are the instance fields of the type and its super types,
+ * in the same order as the indices of the {@link BeanAccessor}, so the
+ * index of a field can be used with the accessor directly. The properties
+ * are formed from the getter and setter methods, following the JavaBeans
+ * naming conventions, or from the components of a record.</p>
+ *
+ * <p>The descriptor does not depend on the lookup, it does not check
+ * whether the members can be accessed. As the descriptor is shared, the
+ * reflected fields, methods, constructors and record components are
+ * returned as new copies on every call, so making one of them accessible
+ * has no effect on the other callers.</p>
+ * @param <T> The described type
+ */
+public final class BeanDescriptor<T> {
+
+    private static final ClassValue<BeanDescriptor<?>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected BeanDescriptor<?> computeValue(final Class<?> type) {
+            return new BeanDescriptor<>(type);
+        }
+    };
+
+    private final Class<T> type;
+
+    private final int modifiers;
+
+    private final List<FieldDescriptor> fields;
+
+    private final Map<String, Integer> fieldIndices;
+
+    private final List<PropertyDescriptor> properties;
+
+    private final Map<String, PropertyDescriptor> propertiesByName;
+
+    private final List<Method> methods;
+
+    private final List<RecordComponent> recordComponents;
+
+    private BeanDescriptor(final Class<T> type) {
+        this.type = type;
+        this.modifiers = type.getModifiers();
+
+        final var instanceFields = Utils.instanceFields(type);
+        final var fieldList = new ArrayList<FieldDescriptor>(instanceFields.size());
+        final var indices = new HashMap<String, Integer>();
+        for (final var field : instanceFields) {
+            final var index = fieldList.size();
+            fieldList.add(new FieldDescriptor(field, field.getName(), field.getType(), field.getModifiers(), index));
+            indices.put(field.getName(), index);
+        }
+        this.fields = List.copyOf(fieldList);
+        this.fieldIndices = Map.copyOf(indices);
+
+        this.methods = List.copyOf(Utils.methods(type));
+        final var components = type.getRecordComponents();
+        this.recordComponents = components == null ? List.of() : List.of(components);
+
+        final var propertyMap = collectProperties();
+        this.properties = List.copyOf(propertyMap.values());
+        this.propertiesByName = Map.copyOf(propertyMap);
+    }
+
+    /**
+     * Returns the descriptor of the given type, creating it only once.
+     * @param type The class type
+     * @param <T> The generic type
+     * @return The shared descriptor
+     */
+    @SuppressWarnings("unchecked")
+    static <T> BeanDescriptor<T> of(final Class<T> type) {
+        return (BeanDescriptor<T>) DESCRIPTORS.get(type);
+    }
+
+    private Map<String, PropertyDescriptor> collectProperties() {
+        final var getters = new HashMap<String, Method>();
+        final var setters = new HashMap<String, List<Method>>();
+        for (final var component : recordComponents) {
+            getters.put(component.getName(), component.getAccessor());
+        }
+        for (final var method : methods) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            final var name = method.getName();
+            if (method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+                final var propertyName = name.startsWith("get") ? propertyName(name, 3)
+                        : name.startsWith("is") && method.getReturnType() == boolean.class ? propertyName(name, 2) : null;
+                if (propertyName != null && !"class".equals(propertyName)) {
+                    getters.putIfAbsent(propertyName, method);
+                }
+            } else if (method.getParameterCount() == 1 && name.startsWith("set")) {
+                final var propertyName = propertyName(name, 3);
+                if (propertyName != null) {
+                    setters.computeIfAbsent(propertyName, key -> new ArrayList<>()).add(method);
+                }
+            }
+        }
+        final var result = new TreeMap<String, PropertyDescriptor>();
+        getters.forEach((name, getter) -> {
+            final var propertyType = getter.getReturnType();
+            final var setter = setters.getOrDefault(name, List.of()).stream()
+                    .filter(method -> method.getParameterTypes()[0] == propertyType)
+                    .findFirst()
+                    .orElse(null);
+            result.put(name, new PropertyDescriptor(name, propertyType, getter, setter, indexOf(name)));
+        });
+        setters.forEach((name, candidates) -> {
+            if (!result.containsKey(name)) {
+                final var setter = candidates.get(0);
+                result.put(name, new PropertyDescriptor(name, setter.getParameterTypes()[0], null, setter, indexOf(name)));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Creates the property name from the method name, by removing the
+     * prefix and decapitalizing the rest, the same way as the JavaBeans
+     * introspector: if the first two characters are upper case, the
+     * name is kept as it is.
+     * @param methodName The method name
+     * @param prefixLength The length of the get, set or is prefix
+     * @return The property name, or null if the method name has no other part
+     */
+    private static String propertyName(final String methodName, final int prefixLength) {
+        if (methodName.length() == prefixLength) {
+            return null;
+        }
+        final var name = methodName.substring(prefixLength);
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Returns the described type.
+     * @return The class type
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns the modifiers of the described type.
+     * @return The modifiers, as in {@link Modifier}
+     */
+    public int modifiers() {
+        return modifiers;
+    }
+
+    /**
+     * Returns whether the described type is a record.
+     * @return True for a record
+     */
+    public boolean isRecord() {
+        return type.isRecord();
+    }
+
+    /**
+     * Returns the instance fields of the type and its super types,
+     * the super types first. The position of a field in the list
+     * is the same as its index in the {@link BeanAccessor}.
+     * @return The immutable list of fields
+     */
+    public List<FieldDescriptor> fields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field with the given index.
+     * @param index The index of the field
+     * @return The field
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public FieldDescriptor field(final int index) {
+        return fields.get(index);
+    }
+
+    /**
+     * Returns the index of the field with the given name. If a field
+     * hides a field of a super type then the index of the former is returned.
+     * @param name The name of the field
+     * @return The index, or -1 if there is no such field
+     */
+    public int indexOf(final String name) {
+        return fieldIndices.getOrDefault(name, -1);
+    }
+
+    /**
+     * Returns the properties of the type, ordered by their names.
+     * @return The immutable list of properties
+     */
+    public List<PropertyDescriptor> properties() {
+        return properties;
+    }
+
+    /**
+     * Returns the property with the given name.
+     * @param name The name of the property
+     * @return The property, or null if there is no such property
+     */
+    public PropertyDescriptor property(final String name) {
+        return propertiesByName.get(name);
+    }
+
+    /**
+     * Returns the methods of the type, the declared ones of the type and
+     * its super classes, and the public ones inherited from the interfaces.
+     * Overridden methods, bridges and synthetic methods are not included.
+     * @return The immutable list of methods, copied on every call
+     */
+    public List<Method> methods() {
+        return methods.stream().map(BeanDescriptor::copy).toList();
+    }
+
+    /**
+     * Returns the declared constructors of the type.
+     * @return The immutable list of constructors, copied on every call
+     */
+    @SuppressWarnings("unchecked")
+    public List<Constructor<T>> constructors() {
+        return List.of((Constructor<T>[]) type.getDeclaredConstructors());
+    }
+
+    /**
+     * Returns the components of the type, if it is a record.
+     * @return The immutable list of record components, copied on every call, empty for other types
+     */
+    public List<RecordComponent> recordComponents() {
+        if (recordComponents.isEmpty()) {
+            return List.of();
+        }
+        return List.of(type.getRecordComponents());
+    }
+
+    /**
+     * Returns a new copy of the given field, which is not yet accessible.
+     * @param field The shared field
+     * @return The copy
+     */
+    private static Field copy(final Field field) {
+        try {
+            return field.getDeclaringClass().getDeclaredField(field.getName());
+        } catch (final NoSuchFieldException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Returns a new copy of the given method, which is not yet accessible.
+     * @param method The shared method, can be null
+     * @return The copy, or null
+     */
+    private static Method copy(final Method method) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+        } catch (final NoSuchMethodException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BeanDescriptor[" + type.getName() + ", fields=" + fields.stream().map(FieldDescriptor::name).toList() + "]";
+    }
+
+    /**
+     * Describes an instance field.
+     * @param field The reflected field, copied on every access
+     * @param name The name of the field
+     * @param type The type of the field
+     * @param modifiers The modifiers of the field, as in {@link Modifier}
+     * @param index The index of the field, the same as in the {@link BeanAccessor}
+     */
+    public record FieldDescriptor(Field field, String name, Class<?> type, int modifiers, int index) {
+
+        /**
+         * Returns a new copy of the reflected field, so that making it
+         * accessible does not affect the shared descriptor.
+         * @return The field
+         */
+        @Override
+        public Field field() {
+            return copy(field);
+        }
+
+        /**
+         * Returns whether the field is final.
+         * @return True for a final field
+         */
+        public boolean isFinal() {
+            return Modifier.isFinal(modifiers);
+        }
+
+        /**
+         * Returns whether the field is volatile.
+         * @return True for a volatile field
+         */
+        public boolean isVolatile() {
+            return Modifier.isVolatile(modifiers);
+        }
+
+        /**
+         * Returns whether the field is transient.
+         * @return True for a transient field
+         */
+        public boolean isTransient() {
+            return Modifier.isTransient(modifiers);
+        }
+    }
+
+    /**
+     * Describes a property, formed from a getter and a setter method.
+     * @param name The name of the property
+     * @param type The type of the property
+     * @param getter The getter method, or null for a write only property, copied on every access
+     * @param setter The setter method, or null for a read only property, copied on every access
+     * @param fieldIndex The index of the field with the same name, or -1 if there is no such field
+     */
+    public record PropertyDescriptor(String name, Class<?> type, Method getter, Method setter, int fieldIndex) {
+
+        /**
+         * Returns a new copy of the getter method, so that making it
+         * accessible does not affect the shared descriptor.
+         * @return The getter, or null
+         */
+        @Override
+        public Method getter() {
+            return copy(getter);
+        }
+
+        /**
+         * Returns a new copy of the setter method, so that making it
+         * accessible does not affect the shared descriptor.
+         * @return The setter, or null
+         */
+        @Override
+        public Method setter() {
+            return copy(setter);
+        }
+
+        /**
+         * Returns whether the property has a getter.
+         * @return True if the property can be read
+         */
+        public boolean isReadable() {
+            return getter != null;
+        }
+
+        /**
+         * Returns whether the property has a setter.
+         * @return True if the property can be written
+         */
+        public boolean isWritable() {
+            return setter != null;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.github.elopteryx.reflect;
 
+import com.github.elopteryx.reflect.internal.Copiers;
+
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
 
 /**
  * The entry point for creating mirror instances.
@@ -64,4 +68,63 @@ public final class BeanMirror {
         return new ClassMirror<>(clazz, lookup);
     }
 
+    /**
+     * Creates a new mirror instance, wrapping the given array.
+     * The array can have any component type.
+     * @param array The array to be wrapped
+     * @param <A> The type of the array
+     * @return A new mirror instance
+     */
+    public static <A> ArrayMirror<A> ofArray(final A array) {
+        Objects.requireNonNull(array);
+        if (!array.getClass().isArray()) {
+            throw new IllegalArgumentException("Not an array!");
+        }
+        return new ArrayMirror<>(array);
+    }
+
+    /**
+     * Creates a copier, which copies the values of the instance fields
+     * from a source object to a destination object. The fields are paired
+     * by their names, only once. A pair is copied if the destination field
+     * is not final and the value can be assigned to it, either as a
+     * reference or with a primitive widening conversion, the other fields
+     * are skipped. The copier is created only once for the same types
+     * and lookup, and it can be shared between threads.
+     * @param sourceType The type of the source objects
+     * @param destinationType The type of the destination objects
+     * @param lookup User-supplied lookup for access check
+     * @param <S> The generic type of the source
+     * @param <D> The generic type of the destination
+     * @return The copier, taking the source and the destination
+     */
+    public static <S, D> BiConsumer<S, D> copier(final Class<S> sourceType, final Class<D> destinationType, final Lookup lookup) {
+        Objects.requireNonNull(sourceType);
+        Objects.requireNonNull(destinationType);
+        Objects.requireNonNull(lookup);
+        return Copiers.copier(lookup, sourceType, destinationType);
+    }
+
+    /**
+     * Creates a copier, which copies the values of the instance fields
+     * from a source object to a destination object. Works the same as
+     * {@link #copier(Class, Class, Lookup)}, but the source fields are
+     * paired with the destination fields by the given name mapping.
+     * The copier is not cached.
+     * @param sourceType The type of the source objects
+     * @param destinationType The type of the destination objects
+     * @param lookup User-supplied lookup for access check
+     * @param nameMapping Maps the name of a source field to the name of a destination field, or to null to skip it
+     * @param <S> The generic type of the source
+     * @param <D> The generic type of the destination
+     * @return The copier, taking the source and the destination
+     */
+    public static <S, D> BiConsumer<S, D> copier(final Class<S> sourceType, final Class<D> destinationType, final Lookup lookup, final UnaryOperator<String> nameMapping) {
+        Objects.requireNonNull(sourceType);
+        Objects.requireNonNull(destinationType);
+        Objects.requireNonNull(lookup);
+        Objects.requireNonNull(nameMapping);
+        return Copiers.copier(lookup, sourceType, destinationType, nameMapping);
+    }
+
 }
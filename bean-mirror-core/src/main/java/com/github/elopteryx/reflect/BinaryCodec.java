@@ -0,0 +1,63 @@
+package com.github.elopteryx.reflect;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes beans to and decodes them from a binary layout, created by
+ * {@link ClassMirror#binaryCodec()}. The primitive fields are stored in
+ * a fixed section, ordered by their size, so every value is aligned to
+ * its size relative to the start of the bean. It is followed by the
+ * variable section, holding the strings, prefixed by their length in
+ * UTF-8 bytes, and the nested beans, prefixed by a presence flag, in
+ * the declaration order of the fields.
+ *
+ * <p>The beans must have exactly the type of their codec, or the declared
+ * type of their field, since the fields of a subclass are not part of the
+ * layout. The beans are encoded as a tree: a nested bean referenced twice
+ * is encoded twice and decoded as two separate beans, and cyclic references
+ * are not supported, they fail with a {@link StackOverflowError}.</p>
+ *
+ * <p>The values are big-endian, regardless of the order of the buffer.
+ * The codec reads and writes at the position of the buffer, advancing
+ * it, and it works with heap and direct buffers. Encoding does not
+ * allocate, except when the buffer is created by {@link #encode(Object)}.
+ * The codecs are thread-safe, the buffers are not.</p>
+ * @param <T> The type of the beans
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * Returns the number of the bytes, needed to encode the given bean.
+     * @param value The bean
+     * @return The encoded size
+     */
+    int size(T value);
+
+    /**
+     * Encodes the bean into the buffer, starting at its position.
+     * @param value The bean
+     * @param buffer The buffer, with enough remaining space
+     * @throws java.nio.BufferOverflowException If the buffer is too small, the position is not changed
+     * @throws BeanMirrorException If the bean or a nested bean has a different type, the position is not changed
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Encodes the bean into a new heap buffer, which is ready to be read.
+     * @param value The bean
+     * @return The buffer, holding exactly the encoded bean
+     */
+    default ByteBuffer encode(final T value) {
+        final var buffer = ByteBuffer.allocate(size(value));
+        encode(value, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes a new bean from the buffer, starting at its position.
+     * @param buffer The buffer
+     * @return The bean
+     * @throws java.nio.BufferUnderflowException If the buffer does not contain the whole bean, the position is not changed
+     */
+    T decode(ByteBuffer buffer);
+}
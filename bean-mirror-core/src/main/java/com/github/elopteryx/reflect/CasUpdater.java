@@ -0,0 +1,27 @@
+package com.github.elopteryx.reflect;
+
+/**
+ * Atomic compare-and-set update of a field, with volatile memory semantics.
+ * Instances are created by {@link ClassMirror#createCasUpdater(String, Class)}
+ * and {@link ObjectMirror#createCasUpdater(String, Class)}, backed by a var
+ * handle, so unlike the atomic field updaters of the platform, the field
+ * does not have to be volatile, and the target is not checked on every call.
+ *
+ * <p>Reference fields are compared by identity, primitive fields by their
+ * value, in the same way as {@link java.lang.invoke.VarHandle#compareAndSet(Object...)}.</p>
+ * @param <T> The type of the target
+ * @param <R> The type of the field
+ */
+@FunctionalInterface
+public interface CasUpdater<T, R> {
+
+    /**
+     * Atomically sets the field of the target to the new value,
+     * if its current value is the expected one.
+     * @param target The object holding the field
+     * @param expected The expected value
+     * @param newValue The new value
+     * @return True if the field was updated
+     */
+    boolean compareAndSet(T target, R expected, R newValue);
+}
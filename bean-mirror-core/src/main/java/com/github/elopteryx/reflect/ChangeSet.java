@@ -0,0 +1,123 @@
+package com.github.elopteryx.reflect;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Reusable sink for a {@link Differ}, which collects the changes into
+ * flat arrays. The arrays grow when needed, and they are kept when the
+ * set is cleared, so a set reused for every comparison only allocates
+ * until it reaches the largest number of changes. It is not thread-safe.
+ */
+public final class ChangeSet implements Differ.Sink {
+
+    /**
+     * The indices of the changed properties.
+     */
+    private int[] indices = new int[8];
+
+    /**
+     * The values before the changes.
+     */
+    private Object[] before = new Object[8];
+
+    /**
+     * The values after the changes.
+     */
+    private Object[] after = new Object[8];
+
+    /**
+     * The number of the changes.
+     */
+    private int size;
+
+    /**
+     * Creates an empty set.
+     */
+    public ChangeSet() {
+        // The arrays are allocated by the field initializers.
+    }
+
+    @Override
+    public void changed(final int index, final Object before, final Object after) {
+        if (size == indices.length) {
+            final var length = size * 2;
+            this.indices = Arrays.copyOf(indices, length);
+            this.before = Arrays.copyOf(this.before, length);
+            this.after = Arrays.copyOf(this.after, length);
+        }
+        this.indices[size] = index;
+        this.before[size] = before;
+        this.after[size] = after;
+        size++;
+    }
+
+    /**
+     * Returns the number of the collected changes.
+     * @return The number of changes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether there are no collected changes.
+     * @return True if the set is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the index of the changed property.
+     * @param position The position of the change, in the order they were collected
+     * @return The index of the property
+     */
+    public int index(final int position) {
+        Objects.checkIndex(position, size);
+        return indices[position];
+    }
+
+    /**
+     * Returns the value of the property before the change.
+     * @param position The position of the change, in the order they were collected
+     * @return The previous value
+     */
+    public Object before(final int position) {
+        Objects.checkIndex(position, size);
+        return before[position];
+    }
+
+    /**
+     * Returns the value of the property after the change.
+     * @param position The position of the change, in the order they were collected
+     * @return The new value
+     */
+    public Object after(final int position) {
+        Objects.checkIndex(position, size);
+        return after[position];
+    }
+
+    /**
+     * Removes the collected changes, keeping the arrays for reuse.
+     * @return The same set
+     */
+    public ChangeSet clear() {
+        Arrays.fill(before, 0, size, null);
+        Arrays.fill(after, 0, size, null);
+        size = 0;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final var builder = new StringBuilder("ChangeSet[");
+        for (var i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(indices[i]).append(": ").append(before[i]).append(" -> ").append(after[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -1,21 +1,55 @@
 package com.github.elopteryx.reflect;
 
-import static com.github.elopteryx.reflect.internal.Utils.isSimilarSignature;
 import static com.github.elopteryx.reflect.internal.Utils.types;
+import static com.github.elopteryx.reflect.internal.Utils.wrapper;
 import static java.lang.invoke.MethodType.methodType;
 
+import com.github.elopteryx.reflect.internal.Accessors;
+import com.github.elopteryx.reflect.internal.Accumulators;
+import com.github.elopteryx.reflect.internal.Batches;
+import com.github.elopteryx.reflect.internal.BinaryCodecs;
+import com.github.elopteryx.reflect.internal.Cloners;
+import com.github.elopteryx.reflect.internal.Columns;
+import com.github.elopteryx.reflect.internal.Differs;
+import com.github.elopteryx.reflect.internal.Equivalences;
 import com.github.elopteryx.reflect.internal.Functional;
+import com.github.elopteryx.reflect.internal.HandleCache;
+import com.github.elopteryx.reflect.internal.MapConverters;
+import com.github.elopteryx.reflect.internal.MemoryViews;
+import com.github.elopteryx.reflect.internal.MethodIndex;
+import com.github.elopteryx.reflect.internal.OffHeapStores;
+import com.github.elopteryx.reflect.internal.Paths;
+import com.github.elopteryx.reflect.internal.Utils;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
-import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 
 /**
  * A class based accessor. Works with a given
@@ -83,16 +117,37 @@ public final class ClassMirror<T> {
 
     private Object useConstructor(final Class<?>[] types, final Object... args) {
         try {
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-
-            final var constructorHandle = privateLookup.findConstructor(clazz, methodType(void.class, types));
-            return constructorHandle.invokeWithArguments(args);
-
+            final var constructorHandle = HandleCache.findConstructor(lookup, clazz, types);
+            return (Object) constructorHandle.invokeExact(args);
         } catch (final Throwable e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Creates a new function which can be used to create new instances
+     * from the current type, using the constructor with the given
+     * parameter types. The constructor is resolved only once, the
+     * function takes the arguments as an array, in the same order.
+     * @param types The array of the constructor argument types
+     * @return A new Function
+     */
+    public Function<Object[], T> createFactory(final Class<?>... types) {
+        final var type = this.clazz;
+        return Functional.createFactory(lookup, type, types);
+    }
+
+    /**
+     * Creates a new supplier which can be used to create new instances
+     * from the current type, using the constructor without parameters.
+     * The constructor is resolved only once.
+     * @return A new Supplier
+     */
+    public Supplier<T> createSupplier() {
+        final var type = this.clazz;
+        return Functional.createSupplier(lookup, type);
+    }
+
     // FIELD
 
     /**
@@ -133,8 +188,7 @@ public final class ClassMirror<T> {
 
     private Object getField(final String fieldName, final Class<?> fieldType) {
         try {
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var varHandle = privateLookup.findStaticVarHandle(clazz, fieldName, fieldType);
+            final var varHandle = HandleCache.findStaticVarHandle(lookup, clazz, fieldName, fieldType);
             return varHandle.get();
         } catch (final NoSuchFieldException | IllegalAccessException e) {
             throw new BeanMirrorException(e);
@@ -143,8 +197,7 @@ public final class ClassMirror<T> {
 
     private void setField(final String name, final Object value) {
         try {
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var handle = privateLookup.findStaticVarHandle(clazz, name, value.getClass());
+            final var handle = HandleCache.findStaticVarHandle(lookup, clazz, name, value.getClass());
             handle.set(value);
         } catch (final NoSuchFieldException | IllegalAccessException e) {
             throw new BeanMirrorException(e);
@@ -209,6 +262,606 @@ public final class ClassMirror<T> {
         return Functional.createStaticSetter(name, lookup, type, clazz);
     }
 
+    /**
+     * Creates a new function which can be used to get the value of
+     * field for the object given to the function. Works the same
+     * as {@link #createGetter(String, Class)}, but instead of a lambda
+     * a new hidden class is generated, which holds the field handle as
+     * a constant, allowing the JIT compiler to inline the access.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    public <R> Function<T, R> createGeneratedGetter(final String name, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Functional.generateGetter(name, lookup, type, clazz);
+    }
+
+    /**
+     * Creates a new bi-consumer which can be used to set the value of
+     * field for the object given to the function. Works the same
+     * as {@link #createSetter(String, Class)}, but instead of a lambda
+     * a new hidden class is generated, which holds the field handle as
+     * a constant, allowing the JIT compiler to inline the access.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new BiConsumer
+     */
+    public <R> BiConsumer<T, R> createGeneratedSetter(final String name, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Functional.generateSetter(name, lookup, type, clazz);
+    }
+
+    /**
+     * Creates a new function which calls the getter method, identified
+     * by its name, on the object given to the function. The method must
+     * not have parameters and its return type must be the given class type.
+     * The function is generated by the lambda metafactory, the same way as
+     * a method reference, so the lookup must have private access to the type.
+     * @param name The name of the method
+     * @param clazz The return type of the method
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    public <R> Function<T, R> createMethodGetter(final String name, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Functional.generateMethodGetter(name, lookup, type, clazz);
+    }
+
+    /**
+     * Creates a new bi-consumer which calls the setter method, identified
+     * by its name, on the object given to the function. The method must
+     * have a single parameter with the given class type, its return value
+     * is ignored. The function is generated by the lambda metafactory, the
+     * same way as a method reference, so the lookup must have private
+     * access to the type.
+     * @param name The name of the method
+     * @param clazz The parameter type of the method
+     * @param <R> The generic type
+     * @return A new BiConsumer
+     */
+    public <R> BiConsumer<T, R> createMethodSetter(final String name, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Functional.generateMethodSetter(name, lookup, type, clazz);
+    }
+
+    /**
+     * Binds the method, identified by its name, to an instance of the
+     * given functional interface, like a method reference. A static method
+     * takes the parameters of the interface method. A virtual method takes
+     * the receiver as the first parameter of the interface method, followed
+     * by the arguments. The primitive types are not boxed, if both the
+     * method and the interface use them. The instance is generated by the
+     * lambda metafactory, so the lookup must have private access to the type.
+     *
+     * <p>The instance is cached and shared: calling this method again with
+     * the same name, interface and lookup class returns the same instance,
+     * so it must not be used for identity or synchronization. It is only
+     * cached if the interface is visible from the class loader of the
+     * type, otherwise a new instance is created on every call.</p>
+     * @param name The name of the method
+     * @param functionalInterface The functional interface to implement
+     * @param <F> The generic type of the interface
+     * @return The cached instance of the functional interface
+     */
+    public <F> F createMethod(final String name, final Class<F> functionalInterface) {
+        final var type = this.clazz;
+        return Functional.createMethod(name, lookup, type, functionalInterface);
+    }
+
+    /**
+     * Creates a new function which returns the value at the end of a
+     * nested field path, like "principal.address.city", for the object
+     * given to the function. The path is resolved only once, and compiled
+     * into a single method handle. Every object on the path must be non-null.
+     * @param path The names of the fields, separated by dots
+     * @param clazz The type of the last field
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    public <R> Function<T, R> createPathGetter(final String path, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Paths.createPathGetter(path, lookup, type, clazz);
+    }
+
+    /**
+     * Creates a new function which returns the value at the end of a
+     * nested field path. Works the same as {@link #createPathGetter(String, Class)},
+     * but if the object given to the function, or any object on the path,
+     * is null then the default value is returned instead.
+     * @param path The names of the fields, separated by dots
+     * @param clazz The type of the last field
+     * @param defaultValue The value returned for a null object, for primitive fields null means zero
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    public <R> Function<T, R> createPathGetter(final String path, final Class<R> clazz, final R defaultValue) {
+        final var type = this.clazz;
+        return Paths.createNullSafePathGetter(path, lookup, type, clazz, defaultValue);
+    }
+
+    /**
+     * Creates a new bi-consumer which sets the value at the end of a
+     * nested field path, for the object given to the function. The
+     * intermediate objects which are null are created with their no-arg
+     * constructor and stored before the last field is set. The objects
+     * which cannot be created, because their type is abstract or has no
+     * no-arg constructor, must be non-null when the setter is called.
+     * @param path The names of the fields, separated by dots
+     * @param clazz The type of the last field
+     * @param <R> The generic type
+     * @return A new BiConsumer
+     */
+    public <R> BiConsumer<T, R> createPathSetter(final String path, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Paths.createPathSetter(path, lookup, type, clazz);
+    }
+
+    /**
+     * Returns the indexed accessor for every instance field of the
+     * current type, including the inherited ones. The accessor is backed
+     * by a single generated class and it is created only once for the
+     * same type and lookup, so it can be used as a shared call site.
+     * @return The bean accessor
+     */
+    public BeanAccessor<T> accessor() {
+        final var type = this.clazz;
+        return Accessors.accessor(lookup, type);
+    }
+
+    /**
+     * Returns the metadata of the current type: the fields, properties,
+     * methods, constructors and record components. The descriptor is
+     * created only once for the same type and shared, regardless of the
+     * lookup, so it can be used instead of repeated reflective scans.
+     * @return The bean descriptor
+     */
+    public BeanDescriptor<T> describe() {
+        return BeanDescriptor.of(clazz);
+    }
+
+    /**
+     * Returns the indexed accessor for the components of the current type,
+     * which must be a record. Besides the component getters, it provides a
+     * factory for the canonical constructor and compiled copy methods,
+     * which change a single component. The accessor is created only once
+     * for the same type and lookup.
+     * @return The record accessor
+     */
+    public RecordAccessor<T> recordAccessor() {
+        final var type = this.clazz;
+        return RecordAccessor.of(lookup, type);
+    }
+
+    /**
+     * Creates a function which converts an instance of the current type
+     * to a map, with the names of the instance fields as the keys. The
+     * returned maps are immutable views, backed by an array of the values,
+     * sharing the keys, so no hash table is built for them. The converter
+     * is created only once for the same type and lookup.
+     * @return A new Function
+     */
+    public Function<T, Map<String, Object>> toMapConverter() {
+        final var type = this.clazz;
+        return MapConverters.toMap(lookup, type);
+    }
+
+    /**
+     * Creates a function which converts an instance of the current type
+     * to a map, with the names of the instance fields as the keys. The maps
+     * are created with the given factory, which is called with the number
+     * of the fields, so it can create a map with the right capacity.
+     * @param mapFactory Creates an empty map for the given number of entries
+     * @return A new Function
+     */
+    public Function<T, Map<String, Object>> toMapConverter(final IntFunction<? extends Map<String, Object>> mapFactory) {
+        final var type = this.clazz;
+        return MapConverters.toMap(lookup, type, mapFactory);
+    }
+
+    /**
+     * Creates a function which converts a map to a new instance of the
+     * current type. A record is created with its canonical constructor,
+     * the components missing from the map will be null or zero. Other types
+     * are created with their no-arg constructor, then the fields found in
+     * the map are set, except the final ones. The converter is created only
+     * once for the same type and lookup.
+     * @return A new Function
+     */
+    public Function<Map<String, ?>, T> fromMapConverter() {
+        final var type = this.clazz;
+        return MapConverters.fromMap(lookup, type);
+    }
+
+    /**
+     * Creates an equality and hash code strategy for the current type,
+     * which compares the given fields. The comparisons are compiled into
+     * a single method handle, primitive fields are compared without boxing.
+     * The strategy is created only once for the same fields and lookup.
+     * @param names The names of the fields, or none to use every instance field
+     * @return A new Equivalence
+     */
+    public Equivalence<T> equivalence(final String... names) {
+        final var type = this.clazz;
+        return Equivalences.equivalence(lookup, type, names);
+    }
+
+    /**
+     * Creates a comparator for the current type, which orders the instances
+     * by the given fields, in the given order. The comparisons are compiled
+     * into a single method handle, primitive fields are compared without
+     * boxing. Reference fields must be comparable, null values come first.
+     * The comparator is created only once for the same fields and lookup.
+     * @param names The names of the fields, or none to use every instance field
+     * @return A new Comparator
+     */
+    public Comparator<T> comparator(final String... names) {
+        final var type = this.clazz;
+        return Equivalences.comparator(lookup, type, names);
+    }
+
+    /**
+     * Creates a function which copies the instances of the current type.
+     * A copy plan is created once for every class found in the copied
+     * objects, so repeated copies do not resolve anything. A deep copy
+     * preserves the shared and cyclic references, the primitive arrays
+     * are copied with {@link java.util.Arrays#copyOf(int[], int)} and its
+     * overloads, the platform collections with their copy constructors.
+     * The types extending a class with instance fields from another module,
+     * for example {@link java.util.Date}, cannot be copied. The function
+     * is created only once for the same depth and lookup.
+     * @param depth The depth of the copies
+     * @return A new UnaryOperator
+     */
+    public UnaryOperator<T> cloner(final CloneDepth depth) {
+        final var type = this.clazz;
+        return Cloners.cloner(lookup, type, depth);
+    }
+
+    /**
+     * Creates a differ for the current type, which compares two instances
+     * field by field and reports the changed properties, identified by
+     * their index in the {@link #accessor()}. The comparisons are compiled
+     * into a single method handle, primitive fields are compared without
+     * boxing. The differ is created only once for the same lookup.
+     * @return A new Differ
+     */
+    public Differ<T> differ() {
+        final var type = this.clazz;
+        return Differs.differ(lookup, type);
+    }
+
+    /**
+     * Creates a binary codec for the current type, which encodes the
+     * instance fields into a byte buffer with a fixed layout, and decodes
+     * them into new instances. The type must have a no-arg constructor, the
+     * fields must be primitives, strings or nested beans, which are encoded
+     * by their declared type and must not form a cycle. Transient fields are
+     * skipped. The codec is created only once for the same lookup.
+     * @return A new BinaryCodec
+     */
+    public BinaryCodec<T> binaryCodec() {
+        final var type = this.clazz;
+        return BinaryCodecs.binaryCodec(lookup, type);
+    }
+
+    /**
+     * Creates an off-heap store for the current type, mapping the given
+     * file, which is created if it does not exist. Every row holds the
+     * primitive fields of an instance, which can be copied from and to
+     * instances, or accessed in place through a reusable flyweight. The
+     * type must have a no-arg constructor, and all of its non-transient
+     * instance fields must be primitives. An existing file must have been
+     * written for the same layout.
+     * @param file The file holding the rows
+     * @param capacity The number of the rows
+     * @return A new OffHeapStore
+     */
+    public OffHeapStore<T> offHeapStore(final Path file, final long capacity) {
+        final var type = this.clazz;
+        return OffHeapStores.offHeapStore(lookup, type, file, capacity);
+    }
+
+    /**
+     * Returns the memory layout of the current type, which is a
+     * {@code java.lang.foreign.StructLayout}, holding the primitive fields,
+     * in the native byte order. The foreign memory API is only available on
+     * Java 22 or later, on older runtimes this method throws an exception.
+     * The layout is created only once for the same lookup.
+     * @return The layout
+     */
+    public Object memoryLayout() {
+        final var type = this.clazz;
+        return MemoryViews.memoryLayout(lookup, type);
+    }
+
+    /**
+     * Creates a view of the given {@code java.lang.foreign.MemorySegment},
+     * which is treated as an array of structs with the {@link #memoryLayout()}
+     * of the current type. The rows of the view are accessed in place, the
+     * same way as the ones of an {@link #offHeapStore(Path, long)}, but the
+     * segment is owned by the caller, closing the view does not release it.
+     * The segment must be aligned to the layout. The foreign memory API is
+     * only available on Java 22 or later, on older runtimes this method
+     * throws an exception.
+     * @param segment The memory segment
+     * @return A new view
+     */
+    public OffHeapStore<T> memoryView(final Object segment) {
+        final var type = this.clazz;
+        return MemoryViews.memoryView(lookup, type, segment);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the int field for the object given to the function, without
+     * boxing it. The input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ToIntFunction
+     */
+    public ToIntFunction<T> createIntGetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createIntGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new supplier which can be used to get the value of
+     * the static int field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new IntSupplier
+     */
+    public IntSupplier createStaticIntGetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createStaticIntGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the int field for the object given to the function, without
+     * boxing it. The first input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ObjIntConsumer
+     */
+    public ObjIntConsumer<T> createIntSetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createIntSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the static int field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new IntConsumer
+     */
+    public IntConsumer createStaticIntSetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createStaticIntSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the long field for the object given to the function, without
+     * boxing it. The input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ToLongFunction
+     */
+    public ToLongFunction<T> createLongGetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createLongGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new supplier which can be used to get the value of
+     * the static long field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new LongSupplier
+     */
+    public LongSupplier createStaticLongGetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createStaticLongGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the long field for the object given to the function, without
+     * boxing it. The first input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ObjLongConsumer
+     */
+    public ObjLongConsumer<T> createLongSetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createLongSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the static long field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new LongConsumer
+     */
+    public LongConsumer createStaticLongSetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createStaticLongSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the double field for the object given to the function, without
+     * boxing it. The input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ToDoubleFunction
+     */
+    public ToDoubleFunction<T> createDoubleGetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createDoubleGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new supplier which can be used to get the value of
+     * the static double field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new DoubleSupplier
+     */
+    public DoubleSupplier createStaticDoubleGetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createStaticDoubleGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the double field for the object given to the function, without
+     * boxing it. The first input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ObjDoubleConsumer
+     */
+    public ObjDoubleConsumer<T> createDoubleSetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createDoubleSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the static double field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new DoubleConsumer
+     */
+    public DoubleConsumer createStaticDoubleSetter(final String name) {
+        final var type = this.clazz;
+        return Functional.createStaticDoubleSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the field for the object given to the function, with volatile
+     * memory semantics. The input type will be the same as the current
+     * type, the output type will be the same as the given field class type.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    public <R> Function<T, R> createVolatileGetter(final String name, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Functional.createVolatileGetter(name, lookup, type, clazz);
+    }
+
+    /**
+     * Creates a new updater which can be used to atomically compare and
+     * set the value of the field for the object given to it. The target
+     * type will be the same as the current type, the value type will be
+     * the same as the given field class type.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new CasUpdater
+     */
+    public <R> CasUpdater<T, R> createCasUpdater(final String name, final Class<R> clazz) {
+        final var type = this.clazz;
+        return Functional.createCasUpdater(name, lookup, type, clazz);
+    }
+
+    /**
+     * Returns the accumulator for the static long or int field, which
+     * buffers the increments in a striped adder and adds them to the field
+     * when it is flushed or read. The accumulator is shared by every caller
+     * using the same lookup, so the increments are not split between them.
+     * @param name The name of the field
+     * @return The accumulator
+     */
+    public Accumulator createAccumulator(final String name) {
+        final var type = this.clazz;
+        return Accumulators.createStaticAccumulator(lookup, type, name);
+    }
+
+    /**
+     * Copies the values of the primitive field from every element of the
+     * list into the given array, widening them to int. The field is resolved
+     * only once, large lists with random access are processed in parallel.
+     * @param name The name of the field
+     * @param source The elements
+     * @param destination The array, at least as long as the list
+     * @return The destination array
+     */
+    public int[] extractInts(final String name, final List<? extends T> source, final int[] destination) {
+        final var type = this.clazz;
+        return Columns.extractInts(lookup, type, name, source, destination);
+    }
+
+    /**
+     * Copies the values of the primitive field from every element of the
+     * list into the given array, widening them to long. The field is resolved
+     * only once, large lists with random access are processed in parallel.
+     * @param name The name of the field
+     * @param source The elements
+     * @param destination The array, at least as long as the list
+     * @return The destination array
+     */
+    public long[] extractLongs(final String name, final List<? extends T> source, final long[] destination) {
+        final var type = this.clazz;
+        return Columns.extractLongs(lookup, type, name, source, destination);
+    }
+
+    /**
+     * Copies the values of the primitive field from every element of the
+     * list into the given array, widening them to double. The field is resolved
+     * only once, large lists with random access are processed in parallel.
+     * @param name The name of the field
+     * @param source The elements
+     * @param destination The array, at least as long as the list
+     * @return The destination array
+     */
+    public double[] extractDoubles(final String name, final List<? extends T> source, final double[] destination) {
+        final var type = this.clazz;
+        return Columns.extractDoubles(lookup, type, name, source, destination);
+    }
+
+    /**
+     * Sets the primitive field of every element of the list to the value
+     * at the same index in the given array. This is the reverse of
+     * {@link #extractInts(String, List, int[])}.
+     * @param name The name of the field
+     * @param values The values, at least as many as the elements
+     * @param targets The elements
+     * @return The same mirror instance
+     */
+    public ClassMirror<T> scatter(final String name, final int[] values, final List<? extends T> targets) {
+        final var type = this.clazz;
+        Columns.scatter(lookup, type, name, values, targets);
+        return this;
+    }
+
+    /**
+     * Sets the primitive field of every element of the list to the value
+     * at the same index in the given array. This is the reverse of
+     * {@link #extractLongs(String, List, long[])}.
+     * @param name The name of the field
+     * @param values The values, at least as many as the elements
+     * @param targets The elements
+     * @return The same mirror instance
+     */
+    public ClassMirror<T> scatter(final String name, final long[] values, final List<? extends T> targets) {
+        final var type = this.clazz;
+        Columns.scatter(lookup, type, name, values, targets);
+        return this;
+    }
+
+    /**
+     * Sets the primitive field of every element of the list to the value
+     * at the same index in the given array. This is the reverse of
+     * {@link #extractDoubles(String, List, double[])}.
+     * @param name The name of the field
+     * @param values The values, at least as many as the elements
+     * @param targets The elements
+     * @return The same mirror instance
+     */
+    public ClassMirror<T> scatter(final String name, final double[] values, final List<? extends T> targets) {
+        final var type = this.clazz;
+        Columns.scatter(lookup, type, name, values, targets);
+        return this;
+    }
+
     // METHOD
 
     /**
@@ -252,32 +905,128 @@ public final class ClassMirror<T> {
         }
     }
 
+    /**
+     * Returns a method mirror for the method of the current type, which is
+     * identified by its name and its exact parameter types. It can be a
+     * static method or an instance method. Unlike {@link #runStatic(String, Object...)}
+     * and {@link #callStatic(Class, String, Object...)} the method is
+     * resolved only once, and it can be invoked without allocating
+     * an array for the arguments.
+     * @param name The name of the method
+     * @param types The parameter types of the method
+     * @return A new method mirror
+     */
+    public MethodMirror<T> method(final String name, final Class<?>... types) {
+        final var type = this.clazz;
+        return MethodMirror.of(lookup, type, null, name, types);
+    }
+
+    /**
+     * Runs the instance method on every element of the collection, which is
+     * identified by its name and the given arguments. The method is resolved
+     * only once, then the elements are processed in parallel, by the common
+     * fork-join pool. An exception thrown for an element does not stop the
+     * others, it is recorded in the returned result.
+     * @param targets The elements, which must be instances of the current type
+     * @param name The name of the method
+     * @param args The arguments which will be used for every invocation
+     * @return The result of the batch, without values
+     */
+    public BatchResult<Void> forEach(final Collection<? extends T> targets, final String name, final Object... args) {
+        return forEach(ForkJoinPool.commonPool(), targets, name, args);
+    }
+
+    /**
+     * Runs the instance method on every element of the collection, which is
+     * identified by its name and the given arguments. The method is resolved
+     * only once, then the elements are split into ranges, processed by the
+     * given executor. A fork-join pool splits the ranges recursively, other
+     * executors receive a task for each range. An exception thrown for an
+     * element does not stop the others, it is recorded in the returned result.
+     * @param executor The executor processing the elements
+     * @param targets The elements, which must be instances of the current type
+     * @param name The name of the method
+     * @param args The arguments which will be used for every invocation
+     * @return The result of the batch, without values
+     */
+    public BatchResult<Void> forEach(final Executor executor, final Collection<? extends T> targets, final String name, final Object... args) {
+        return batch(executor, targets, void.class, null, name, args);
+    }
+
+    /**
+     * Calls the instance method on every element of the collection, which is
+     * identified by its name and the given arguments, collecting the returned
+     * values. The method is resolved only once, then the elements are processed
+     * in parallel, by the common fork-join pool. An exception thrown for an
+     * element does not stop the others, it is recorded in the returned result.
+     * @param targets The elements, which must be instances of the current type
+     * @param clazz The type of the return value
+     * @param name The name of the method
+     * @param args The arguments which will be used for every invocation
+     * @param <R> The generic type
+     * @return The result of the batch, with the values in the iteration order
+     */
+    public <R> BatchResult<R> map(final Collection<? extends T> targets, final Class<R> clazz, final String name, final Object... args) {
+        return map(ForkJoinPool.commonPool(), targets, clazz, name, args);
+    }
+
+    /**
+     * Calls the instance method on every element of the collection, which is
+     * identified by its name and the given arguments, collecting the returned
+     * values. The method is resolved only once, then the elements are split
+     * into ranges, processed by the given executor. An exception thrown for an
+     * element does not stop the others, it is recorded in the returned result.
+     * @param executor The executor processing the elements
+     * @param targets The elements, which must be instances of the current type
+     * @param clazz The type of the return value
+     * @param name The name of the method
+     * @param args The arguments which will be used for every invocation
+     * @param <R> The generic type
+     * @return The result of the batch, with the values in the iteration order
+     */
+    public <R> BatchResult<R> map(final Executor executor, final Collection<? extends T> targets, final Class<R> clazz, final String name, final Object... args) {
+        return batch(executor, targets, clazz, wrapper(clazz), name, args);
+    }
+
+    private <R> BatchResult<R> batch(final Executor executor, final Collection<? extends T> targets, final Class<?> returnType, final Class<?> resultType,
+                                     final String name, final Object... args) {
+        try {
+            final var methodHandle = Batches.findMethod(lookup, clazz, returnType, name, args);
+            final var elements = targets.toArray();
+            final var results = new Object[elements.length];
+            final var failures = new Throwable[elements.length];
+            Batches.invoke(executor, methodHandle, elements, args, resultType, results, failures);
+            return new BatchResult<>(results, failures);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
     private Object runOrCallMethod(final Class<?> returnType, final String name, final Object... args) throws Throwable {
         final var methodHandle = findMethod(returnType, name, args);
-        return methodHandle.invokeWithArguments(args);
+        return (Object) methodHandle.invokeExact(args);
     }
 
     private MethodHandle findMethod(final Class<?> returnType, final String name, final Object... args) throws Throwable {
         final var types = types(args);
+        try {
+            return HandleCache.findStatic(lookup, clazz, name, returnType, types, () -> resolveMethod(returnType, name, types));
+        } catch (final NoSuchMethodException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    private MethodHandle resolveMethod(final Class<?> returnType, final String name, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
         final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
         try {
-            return privateLookup.findStatic(clazz, name, methodType(returnType, types));
+            return Utils.spread(privateLookup.findStatic(clazz, name, methodType(returnType, types)), 0);
         } catch (final NoSuchMethodException e) {
-            try {
-                return similarMethod(lookup, name, types);
-            } catch (final NoSuchMethodException e1) {
-                throw new BeanMirrorException(e1);
-            }
+            return Utils.spread(similarMethod(lookup, name, types), 0);
         }
     }
 
     private MethodHandle similarMethod(final Lookup lookup, final String name, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
-        for (final var method : clazz.getMethods()) {
-            if (Modifier.isStatic(method.getModifiers()) && isSimilarSignature(method, name, types)) {
-                return lookup.unreflect(method);
-            }
-        }
-        throw new NoSuchMethodException("No similar method " + name + " with params " + Arrays.toString(types) + " could be found on type " + clazz + ".");
+        return MethodIndex.unreflect(lookup, MethodIndex.of(clazz).findStatic(name, types));
     }
 
     @Override
@@ -0,0 +1,23 @@
+package com.github.elopteryx.reflect;
+
+/**
+ * The depth of the copies made by a cloner, created
+ * by {@link ClassMirror#cloner(CloneDepth)}.
+ */
+public enum CloneDepth {
+
+    /**
+     * Only the cloned object is copied, its fields
+     * refer to the same objects as the original.
+     */
+    SHALLOW,
+
+    /**
+     * Every reachable object is copied, except the immutable ones, like
+     * strings, boxed primitives and enums. The platform collections and
+     * maps are copied with their copy constructors, other classes which
+     * cannot be accessed with the lookup cannot be copied. Shared and cyclic
+     * references are preserved, every object is copied only once.
+     */
+    DEEP
+}
@@ -0,0 +1,42 @@
+package com.github.elopteryx.reflect;
+
+/**
+ * Compares two instances of a type field by field, reporting the changed
+ * properties. Instances are created by {@link ClassMirror#differ()}, only
+ * once for the same type and lookup, so they can be shared between threads.
+ *
+ * <p>The properties are identified by the same indices as in the
+ * {@link BeanAccessor} of the type. The comparisons are compiled into a
+ * single method handle, primitive fields are compared without boxing and
+ * the values are only boxed for the changed properties. Fields are compared
+ * the same way as by the {@link Equivalence} of the type.</p>
+ * @param <T> The type of the compared objects
+ */
+public interface Differ<T> {
+
+    /**
+     * Compares the two objects, reporting every changed property to the
+     * sink, in the order of their indices. Nothing is compared if the two
+     * objects are the same instance.
+     * @param before The object before the change, cannot be null
+     * @param after The object after the change, cannot be null
+     * @param sink The sink receiving the changes
+     * @return The number of the changed properties
+     */
+    int diff(T before, T after, Sink sink);
+
+    /**
+     * Receives the changed properties found by a differ.
+     */
+    @FunctionalInterface
+    interface Sink {
+
+        /**
+         * Called for a changed property.
+         * @param index The index of the property
+         * @param before The value before the change
+         * @param after The value after the change
+         */
+        void changed(int index, Object before, Object after);
+    }
+}
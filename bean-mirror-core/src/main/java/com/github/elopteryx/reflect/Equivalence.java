@@ -0,0 +1,35 @@
+package com.github.elopteryx.reflect;
+
+/**
+ * Equality and hash code strategy for a type, compiled from a list of its
+ * fields. Instances are created by {@link ClassMirror#equivalence(String...)},
+ * only once for the same type, fields and lookup, so they can be shared
+ * between threads. It can be used to give value semantics to types which
+ * cannot be modified, for example as the strategy of a custom hash table.
+ *
+ * <p>Primitive fields are compared and hashed without boxing. Floating point
+ * fields are compared the same way as their wrapper types, so NaN equals itself
+ * and positive zero differs from negative zero. Reference fields are compared
+ * with their own equals method.</p>
+ * @param <T> The type of the compared objects
+ */
+public interface Equivalence<T> {
+
+    /**
+     * Returns whether the two objects are equal by the selected fields. Two
+     * nulls are equal, a null is not equal to any other object.
+     * @param first The first object
+     * @param second The second object
+     * @return True if every selected field is equal
+     */
+    boolean equivalent(T first, T second);
+
+    /**
+     * Returns the hash code of the object, computed from the selected fields,
+     * consistent with {@link #equivalent(Object, Object)}. The hash code of
+     * a null is zero.
+     * @param value The object
+     * @return The hash code
+     */
+    int hash(T value);
+}
@@ -0,0 +1,223 @@
+package com.github.elopteryx.reflect;
+
+import com.github.elopteryx.reflect.internal.Utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * A method based accessor. Works with a resolved method and
+ * provides arity specific invokers for it. The method handle is
+ * adapted only once, so the invocations do not allocate
+ * argument arrays, unlike the varargs based methods of the mirrors.
+ *
+ * <p>The target is the first parameter of each invoker. For static
+ * methods it is ignored and can be null. The primitive arguments and
+ * return values are boxed, a void method returns null.</p>
+ * @param <T> The type of the target
+ */
+public final class MethodMirror<T> {
+
+    /**
+     * The resolved method.
+     */
+    private final Method method;
+
+    /**
+     * The method handle, adapted to a type where
+     * every parameter and the return type is an Object.
+     */
+    private final MethodHandle invoker;
+
+    /**
+     * The method handle, adapted to take the target
+     * and an array of the arguments.
+     */
+    private final MethodHandle spreader;
+
+    MethodMirror(final Method method, final MethodHandle methodHandle) {
+        this.method = method;
+        final var handle = Modifier.isStatic(method.getModifiers())
+                ? MethodHandles.dropArguments(methodHandle.asFixedArity(), 0, Object.class)
+                : methodHandle.asFixedArity();
+        final var parameterCount = method.getParameterCount();
+        this.invoker = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+        this.spreader = Utils.spread(handle, 1);
+    }
+
+    /**
+     * Creates a new mirror for the method with the exact parameter types.
+     * @param lookup The lookup used for access check
+     * @param type The type to search
+     * @param specialCaller The type used for an invokespecial call, or null for a virtual call
+     * @param name The name of the method
+     * @param types The parameter types
+     * @param <T> The generic type
+     * @return A new mirror instance
+     */
+    static <T> MethodMirror<T> of(final Lookup lookup, final Class<?> type, final Class<?> specialCaller, final String name, final Class<?>... types) {
+        try {
+            final var method = resolve(type, name, types);
+            final MethodHandle methodHandle;
+            if (specialCaller == null || Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.privateLookupIn(method.getDeclaringClass(), lookup).unreflect(method);
+            } else {
+                methodHandle = MethodHandles.privateLookupIn(specialCaller, lookup).unreflectSpecial(method, specialCaller);
+            }
+            return new MethodMirror<>(method, methodHandle);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Resolves the method with the exact parameter types, declared by the
+     * type or one of its super types. Private methods of the super
+     * types are found as well.
+     * @param type The type to search
+     * @param name The name of the method
+     * @param types The parameter types
+     * @return The method
+     * @throws NoSuchMethodException If no such method exists
+     */
+    private static Method resolve(final Class<?> type, final String name, final Class<?>... types) throws NoSuchMethodException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredMethod(name, types);
+            } catch (final NoSuchMethodException expected) {
+                // Continue with the super type.
+            }
+        }
+        try {
+            return type.getMethod(name, types);
+        } catch (final NoSuchMethodException e) {
+            throw new NoSuchMethodException("No method " + name + " with params " + Arrays.toString(types) + " could be found on type " + type + ".");
+        }
+    }
+
+    /**
+     * Returns the resolved method.
+     * @return The method
+     */
+    public Method method() {
+        return method;
+    }
+
+    /**
+     * Returns the number of parameters of the method.
+     * @return The parameter count, without the target
+     */
+    public int parameterCount() {
+        return method.getParameterCount();
+    }
+
+    /**
+     * Invokes the method which has no parameters.
+     * @param target The target object
+     * @return The returned value
+     */
+    public Object invoke0(final T target) {
+        try {
+            return (Object) invoker.invokeExact((Object) target);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Invokes the method which has one parameter.
+     * @param target The target object
+     * @param arg0 The first argument
+     * @return The returned value
+     */
+    public Object invoke1(final T target, final Object arg0) {
+        try {
+            return (Object) invoker.invokeExact((Object) target, arg0);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Invokes the method which has two parameters.
+     * @param target The target object
+     * @param arg0 The first argument
+     * @param arg1 The second argument
+     * @return The returned value
+     */
+    public Object invoke2(final T target, final Object arg0, final Object arg1) {
+        try {
+            return (Object) invoker.invokeExact((Object) target, arg0, arg1);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Invokes the method which has three parameters.
+     * @param target The target object
+     * @param arg0 The first argument
+     * @param arg1 The second argument
+     * @param arg2 The third argument
+     * @return The returned value
+     */
+    public Object invoke3(final T target, final Object arg0, final Object arg1, final Object arg2) {
+        try {
+            return (Object) invoker.invokeExact((Object) target, arg0, arg1, arg2);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Invokes the method which has four parameters.
+     * @param target The target object
+     * @param arg0 The first argument
+     * @param arg1 The second argument
+     * @param arg2 The third argument
+     * @param arg3 The fourth argument
+     * @return The returned value
+     */
+    public Object invoke4(final T target, final Object arg0, final Object arg1, final Object arg2, final Object arg3) {
+        try {
+            return (Object) invoker.invokeExact((Object) target, arg0, arg1, arg2, arg3);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Invokes the method with any number of parameters. The
+     * arguments array is not copied.
+     * @param target The target object
+     * @param args The arguments, their number must match the parameter count
+     * @return The returned value
+     */
+    public Object invoke(final T target, final Object... args) {
+        try {
+            return (Object) spreader.invokeExact((Object) target, args);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return method.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof MethodMirror<?> mm && method.equals(mm.method);
+    }
+
+    @Override
+    public String toString() {
+        return method.toString();
+    }
+}
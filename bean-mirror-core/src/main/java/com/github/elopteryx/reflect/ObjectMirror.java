@@ -1,23 +1,38 @@
 package com.github.elopteryx.reflect;
 
-import static com.github.elopteryx.reflect.internal.Utils.isSimilarSignature;
 import static com.github.elopteryx.reflect.internal.Utils.types;
 import static com.github.elopteryx.reflect.internal.Utils.wrapper;
 
+import com.github.elopteryx.reflect.internal.Accumulators;
 import com.github.elopteryx.reflect.internal.Functional;
+import com.github.elopteryx.reflect.internal.HandleCache;
+import com.github.elopteryx.reflect.internal.MethodIndex;
+import com.github.elopteryx.reflect.internal.Utils;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * An object based accessor. Works with the
@@ -129,11 +144,149 @@ public final class ObjectMirror<T> {
         return new ObjectMirror<>(clazz.cast(result), null, lookup);
     }
 
+    /**
+     * Creates a new mirror instance, wrapping the array stored in the
+     * field, identified by its name. The field is read with its declared
+     * type, which does not have to be an array type, but the value must
+     * be a non-null array.
+     * @param name The name of the field
+     * @param <A> The type of the array
+     * @return A new mirror instance
+     */
+    @SuppressWarnings("unchecked")
+    public <A> ArrayMirror<A> array(final String name) {
+        final A array;
+        try {
+            array = (A) fieldHandle(name).get(object);
+        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+        Objects.requireNonNull(array, "Field: " + name);
+        return BeanMirror.ofArray(array);
+    }
+
+    /**
+     * Gets the value of the field, identified by its name, with volatile
+     * memory semantics, even if the field is not declared volatile.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return The value of the field
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R getVolatile(final String name, final Class<R> clazz) {
+        try {
+            final var field = Utils.instanceField(type(), name);
+            return (R) HandleCache.findVarHandle(lookup, field.getDeclaringClass(), name, clazz).getVolatile(object);
+        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Sets the value of the field, identified by its name, with release
+     * memory semantics, so the writes made before it are visible to a
+     * thread which reads the new value with {@link #getVolatile(String, Class)}.
+     * The field must not be final.
+     * @param name The name of the field
+     * @param value The new value
+     * @return The same mirror instance
+     */
+    public ObjectMirror<T> setRelease(final String name, final Object value) {
+        try {
+            writableFieldHandle(name).setRelease(object, value);
+            return this;
+        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Atomically sets the value of the field, identified by its name,
+     * if its current value is the expected one. Reference fields are
+     * compared by identity, primitive fields by their value. The field
+     * must not be final.
+     * @param name The name of the field
+     * @param expected The expected value
+     * @param newValue The new value
+     * @return True if the field was updated
+     */
+    public boolean compareAndSet(final String name, final Object expected, final Object newValue) {
+        try {
+            return writableFieldHandle(name).compareAndSet(object, expected, newValue);
+        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Atomically adds the given value to the numeric field, identified by its
+     * name. The addition uses the declared type of the field, which can be int,
+     * long, float or double, so the value can be given with any boxed type. For
+     * int and long fields the value must be an integer, which fits the field.
+     * The field must not be final.
+     * @param name The name of the field
+     * @param delta The value to add
+     * @return The previous value of the field, boxed with the wrapper of its type
+     */
+    public Number getAndAdd(final String name, final Number delta) {
+        Objects.requireNonNull(delta);
+        try {
+            final var varHandle = writableFieldHandle(name);
+            final var fieldType = varHandle.varType();
+            if (fieldType == double.class) {
+                return (double) varHandle.getAndAdd(object, delta.doubleValue());
+            } else if (fieldType == float.class) {
+                return (float) varHandle.getAndAdd(object, delta.floatValue());
+            } else if (fieldType != int.class && fieldType != long.class) {
+                throw new BeanMirrorException(new IllegalArgumentException("Property " + name + " with type " + fieldType + " is not numeric."));
+            }
+            if (!(delta instanceof Integer || delta instanceof Long || delta instanceof Short || delta instanceof Byte)
+                    || fieldType == int.class && (int) delta.longValue() != delta.longValue()) {
+                throw new BeanMirrorException(new IllegalArgumentException("Value " + delta + " cannot be added to the property " + name + " with type " + fieldType + "."));
+            }
+            return fieldType == int.class
+                    ? (Number) (int) varHandle.getAndAdd(object, delta.intValue())
+                    : (Number) (long) varHandle.getAndAdd(object, delta.longValue());
+        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Returns the var handle of the field, using its declared type. It is
+     * resolved from the declaring class, so the private fields of the
+     * super types can be accessed as well.
+     * @param name The name of the field
+     * @return The var handle
+     * @throws NoSuchFieldException If the field does not exist
+     * @throws IllegalAccessException If the field cannot be accessed
+     */
+    private VarHandle fieldHandle(final String name) throws NoSuchFieldException, IllegalAccessException {
+        final var field = Utils.instanceField(type(), name);
+        return HandleCache.findVarHandle(lookup, field.getDeclaringClass(), name, field.getType());
+    }
+
+    /**
+     * Returns the var handle of the field, using its declared type.
+     * The final fields are rejected, the same way as by the factory
+     * methods, since their var handles do not support writing.
+     * @param name The name of the field
+     * @return The var handle
+     * @throws NoSuchFieldException If the field does not exist
+     * @throws IllegalAccessException If the field cannot be accessed
+     */
+    private VarHandle writableFieldHandle(final String name) throws NoSuchFieldException, IllegalAccessException {
+        final var field = Utils.instanceField(type(), name);
+        if (Modifier.isFinal(field.getModifiers())) {
+            throw new BeanMirrorException(new IllegalArgumentException("Property " + name + " is final."));
+        }
+        return HandleCache.findVarHandle(lookup, field.getDeclaringClass(), name, field.getType());
+    }
+
     private Object getField(final String fieldName, final Class<?> fieldType) {
         try {
-            final var clazz = type();
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var varHandle = privateLookup.findVarHandle(clazz, fieldName, fieldType);
+            final var varHandle = HandleCache.findVarHandle(lookup, type(), fieldName, fieldType);
             return varHandle.get(object);
         } catch (final NoSuchFieldException | IllegalAccessException e) {
             throw new BeanMirrorException(e);
@@ -142,9 +295,7 @@ public final class ObjectMirror<T> {
 
     private void setField(final String name, final Object value) {
         try {
-            final var clazz = type();
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var handle = privateLookup.findVarHandle(clazz, name, value.getClass());
+            final var handle = HandleCache.findVarHandle(lookup, type(), name, value.getClass());
             handle.set(object, value);
         } catch (final NoSuchFieldException | IllegalAccessException e) {
             throw new BeanMirrorException(e);
@@ -211,6 +362,263 @@ public final class ObjectMirror<T> {
         return Functional.createStaticSetter(name, lookup, type, clazz);
     }
 
+    /**
+     * Creates a new function which can be used to get the value of
+     * field for the object given to the function. Works the same
+     * as {@link #createGetter(String, Class)}, but instead of a lambda
+     * a new hidden class is generated, which holds the field handle as
+     * a constant, allowing the JIT compiler to inline the access.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Function<T, R> createGeneratedGetter(final String name, final Class<R> clazz) {
+        final var type = type();
+        return Functional.generateGetter(name, lookup, (Class<T>) type, clazz);
+    }
+
+    /**
+     * Creates a new bi-consumer which can be used to set the value of
+     * field for the object given to the function. Works the same
+     * as {@link #createSetter(String, Class)}, but instead of a lambda
+     * a new hidden class is generated, which holds the field handle as
+     * a constant, allowing the JIT compiler to inline the access.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new BiConsumer
+     */
+    @SuppressWarnings("unchecked")
+    public <R> BiConsumer<T, R> createGeneratedSetter(final String name, final Class<R> clazz) {
+        final var type = type();
+        return Functional.generateSetter(name, lookup, (Class<T>) type, clazz);
+    }
+
+    /**
+     * Creates a new function which calls the getter method, identified
+     * by its name, on the object given to the function. The method must
+     * not have parameters and its return type must be the given class type.
+     * The function is generated by the lambda metafactory, the same way as
+     * a method reference, so the lookup must have private access to the type.
+     * @param name The name of the method
+     * @param clazz The return type of the method
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Function<T, R> createMethodGetter(final String name, final Class<R> clazz) {
+        final var type = type();
+        return Functional.generateMethodGetter(name, lookup, (Class<T>) type, clazz);
+    }
+
+    /**
+     * Creates a new bi-consumer which calls the setter method, identified
+     * by its name, on the object given to the function. The method must
+     * have a single parameter with the given class type, its return value
+     * is ignored. The function is generated by the lambda metafactory, the
+     * same way as a method reference, so the lookup must have private
+     * access to the type.
+     * @param name The name of the method
+     * @param clazz The parameter type of the method
+     * @param <R> The generic type
+     * @return A new BiConsumer
+     */
+    @SuppressWarnings("unchecked")
+    public <R> BiConsumer<T, R> createMethodSetter(final String name, final Class<R> clazz) {
+        final var type = type();
+        return Functional.generateMethodSetter(name, lookup, (Class<T>) type, clazz);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the int field for the object given to the function, without
+     * boxing it. The input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ToIntFunction
+     */
+    @SuppressWarnings("unchecked")
+    public ToIntFunction<T> createIntGetter(final String name) {
+        final var type = type();
+        return Functional.createIntGetter(name, lookup, (Class<T>) type);
+    }
+
+    /**
+     * Creates a new supplier which can be used to get the value of
+     * the static int field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new IntSupplier
+     */
+    public IntSupplier createStaticIntGetter(final String name) {
+        final var type = type();
+        return Functional.createStaticIntGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the int field for the object given to the function, without
+     * boxing it. The first input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ObjIntConsumer
+     */
+    @SuppressWarnings("unchecked")
+    public ObjIntConsumer<T> createIntSetter(final String name) {
+        final var type = type();
+        return Functional.createIntSetter(name, lookup, (Class<T>) type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the static int field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new IntConsumer
+     */
+    public IntConsumer createStaticIntSetter(final String name) {
+        final var type = type();
+        return Functional.createStaticIntSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the long field for the object given to the function, without
+     * boxing it. The input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ToLongFunction
+     */
+    @SuppressWarnings("unchecked")
+    public ToLongFunction<T> createLongGetter(final String name) {
+        final var type = type();
+        return Functional.createLongGetter(name, lookup, (Class<T>) type);
+    }
+
+    /**
+     * Creates a new supplier which can be used to get the value of
+     * the static long field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new LongSupplier
+     */
+    public LongSupplier createStaticLongGetter(final String name) {
+        final var type = type();
+        return Functional.createStaticLongGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the long field for the object given to the function, without
+     * boxing it. The first input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ObjLongConsumer
+     */
+    @SuppressWarnings("unchecked")
+    public ObjLongConsumer<T> createLongSetter(final String name) {
+        final var type = type();
+        return Functional.createLongSetter(name, lookup, (Class<T>) type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the static long field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new LongConsumer
+     */
+    public LongConsumer createStaticLongSetter(final String name) {
+        final var type = type();
+        return Functional.createStaticLongSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the double field for the object given to the function, without
+     * boxing it. The input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ToDoubleFunction
+     */
+    @SuppressWarnings("unchecked")
+    public ToDoubleFunction<T> createDoubleGetter(final String name) {
+        final var type = type();
+        return Functional.createDoubleGetter(name, lookup, (Class<T>) type);
+    }
+
+    /**
+     * Creates a new supplier which can be used to get the value of
+     * the static double field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new DoubleSupplier
+     */
+    public DoubleSupplier createStaticDoubleGetter(final String name) {
+        final var type = type();
+        return Functional.createStaticDoubleGetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the double field for the object given to the function, without
+     * boxing it. The first input type will be the same as the current type.
+     * @param name The name of the field
+     * @return A new ObjDoubleConsumer
+     */
+    @SuppressWarnings("unchecked")
+    public ObjDoubleConsumer<T> createDoubleSetter(final String name) {
+        final var type = type();
+        return Functional.createDoubleSetter(name, lookup, (Class<T>) type);
+    }
+
+    /**
+     * Creates a new consumer which can be used to set the value of
+     * the static double field for the current type, without boxing it.
+     * @param name The name of the field
+     * @return A new DoubleConsumer
+     */
+    public DoubleConsumer createStaticDoubleSetter(final String name) {
+        final var type = type();
+        return Functional.createStaticDoubleSetter(name, lookup, type);
+    }
+
+    /**
+     * Creates a new function which can be used to get the value of
+     * the field for the object given to the function, with volatile
+     * memory semantics. The input type will be the same as the current
+     * type, the output type will be the same as the given field class type.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Function<T, R> createVolatileGetter(final String name, final Class<R> clazz) {
+        final var type = type();
+        return Functional.createVolatileGetter(name, lookup, (Class<T>) type, clazz);
+    }
+
+    /**
+     * Creates a new updater which can be used to atomically compare and
+     * set the value of the field for the object given to it. The target
+     * type will be the same as the current type, the value type will be
+     * the same as the given field class type.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new CasUpdater
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CasUpdater<T, R> createCasUpdater(final String name, final Class<R> clazz) {
+        final var type = type();
+        return Functional.createCasUpdater(name, lookup, (Class<T>) type, clazz);
+    }
+
+    /**
+     * Creates a new accumulator for the long or int field of the current
+     * object, which buffers the increments in a striped adder and adds them
+     * to the field when it is flushed or read. Useful for counters on a
+     * shared object, which are incremented by many threads.
+     * @param name The name of the field
+     * @return A new Accumulator
+     */
+    public Accumulator createAccumulator(final String name) {
+        return Accumulators.createAccumulator(lookup, type(), object, name);
+    }
+
     // METHOD
 
     /**
@@ -255,56 +663,72 @@ public final class ObjectMirror<T> {
         }
     }
 
+    /**
+     * Returns a method mirror for the method of the current type, which is
+     * identified by its name and its exact parameter types. Unlike
+     * {@link #run(String, Object...)} and {@link #call(Class, String, Object...)}
+     * the method is resolved only once and it can be invoked on any
+     * instance, without allocating an array for the arguments.
+     * @param name The name of the method
+     * @param types The parameter types of the method
+     * @return A new method mirror
+     */
+    public MethodMirror<T> method(final String name, final Class<?>... types) {
+        return MethodMirror.of(lookup, type(), superType, name, types);
+    }
+
     private Object runOrCallMethod(final Class<?> returnType, final String name, final Object... args) throws Throwable {
         final var methodHandle = findMethod(returnType, name, args);
-        if (superType == null) {
-            final var targetWithArgs = new Object[args.length + 1];
-            targetWithArgs[0] = object;
-            System.arraycopy(args, 0, targetWithArgs, 1, args.length);
-            return methodHandle.invokeWithArguments(targetWithArgs);
-        } else {
-            return methodHandle.invokeWithArguments(args);
-        }
+        return (Object) methodHandle.invokeExact((Object) object, args);
     }
 
     private MethodHandle findMethod(final Class<?> returnType, final String name, final Object... args) throws Throwable {
         final var type = type();
         final var types = types(args);
+        try {
+            if (superType == null) {
+                return HandleCache.findVirtual(lookup, type, name, returnType, types, () -> resolveMethod(type, returnType, name, types));
+            } else {
+                return HandleCache.findSpecial(lookup, type, name, returnType, types, () -> resolveMethod(type, returnType, name, types));
+            }
+        } catch (final NoSuchMethodException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Resolves the method handle, used if it is not cached yet. The
+     * returned handle is not bound to the current value, so it can be
+     * reused for every instance of the same type. It is adapted to take
+     * the receiver and the arguments array, see {@link Utils#spread(MethodHandle, int)}.
+     * @param type The type used for the lookup
+     * @param returnType The requested return type
+     * @param name The name of the method
+     * @param types The argument types
+     * @return The method handle, with the (Object,Object[])Object type
+     * @throws NoSuchMethodException If no matching method is found
+     * @throws IllegalAccessException If the method cannot be accessed
+     */
+    private MethodHandle resolveMethod(final Class<?> type, final Class<?> returnType, final String name, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
         final var privateLookup = MethodHandles.privateLookupIn(type, lookup);
         try {
             if (superType == null) {
-                return privateLookup.findVirtual(type, name, MethodType.methodType(returnType, types));
+                return Utils.spread(privateLookup.findVirtual(type, name, MethodType.methodType(returnType, types)), 1);
             } else {
                 final var method = similarMethod(name, types);
-                return privateLookup.unreflectSpecial(method, type).bindTo(object);
+                return Utils.spread(privateLookup.unreflectSpecial(method, type), 1);
             }
         } catch (final NoSuchMethodException e) {
-            try {
-                return similarMethodHandle(lookup, name, types);
-            } catch (final NoSuchMethodException e1) {
-                throw new BeanMirrorException(e1);
-            }
+            return Utils.spread(similarMethodHandle(lookup, name, types), 1);
         }
     }
 
     private MethodHandle similarMethodHandle(final Lookup lookup, final String name, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
-        return lookup.unreflect(similarMethod(name, types));
+        return MethodIndex.unreflect(lookup, similarMethod(name, types));
     }
 
     private Method similarMethod(final String name, final Class<?>... types) throws NoSuchMethodException {
-        final var type = type();
-
-        for (final var method : type.getMethods()) {
-            if (!Modifier.isStatic(method.getModifiers()) && isSimilarSignature(method, name, types)) {
-                return method;
-            }
-        }
-        for (final var method : type.getDeclaredMethods()) {
-            if (!Modifier.isStatic(method.getModifiers()) && isSimilarSignature(method, name, types)) {
-                return method;
-            }
-        }
-        throw new NoSuchMethodException("No similar method " + name + " with params " + Arrays.toString(types) + " could be found on type " + type() + ".");
+        return MethodIndex.of(type()).findVirtual(name, types);
     }
 
     @Override
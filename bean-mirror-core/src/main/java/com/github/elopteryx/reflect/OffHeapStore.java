@@ -0,0 +1,159 @@
+package com.github.elopteryx.reflect;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fixed size table of beans, stored off-heap in a memory-mapped file,
+ * created by {@link ClassMirror#offHeapStore(java.nio.file.Path, long)}.
+ * Every row holds the primitive instance fields of a bean, in the same
+ * layout as the fixed section of the {@link BinaryCodec}, padded to the
+ * size of its widest field. The rows follow a small header, holding the
+ * row size and the fingerprint of the layout, which is checked when the
+ * file is reopened. The file is divided into mapped segments, so the store
+ * can be larger than two gigabytes.
+ *
+ * <p>The rows can be copied from and to beans, or accessed in place through
+ * a {@link Row}, a reusable flyweight, which can be moved to any row. The
+ * getters and setters have the same shapes as the ones created by
+ * {@link ClassMirror#createGetter(String, Class)} and the related methods,
+ * taking the row instead of the bean, so the same code can work with both.</p>
+ *
+ * <p>The store does not synchronize the access to the rows. The data is
+ * written to the file by the operating system, {@link #flush()} forces it
+ * to the storage device. The mapping stays valid until it is garbage
+ * collected, even after the store is closed.</p>
+ * @param <T> The type of the beans
+ */
+public interface OffHeapStore<T> extends AutoCloseable {
+
+    /**
+     * Returns the number of the rows.
+     * @return The capacity
+     */
+    long capacity();
+
+    /**
+     * Returns the size of a row in bytes.
+     * @return The row size
+     */
+    int rowSize();
+
+    /**
+     * Creates a new flyweight, positioned at the given row.
+     * @param index The index of the row
+     * @return A new Row
+     */
+    Row row(long index);
+
+    /**
+     * Copies the fields of the bean into the row.
+     * @param index The index of the row
+     * @param value The bean
+     */
+    void write(long index, T value);
+
+    /**
+     * Creates a new bean from the row.
+     * @param index The index of the row
+     * @return A new bean
+     */
+    T read(long index);
+
+    /**
+     * Creates a new getter, reading the field from the current row of the flyweight.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new Function
+     */
+    <R> Function<Row, R> createGetter(String name, Class<R> clazz);
+
+    /**
+     * Creates a new setter, writing the field into the current row of the flyweight.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new BiConsumer
+     */
+    <R> BiConsumer<Row, R> createSetter(String name, Class<R> clazz);
+
+    /**
+     * Creates a new getter for the int field. The value is not boxed.
+     * @param name The name of the field
+     * @return A new ToIntFunction
+     */
+    ToIntFunction<Row> createIntGetter(String name);
+
+    /**
+     * Creates a new setter for the int field. The value is not boxed.
+     * @param name The name of the field
+     * @return A new ObjIntConsumer
+     */
+    ObjIntConsumer<Row> createIntSetter(String name);
+
+    /**
+     * Creates a new getter for the long field. The value is not boxed.
+     * @param name The name of the field
+     * @return A new ToLongFunction
+     */
+    ToLongFunction<Row> createLongGetter(String name);
+
+    /**
+     * Creates a new setter for the long field. The value is not boxed.
+     * @param name The name of the field
+     * @return A new ObjLongConsumer
+     */
+    ObjLongConsumer<Row> createLongSetter(String name);
+
+    /**
+     * Creates a new getter for the double field. The value is not boxed.
+     * @param name The name of the field
+     * @return A new ToDoubleFunction
+     */
+    ToDoubleFunction<Row> createDoubleGetter(String name);
+
+    /**
+     * Creates a new setter for the double field. The value is not boxed.
+     * @param name The name of the field
+     * @return A new ObjDoubleConsumer
+     */
+    ObjDoubleConsumer<Row> createDoubleSetter(String name);
+
+    /**
+     * Forces the changes of the rows to the storage device.
+     */
+    void flush();
+
+    /**
+     * Flushes the changes, then closes the file.
+     */
+    @Override
+    void close();
+
+    /**
+     * Reusable flyweight, pointing to a row of the store. It is not
+     * thread-safe, every thread should use its own instance.
+     */
+    interface Row {
+
+        /**
+         * Returns the index of the current row.
+         * @return The index
+         */
+        long index();
+
+        /**
+         * Moves the flyweight to the given row.
+         * @param index The index of the row
+         * @return The same flyweight
+         */
+        Row moveTo(long index);
+    }
+}
@@ -0,0 +1,307 @@
+package com.github.elopteryx.reflect;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.internal.Accessors;
+import com.github.elopteryx.reflect.internal.HandleCache;
+import com.github.elopteryx.reflect.internal.Utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Indexed accessor for the components of a record type. Instances
+ * are created by {@link ClassMirror#recordAccessor()}, only once for
+ * the same type and lookup, so they can be shared between threads.
+ *
+ * <p>The components are identified by their index, which follows their
+ * declaration order, the same as the order of the canonical constructor
+ * parameters. The getters are backed by the {@link BeanAccessor} of the
+ * type, so they behave the same way. The canonical constructor is resolved
+ * only once, and a separate method handle is compiled for each component,
+ * which copies a record with that component changed.</p>
+ *
+ * <p>The errors thrown by the constructor, or by an invalid argument
+ * passed to it, are wrapped into a {@link BeanMirrorException}.</p>
+ * @param <T> The type of the record
+ */
+public final class RecordAccessor<T> {
+
+    /**
+     * The record type.
+     */
+    private final Class<T> type;
+
+    /**
+     * The accessor used for the getters.
+     */
+    private final BeanAccessor<T> accessor;
+
+    /**
+     * The canonical constructor, adapted to take an array of the arguments.
+     */
+    private final MethodHandle factory;
+
+    /**
+     * The canonical constructor, adapted to take the primitive
+     * and the reference arguments in two separate arrays.
+     */
+    private final MethodHandle slotFactory;
+
+    /**
+     * The copy methods, one for each component, with the (Object,Object)Object type.
+     */
+    private final MethodHandle[] withers;
+
+    private RecordAccessor(final Class<T> type, final BeanAccessor<T> accessor, final MethodHandle factory, final MethodHandle slotFactory, final MethodHandle[] withers) {
+        this.type = type;
+        this.accessor = accessor;
+        this.factory = factory;
+        this.slotFactory = slotFactory;
+        this.withers = withers;
+    }
+
+    /**
+     * Returns the record accessor for the given type, creating it
+     * if it was not created before for the same lookup.
+     * @param lookup The lookup used for access check
+     * @param type The record type
+     * @param <T> The generic type
+     * @return The record accessor
+     */
+    static <T> RecordAccessor<T> of(final Lookup lookup, final Class<T> type) {
+        if (!type.isRecord()) {
+            throw new BeanMirrorException(new IllegalArgumentException(type + " is not a record."));
+        }
+        return HandleCache.computeIfAbsent(lookup, type, RecordAccessor.class, () -> create(lookup, type));
+    }
+
+    private static <T> RecordAccessor<T> create(final Lookup lookup, final Class<T> type) {
+        try {
+            final var privateLookup = MethodHandles.privateLookupIn(type, lookup);
+            final var components = type.getRecordComponents();
+            final var types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            final var constructor = privateLookup.findConstructor(type, methodType(void.class, types));
+            final var withers = new MethodHandle[components.length];
+            for (var i = 0; i < components.length; i++) {
+                withers[i] = wither(privateLookup, components, constructor, i);
+            }
+            return new RecordAccessor<>(type, Accessors.accessor(lookup, type), Utils.spread(constructor, 0), slotFactory(constructor), withers);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Adapts the constructor to take the primitive and the reference
+     * arguments from two arrays, as described in {@link #create(long[], Object[])}.
+     * @param constructor The canonical constructor
+     * @return The method handle, with the (long[],Object[])Object type
+     * @throws ReflectiveOperationException If the conversions cannot be found
+     */
+    private static MethodHandle slotFactory(final MethodHandle constructor) throws ReflectiveOperationException {
+        final var types = constructor.type().parameterArray();
+        final var filters = new MethodHandle[types.length];
+        final var reorder = new int[types.length];
+        var primitiveSlot = 0;
+        var referenceSlot = 0;
+        for (var i = 0; i < types.length; i++) {
+            if (types[i].isPrimitive()) {
+                final var element = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(long[].class), 1, primitiveSlot++);
+                filters[i] = MethodHandles.filterReturnValue(element, fromSlot(types[i]));
+                reorder[i] = 0;
+            } else {
+                final var element = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, referenceSlot++);
+                filters[i] = element.asType(methodType(types[i], Object[].class));
+                reorder[i] = 1;
+            }
+        }
+        final var filtered = MethodHandles.filterArguments(constructor, 0, filters);
+        return MethodHandles.permuteArguments(filtered, methodType(filtered.type().returnType(), long[].class, Object[].class), reorder)
+                .asType(methodType(Object.class, long[].class, Object[].class));
+    }
+
+    /**
+     * Creates the conversion from a long slot to the given primitive type.
+     * @param type The primitive type
+     * @return The method handle, with the (long)type type
+     * @throws ReflectiveOperationException If the conversion cannot be found
+     */
+    private static MethodHandle fromSlot(final Class<?> type) throws ReflectiveOperationException {
+        final var lookup = MethodHandles.lookup();
+        if (type == double.class) {
+            return lookup.findStatic(Double.class, "longBitsToDouble", methodType(double.class, long.class));
+        } else if (type == float.class) {
+            final var intBitsToFloat = lookup.findStatic(Float.class, "intBitsToFloat", methodType(float.class, int.class));
+            return MethodHandles.explicitCastArguments(intBitsToFloat, methodType(float.class, long.class));
+        } else if (type == boolean.class) {
+            return lookup.findStatic(RecordAccessor.class, "isNotZero", methodType(boolean.class, long.class));
+        }
+        return MethodHandles.explicitCastArguments(MethodHandles.identity(long.class), methodType(type, long.class));
+    }
+
+    private static boolean isNotZero(final long value) {
+        return value != 0;
+    }
+
+    /**
+     * Creates a method handle, which calls the canonical constructor with the
+     * components of the given record, except one, which is replaced.
+     * @param lookup The lookup used for the accessor methods
+     * @param components The record components
+     * @param constructor The canonical constructor
+     * @param index The index of the replaced component
+     * @return The method handle, with the (Object,Object)Object type
+     * @throws IllegalAccessException If an accessor method cannot be accessed
+     */
+    private static MethodHandle wither(final Lookup lookup, final RecordComponent[] components, final MethodHandle constructor, final int index)
+            throws IllegalAccessException {
+        final var recordType = constructor.type().returnType();
+        final var valueType = components[index].getType();
+        final var filters = new MethodHandle[components.length];
+        final var reorder = new int[components.length];
+        for (var i = 0; i < components.length; i++) {
+            if (i != index) {
+                filters[i] = lookup.unreflect(components[i].getAccessor());
+            }
+            reorder[i] = i == index ? 1 : 0;
+        }
+        final var filtered = MethodHandles.filterArguments(constructor, 0, filters);
+        return MethodHandles.permuteArguments(filtered, methodType(recordType, recordType, valueType), reorder)
+                .asType(methodType(Object.class, Object.class, Object.class));
+    }
+
+    /**
+     * Returns the number of the components.
+     * @return The number of components
+     */
+    public int size() {
+        return withers.length;
+    }
+
+    /**
+     * Returns the name of the component.
+     * @param index The index of the component
+     * @return The name of the component
+     */
+    public String name(final int index) {
+        return accessor.name(index);
+    }
+
+    /**
+     * Returns the type of the component.
+     * @param index The index of the component
+     * @return The type of the component
+     */
+    public Class<?> type(final int index) {
+        return accessor.type(index);
+    }
+
+    /**
+     * Returns the index of the component, identified by its name.
+     * @param name The name of the component
+     * @return The index of the component, or -1 if there is no such component
+     */
+    public int indexOf(final String name) {
+        return accessor.indexOf(name);
+    }
+
+    /**
+     * Returns the value of the component, primitive values are boxed.
+     * @param target The record
+     * @param index The index of the component
+     * @return The value of the component
+     */
+    public Object get(final T target, final int index) {
+        return accessor.get(target, index);
+    }
+
+    /**
+     * Returns the value of the component, without boxing.
+     * @param target The record
+     * @param index The index of the component
+     * @return The value of the component
+     */
+    public int getInt(final T target, final int index) {
+        return accessor.getInt(target, index);
+    }
+
+    /**
+     * Returns the value of the component, without boxing.
+     * @param target The record
+     * @param index The index of the component
+     * @return The value of the component
+     */
+    public long getLong(final T target, final int index) {
+        return accessor.getLong(target, index);
+    }
+
+    /**
+     * Returns the value of the component, without boxing.
+     * @param target The record
+     * @param index The index of the component
+     * @return The value of the component
+     */
+    public double getDouble(final T target, final int index) {
+        return accessor.getDouble(target, index);
+    }
+
+    /**
+     * Creates a new record with the canonical constructor. The
+     * arguments array is not copied.
+     * @param args The values of the components, in declaration order
+     * @return The new record
+     */
+    public T create(final Object... args) {
+        try {
+            return type.cast((Object) factory.invokeExact(args));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Creates a new record with the canonical constructor, without boxing
+     * the primitive components. The primitive components are read from the
+     * first array, the other components from the second array, both in
+     * declaration order. A double is stored with its raw long bits, a float
+     * with its raw int bits, a boolean is true for a non-zero value, the
+     * other primitives are narrowed from the long value.
+     * @param primitives The values of the primitive components
+     * @param references The values of the other components
+     * @return The new record
+     */
+    public T create(final long[] primitives, final Object[] references) {
+        try {
+            return type.cast((Object) slotFactory.invokeExact(primitives, references));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Creates a copy of the record with the canonical constructor, using the
+     * values of the given record, except for the component with the given index.
+     * @param target The record to copy
+     * @param index The index of the component to change
+     * @param value The new value of the component
+     * @return The new record
+     */
+    public T with(final T target, final int index, final Object value) {
+        final var wither = withers[Objects.checkIndex(index, withers.length)];
+        try {
+            return type.cast((Object) wither.invokeExact((Object) target, value));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RecordAccessor[" + type.getName() + "]";
+    }
+}
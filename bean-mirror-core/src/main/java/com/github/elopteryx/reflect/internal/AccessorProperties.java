@@ -0,0 +1,12 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The metadata of the properties of a generated bean accessor.
+ * @param names The names of the fields
+ * @param types The types of the fields
+ * @param indices The index of each name, for shadowed names the most specific one
+ */
+record AccessorProperties(List<String> names, List<Class<?>> types, Map<String, Integer> indices) {}
@@ -0,0 +1,153 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanAccessor;
+import com.github.elopteryx.reflect.BeanMirrorException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the bean accessors. Every property is dispatched through a
+ * table switch, one for each access kind, so a single generated class
+ * covers all the fields of a type.
+ */
+public final class Accessors {
+
+    private static final MethodHandle OUT_OF_RANGE;
+
+    private static final MethodHandle UNSUPPORTED;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            OUT_OF_RANGE = lookup.findStatic(Accessors.class, "outOfRange", methodType(Object.class, int.class));
+            UNSUPPORTED = lookup.findStatic(Accessors.class, "unsupported", methodType(Object.class, String.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Accessors() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the bean accessor for the given type, generating it
+     * if it was not created before for the same lookup.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return The bean accessor
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanAccessor<T> accessor(final Lookup lookup, final Class<T> targetType) {
+        return HandleCache.computeIfAbsent(lookup, targetType, BeanAccessor.class, () -> (BeanAccessor<T>) createAccessor(lookup, targetType));
+    }
+
+    private static BeanAccessor<?> createAccessor(final Lookup lookup, final Class<?> targetType) {
+        try {
+            final var fields = Utils.instanceFields(targetType);
+            final var names = new ArrayList<String>(fields.size());
+            final var types = new ArrayList<Class<?>>(fields.size());
+            final var indices = new HashMap<String, Integer>();
+            final var getters = new ArrayList<MethodHandle>(fields.size());
+            final var setters = new ArrayList<MethodHandle>(fields.size());
+            for (final var field : fields) {
+                final var privateLookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup);
+                indices.put(field.getName(), names.size());
+                names.add(field.getName());
+                types.add(field.getType());
+                getters.add(privateLookup.unreflectGetter(field));
+                setters.add(Modifier.isFinal(field.getModifiers()) ? null : privateLookup.unreflectSetter(field));
+            }
+            final var properties = new AccessorProperties(List.copyOf(names), List.copyOf(types), Map.copyOf(indices));
+            final var classData = List.of(
+                    properties,
+                    table(fields, getters, methodType(Object.class, Object.class), false),
+                    table(fields, setters, methodType(void.class, Object.class, Object.class), false),
+                    table(fields, getters, methodType(int.class, Object.class), true),
+                    table(fields, setters, methodType(void.class, Object.class, int.class), true),
+                    table(fields, getters, methodType(long.class, Object.class), true),
+                    table(fields, setters, methodType(void.class, Object.class, long.class), true),
+                    table(fields, getters, methodType(double.class, Object.class), true),
+                    table(fields, setters, methodType(void.class, Object.class, double.class), true));
+            return (BeanAccessor<?>) ClassGenerator.defineFromTemplate(GeneratedBeanAccessor.class, classData);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Creates a table switch from the handles, taking the index
+     * as the first parameter. Handles which cannot be adapted to
+     * the given type are replaced by ones throwing an error.
+     * @param fields The fields
+     * @param handles The handles for the fields, null if not allowed
+     * @param type The common type of the handles, without the index
+     * @param primitiveOnly Whether only primitive fields can be adapted
+     * @return The table switch handle
+     */
+    private static MethodHandle table(final List<Field> fields, final List<MethodHandle> handles, final MethodType type, final boolean primitiveOnly) {
+        final var tableType = type.insertParameterTypes(0, int.class);
+        final var fallback = MethodHandles.dropArguments(OUT_OF_RANGE, 1, type.parameterList()).asType(tableType);
+        if (fields.isEmpty()) {
+            return fallback;
+        }
+        final var targets = new MethodHandle[fields.size()];
+        for (var i = 0; i < targets.length; i++) {
+            final var field = fields.get(i);
+            targets[i] = MethodHandles.dropArguments(adapt(field, handles.get(i), type, primitiveOnly), 0, int.class);
+        }
+        return MethodHandles.tableSwitch(fallback, targets);
+    }
+
+    /**
+     * Adapts the handle of the field to the given type. If the field is
+     * final, or it cannot be converted, the returned handle throws an
+     * {@link IllegalArgumentException} instead.
+     * @param field The field
+     * @param handle The getter or setter handle, null if not allowed
+     * @param type The requested type
+     * @param primitiveOnly Whether only primitive fields can be adapted
+     * @return The adapted handle
+     */
+    static MethodHandle adapt(final Field field, final MethodHandle handle, final MethodType type, final boolean primitiveOnly) {
+        if (handle == null) {
+            return thrower("Property " + field.getName() + " is final.", type);
+        }
+        if (primitiveOnly && !field.getType().isPrimitive()) {
+            return thrower("Property " + field.getName() + " is not a primitive.", type);
+        }
+        try {
+            return handle.asType(type);
+        } catch (final WrongMethodTypeException e) {
+            return thrower("Property " + field.getName() + " with type " + field.getType() + " cannot be converted to " + type + ".", type);
+        }
+    }
+
+    private static MethodHandle thrower(final String message, final MethodType type) {
+        return MethodHandles.dropArguments(MethodHandles.insertArguments(UNSUPPORTED, 0, message), 0, type.parameterList()).asType(type);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object outOfRange(final int index) {
+        throw new IndexOutOfBoundsException(index);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object unsupported(final String message) {
+        throw new IllegalArgumentException(message);
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.Accumulator;
+import com.github.elopteryx.reflect.BeanMirrorException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates the accumulators for the numeric fields. The increments are
+ * buffered in a {@link LongAdder}, which is drained with a single atomic
+ * add on the var handle of the field. The access modes of the var handle
+ * are converted to method handles, bound to the target object, so the
+ * same implementation is used for the static and the instance fields.
+ */
+public final class Accumulators {
+
+    private Accumulators() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the accumulator for the static field, creating it if it
+     * was not created before for the same lookup, so the increments
+     * from every caller are buffered together.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param name The name of the field
+     * @return The accumulator
+     */
+    public static Accumulator createStaticAccumulator(final Lookup lookup, final Class<?> targetType, final String name) {
+        return HandleCache.computeIfAbsent(lookup, targetType, new AccumulatorKey(name), () -> {
+            try {
+                final var field = targetType.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    throw new IllegalArgumentException("Property " + name + " is not static.");
+                }
+                final var varHandle = HandleCache.findStaticVarHandle(lookup, targetType, name, checkType(field));
+                return create(varHandle, null);
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        });
+    }
+
+    /**
+     * Creates an accumulator for the instance field of the given object.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type used for the lookup
+     * @param target The object holding the field
+     * @param name The name of the field
+     * @return The accumulator
+     */
+    public static Accumulator createAccumulator(final Lookup lookup, final Class<?> targetType, final Object target, final String name) {
+        try {
+            final var field = Utils.instanceField(targetType, name);
+            final var varHandle = HandleCache.findVarHandle(lookup, field.getDeclaringClass(), name, checkType(field));
+            return create(varHandle, target);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    private static Class<?> checkType(final Field field) {
+        final var type = field.getType();
+        if (type != long.class && type != int.class) {
+            throw new IllegalArgumentException("Property " + field.getName() + " with type " + type + " is not a long or an int.");
+        }
+        if (Modifier.isFinal(field.getModifiers())) {
+            throw new IllegalArgumentException("Property " + field.getName() + " is final.");
+        }
+        return type;
+    }
+
+    private static Accumulator create(final VarHandle varHandle, final Object target) {
+        var getAndAdd = varHandle.toMethodHandle(AccessMode.GET_AND_ADD);
+        var getVolatile = varHandle.toMethodHandle(AccessMode.GET_VOLATILE);
+        if (target != null) {
+            getAndAdd = getAndAdd.bindTo(target);
+            getVolatile = getVolatile.bindTo(target);
+        }
+        // For int fields the delta is narrowed to its lower 32 bits, which gives
+        // the same wrapped result as adding the increments one by one.
+        return new StripedAccumulator(
+                MethodHandles.explicitCastArguments(getAndAdd, methodType(long.class, long.class)),
+                MethodHandles.explicitCastArguments(getVolatile, methodType(long.class)),
+                varHandle.varType() == int.class);
+    }
+
+    /**
+     * The accumulator, buffering the increments in a striped adder.
+     */
+    private static final class StripedAccumulator implements Accumulator {
+
+        private final LongAdder adder = new LongAdder();
+
+        /**
+         * Adds to the field and returns its previous value, with the (long)long type.
+         */
+        private final MethodHandle getAndAdd;
+
+        /**
+         * Reads the field, with the ()long type.
+         */
+        private final MethodHandle getVolatile;
+
+        /**
+         * Whether the field is an int, so the sum must wrap around.
+         */
+        private final boolean intField;
+
+        private StripedAccumulator(final MethodHandle getAndAdd, final MethodHandle getVolatile, final boolean intField) {
+            this.getAndAdd = getAndAdd;
+            this.getVolatile = getVolatile;
+            this.intField = intField;
+        }
+
+        @Override
+        public void add(final long delta) {
+            adder.add(delta);
+        }
+
+        @Override
+        public long pending() {
+            return adder.sum();
+        }
+
+        @Override
+        public long flush() {
+            try {
+                final var delta = adder.sumThenReset();
+                if (delta == 0L) {
+                    return (long) getVolatile.invokeExact();
+                }
+                final var sum = (long) getAndAdd.invokeExact(delta) + delta;
+                return intField ? (int) sum : sum;
+            } catch (final Throwable throwable) {
+                throw ClassGenerator.rethrow(throwable);
+            }
+        }
+    }
+
+    private record AccumulatorKey(String name) {}
+}
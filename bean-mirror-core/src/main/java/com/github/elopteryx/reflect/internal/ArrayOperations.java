@@ -0,0 +1,279 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Operations on arrays of unknown type, without {@link java.lang.reflect.Array}.
+ * The element var handles are created once for every array type, the bulk
+ * operations are dispatched to the matching methods of {@link Arrays}, so
+ * the primitive elements are never boxed.
+ */
+public final class ArrayOperations {
+
+    /**
+     * The element var handles for the array types. The array
+     * types can always be accessed, so they are not tied to a lookup.
+     */
+    private static final ClassValue<VarHandle> ELEMENT_HANDLES = new ClassValue<>() {
+        @Override
+        protected VarHandle computeValue(final Class<?> type) {
+            return MethodHandles.arrayElementVarHandle(type);
+        }
+    };
+
+    /**
+     * Compares the reference elements by their natural
+     * order, with the null elements ordered first.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER = Comparator.nullsFirst((first, second) -> ((Comparable) first).compareTo(second));
+
+    private ArrayOperations() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the var handle for the elements of the given array type,
+     * with the (array, int) coordinates.
+     * @param arrayType The array type
+     * @return The var handle
+     */
+    public static VarHandle elementHandle(final Class<?> arrayType) {
+        if (!arrayType.isArray()) {
+            throw new IllegalArgumentException("Not an array: " + arrayType);
+        }
+        return ELEMENT_HANDLES.get(arrayType);
+    }
+
+    /**
+     * Returns the length of the array.
+     * @param array The array
+     * @return The length
+     */
+    public static int length(final Object array) {
+        if (array instanceof Object[] objects) {
+            return objects.length;
+        } else if (array instanceof int[] ints) {
+            return ints.length;
+        } else if (array instanceof long[] longs) {
+            return longs.length;
+        } else if (array instanceof double[] doubles) {
+            return doubles.length;
+        } else if (array instanceof byte[] bytes) {
+            return bytes.length;
+        } else if (array instanceof char[] chars) {
+            return chars.length;
+        } else if (array instanceof boolean[] booleans) {
+            return booleans.length;
+        } else if (array instanceof short[] shorts) {
+            return shorts.length;
+        } else if (array instanceof float[] floats) {
+            return floats.length;
+        }
+        throw notAnArray(array);
+    }
+
+    /**
+     * Assigns the value to the elements in the given range.
+     * The value is unboxed only once for primitive arrays.
+     * @param array The array
+     * @param from The first index, inclusive
+     * @param to The last index, exclusive
+     * @param value The value
+     */
+    public static void fill(final Object array, final int from, final int to, final Object value) {
+        if (array instanceof Object[] objects) {
+            Arrays.fill(objects, from, to, value);
+        } else if (array instanceof int[] ints) {
+            Arrays.fill(ints, from, to, (int) value);
+        } else if (array instanceof long[] longs) {
+            Arrays.fill(longs, from, to, (long) value);
+        } else if (array instanceof double[] doubles) {
+            Arrays.fill(doubles, from, to, (double) value);
+        } else if (array instanceof byte[] bytes) {
+            Arrays.fill(bytes, from, to, (byte) value);
+        } else if (array instanceof char[] chars) {
+            Arrays.fill(chars, from, to, (char) value);
+        } else if (array instanceof boolean[] booleans) {
+            Arrays.fill(booleans, from, to, (boolean) value);
+        } else if (array instanceof short[] shorts) {
+            Arrays.fill(shorts, from, to, (short) value);
+        } else if (array instanceof float[] floats) {
+            Arrays.fill(floats, from, to, (float) value);
+        } else {
+            throw notAnArray(array);
+        }
+    }
+
+    /**
+     * Copies the array, truncating or padding it to the new length.
+     * The copy has the same type as the original.
+     * @param array The array
+     * @param newLength The length of the copy
+     * @return The copy
+     */
+    public static Object copyOf(final Object array, final int newLength) {
+        if (array instanceof Object[] objects) {
+            return Arrays.copyOf(objects, newLength);
+        } else if (array instanceof int[] ints) {
+            return Arrays.copyOf(ints, newLength);
+        } else if (array instanceof long[] longs) {
+            return Arrays.copyOf(longs, newLength);
+        } else if (array instanceof double[] doubles) {
+            return Arrays.copyOf(doubles, newLength);
+        } else if (array instanceof byte[] bytes) {
+            return Arrays.copyOf(bytes, newLength);
+        } else if (array instanceof char[] chars) {
+            return Arrays.copyOf(chars, newLength);
+        } else if (array instanceof boolean[] booleans) {
+            return Arrays.copyOf(booleans, newLength);
+        } else if (array instanceof short[] shorts) {
+            return Arrays.copyOf(shorts, newLength);
+        } else if (array instanceof float[] floats) {
+            return Arrays.copyOf(floats, newLength);
+        }
+        throw notAnArray(array);
+    }
+
+    /**
+     * Returns whether the arrays have the same type and equal elements.
+     * Reference elements are compared with their equals method.
+     * @param first The first array
+     * @param second The second array
+     * @return True if the arrays are equal
+     */
+    public static boolean equals(final Object first, final Object second) {
+        if (first == second) {
+            return true;
+        }
+        if (second == null || first.getClass() != second.getClass()) {
+            return false;
+        }
+        if (first instanceof Object[] objects) {
+            return Arrays.equals(objects, (Object[]) second);
+        } else if (first instanceof int[] ints) {
+            return Arrays.equals(ints, (int[]) second);
+        } else if (first instanceof long[] longs) {
+            return Arrays.equals(longs, (long[]) second);
+        } else if (first instanceof double[] doubles) {
+            return Arrays.equals(doubles, (double[]) second);
+        } else if (first instanceof byte[] bytes) {
+            return Arrays.equals(bytes, (byte[]) second);
+        } else if (first instanceof char[] chars) {
+            return Arrays.equals(chars, (char[]) second);
+        } else if (first instanceof boolean[] booleans) {
+            return Arrays.equals(booleans, (boolean[]) second);
+        } else if (first instanceof short[] shorts) {
+            return Arrays.equals(shorts, (short[]) second);
+        } else if (first instanceof float[] floats) {
+            return Arrays.equals(floats, (float[]) second);
+        }
+        throw notAnArray(first);
+    }
+
+    /**
+     * Returns the index of the first element, which differs in
+     * the arrays, or -1 if there is none. The arrays must have
+     * the same type.
+     * @param first The first array
+     * @param second The second array
+     * @return The index of the first mismatch or -1
+     */
+    public static int mismatch(final Object first, final Object second) {
+        checkSameType(first, second);
+        if (first instanceof Object[] objects) {
+            return Arrays.mismatch(objects, (Object[]) second);
+        } else if (first instanceof int[] ints) {
+            return Arrays.mismatch(ints, (int[]) second);
+        } else if (first instanceof long[] longs) {
+            return Arrays.mismatch(longs, (long[]) second);
+        } else if (first instanceof double[] doubles) {
+            return Arrays.mismatch(doubles, (double[]) second);
+        } else if (first instanceof byte[] bytes) {
+            return Arrays.mismatch(bytes, (byte[]) second);
+        } else if (first instanceof char[] chars) {
+            return Arrays.mismatch(chars, (char[]) second);
+        } else if (first instanceof boolean[] booleans) {
+            return Arrays.mismatch(booleans, (boolean[]) second);
+        } else if (first instanceof short[] shorts) {
+            return Arrays.mismatch(shorts, (short[]) second);
+        } else if (first instanceof float[] floats) {
+            return Arrays.mismatch(floats, (float[]) second);
+        }
+        throw notAnArray(first);
+    }
+
+    /**
+     * Compares the arrays lexicographically. The arrays must have the
+     * same type, reference elements must be comparable, null elements
+     * are ordered first.
+     * @param first The first array
+     * @param second The second array
+     * @return The result of the comparison
+     */
+    public static int compare(final Object first, final Object second) {
+        checkSameType(first, second);
+        if (first instanceof Object[] objects) {
+            return Arrays.compare(objects, (Object[]) second, NATURAL_ORDER);
+        } else if (first instanceof int[] ints) {
+            return Arrays.compare(ints, (int[]) second);
+        } else if (first instanceof long[] longs) {
+            return Arrays.compare(longs, (long[]) second);
+        } else if (first instanceof double[] doubles) {
+            return Arrays.compare(doubles, (double[]) second);
+        } else if (first instanceof byte[] bytes) {
+            return Arrays.compare(bytes, (byte[]) second);
+        } else if (first instanceof char[] chars) {
+            return Arrays.compare(chars, (char[]) second);
+        } else if (first instanceof boolean[] booleans) {
+            return Arrays.compare(booleans, (boolean[]) second);
+        } else if (first instanceof short[] shorts) {
+            return Arrays.compare(shorts, (short[]) second);
+        } else if (first instanceof float[] floats) {
+            return Arrays.compare(floats, (float[]) second);
+        }
+        throw notAnArray(first);
+    }
+
+    /**
+     * Returns the hash code based on the elements of the array.
+     * @param array The array
+     * @return The hash code
+     */
+    public static int hashCode(final Object array) {
+        if (array instanceof Object[] objects) {
+            return Arrays.hashCode(objects);
+        } else if (array instanceof int[] ints) {
+            return Arrays.hashCode(ints);
+        } else if (array instanceof long[] longs) {
+            return Arrays.hashCode(longs);
+        } else if (array instanceof double[] doubles) {
+            return Arrays.hashCode(doubles);
+        } else if (array instanceof byte[] bytes) {
+            return Arrays.hashCode(bytes);
+        } else if (array instanceof char[] chars) {
+            return Arrays.hashCode(chars);
+        } else if (array instanceof boolean[] booleans) {
+            return Arrays.hashCode(booleans);
+        } else if (array instanceof short[] shorts) {
+            return Arrays.hashCode(shorts);
+        } else if (array instanceof float[] floats) {
+            return Arrays.hashCode(floats);
+        }
+        throw notAnArray(array);
+    }
+
+    private static void checkSameType(final Object first, final Object second) {
+        if (first.getClass() != second.getClass()) {
+            throw new IllegalArgumentException("Different array types: " + first.getClass() + " and " + second.getClass());
+        }
+    }
+
+    private static IllegalArgumentException notAnArray(final Object object) {
+        return new IllegalArgumentException("Not an array: " + object.getClass());
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Invokes the same method on every element of a batch. The method is
+ * resolved only once, the same way as for a single object mirror, then
+ * the elements are split into ranges, which are processed by the given
+ * executor. The failure of an element is recorded at its index, so it
+ * does not stop the processing of the other elements.
+ */
+public final class Batches {
+
+    /**
+     * The number of ranges created for each worker thread, to balance the
+     * load when the invocations take different amounts of time.
+     */
+    private static final int RANGES_PER_THREAD = 4;
+
+    private Batches() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the handle for the instance method which can be invoked with
+     * the given arguments, resolving it if it is not cached yet. The handle
+     * is shared with the object mirrors of the same type.
+     * @param lookup The lookup used for access check
+     * @param type The type of the elements
+     * @param returnType The requested return type
+     * @param name The name of the method
+     * @param args The arguments which will be used for the invocations
+     * @return The method handle, with the (Object,Object[])Object type
+     * @throws NoSuchMethodException If no matching method is found
+     * @throws IllegalAccessException If the method cannot be accessed
+     */
+    public static MethodHandle findMethod(final Lookup lookup, final Class<?> type, final Class<?> returnType, final String name, final Object... args)
+            throws NoSuchMethodException, IllegalAccessException {
+        final var types = Utils.types(args);
+        return HandleCache.findVirtual(lookup, type, name, returnType, types, () -> {
+            try {
+                return Utils.spread(MethodHandles.privateLookupIn(type, lookup).findVirtual(type, name, methodType(returnType, types)), 1);
+            } catch (final NoSuchMethodException e) {
+                return Utils.spread(MethodIndex.unreflect(lookup, MethodIndex.of(type).findVirtual(name, types)), 1);
+            }
+        });
+    }
+
+    /**
+     * Invokes the method on every target with the executor. For a fork-join
+     * pool the ranges are split recursively, so idle workers can steal them,
+     * for other executors every range is submitted as a separate task.
+     * Returns after every element has been processed.
+     * @param executor The executor running the ranges
+     * @param methodHandle The method handle, with the (Object,Object[])Object type
+     * @param targets The targets of the invocations
+     * @param args The arguments of the invocations
+     * @param resultType The type the results are cast to, or null to ignore them
+     * @param results The array for the results, with the same length as the targets
+     * @param failures The array for the failures, with the same length as the targets
+     */
+    public static void invoke(final Executor executor, final MethodHandle methodHandle, final Object[] targets, final Object[] args,
+                              final Class<?> resultType, final Object[] results, final Throwable[] failures) {
+        final Ranges.Range range = (from, to) -> {
+            for (var i = from; i < to; i++) {
+                try {
+                    final var result = (Object) methodHandle.invokeExact(targets[i], args);
+                    if (resultType != null) {
+                        results[i] = resultType.cast(result);
+                    }
+                } catch (final Throwable throwable) {
+                    failures[i] = throwable;
+                }
+            }
+        };
+        final var size = targets.length;
+        if (executor instanceof ForkJoinPool pool) {
+            final var threshold = Math.max(1, size / (pool.getParallelism() * RANGES_PER_THREAD));
+            Ranges.invoke(pool, size, threshold, range);
+        } else {
+            final var rangeSize = Math.max(1, size / (Runtime.getRuntime().availableProcessors() * RANGES_PER_THREAD));
+            final var futures = new ArrayList<CompletableFuture<Void>>();
+            for (var from = 0; from < size; from += rangeSize) {
+                final var start = from;
+                final var end = Math.min(size, from + rangeSize);
+                futures.add(CompletableFuture.runAsync(() -> range.process(start, end), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.BinaryCodec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the binary codecs. The primitive fields are written and read
+ * by the byte buffer view var handles, at a fixed offset from the start
+ * of the bean, the other fields are handled by the helper methods of this
+ * class, one after the other. The handles of every field are combined into
+ * a single size, encoding and decoding handle, which are held as constants
+ * by a generated class. The nested beans are encoded by their own codecs,
+ * which are resolved when they are first used, so the types can refer
+ * to each other.
+ */
+public final class BinaryCodecs {
+
+    /**
+     * The byte order of the values, independent of the order of the buffers.
+     */
+    private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+    /**
+     * The length prefix of the strings.
+     */
+    private static final VarHandle LENGTH = MethodHandles.byteBufferViewVarHandle(int[].class, ORDER);
+
+    /**
+     * The type of the handles, writing or reading the fixed
+     * section of the bean, starting at the given index.
+     */
+    private static final MethodType FIXED_TYPE = methodType(void.class, Object.class, ByteBuffer.class, int.class);
+
+    /**
+     * The type of the handles, writing or reading the
+     * bean, starting at the position of the buffer.
+     */
+    private static final MethodType CODEC_TYPE = methodType(void.class, Object.class, ByteBuffer.class);
+
+    private static final MethodHandle ADD;
+
+    private static final MethodHandle RESERVE_WRITE;
+
+    private static final MethodHandle RESERVE_READ;
+
+    private static final MethodHandle PUT_BYTE;
+
+    private static final MethodHandle GET_BYTE;
+
+    private static final MethodHandle PUT_BOOLEAN;
+
+    private static final MethodHandle GET_BOOLEAN;
+
+    private static final MethodHandle WRITE_STRING;
+
+    private static final MethodHandle READ_STRING;
+
+    private static final MethodHandle SIZE_STRING;
+
+    private static final MethodHandle WRITE_NESTED;
+
+    private static final MethodHandle READ_NESTED;
+
+    private static final MethodHandle SIZE_NESTED;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            ADD = lookup.findStatic(Integer.class, "sum", methodType(int.class, int.class, int.class));
+            RESERVE_WRITE = lookup.findStatic(BinaryCodecs.class, "reserveWrite", methodType(int.class, ByteBuffer.class, int.class));
+            RESERVE_READ = lookup.findStatic(BinaryCodecs.class, "reserveRead", methodType(int.class, ByteBuffer.class, int.class));
+            PUT_BYTE = lookup.findVirtual(ByteBuffer.class, "put", methodType(ByteBuffer.class, int.class, byte.class))
+                    .asType(methodType(void.class, ByteBuffer.class, int.class, byte.class));
+            GET_BYTE = lookup.findVirtual(ByteBuffer.class, "get", methodType(byte.class, int.class));
+            PUT_BOOLEAN = lookup.findStatic(BinaryCodecs.class, "putBoolean", methodType(void.class, ByteBuffer.class, int.class, boolean.class));
+            GET_BOOLEAN = lookup.findStatic(BinaryCodecs.class, "getBoolean", methodType(boolean.class, ByteBuffer.class, int.class));
+            WRITE_STRING = lookup.findStatic(BinaryCodecs.class, "writeString", methodType(void.class, ByteBuffer.class, String.class));
+            READ_STRING = lookup.findStatic(BinaryCodecs.class, "readString", methodType(String.class, ByteBuffer.class));
+            SIZE_STRING = lookup.findStatic(BinaryCodecs.class, "sizeString", methodType(int.class, String.class));
+            WRITE_NESTED = lookup.findStatic(BinaryCodecs.class, "writeNested", methodType(void.class, Nested.class, ByteBuffer.class, Object.class));
+            READ_NESTED = lookup.findStatic(BinaryCodecs.class, "readNested", methodType(Object.class, Nested.class, ByteBuffer.class));
+            SIZE_NESTED = lookup.findStatic(BinaryCodecs.class, "sizeNested", methodType(int.class, Nested.class, Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BinaryCodecs() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the binary codec for the given type, creating it if it
+     * was not created before for the same lookup. The type must be a
+     * concrete class with a no-arg constructor, its instance fields must
+     * be primitives, strings or nested beans, except the transient ones,
+     * which are skipped.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return The codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryCodec<T> binaryCodec(final Lookup lookup, final Class<T> targetType) {
+        return HandleCache.computeIfAbsent(lookup, targetType, BinaryCodec.class, () -> (BinaryCodec<T>) createCodec(lookup, targetType));
+    }
+
+    private static BinaryCodec<?> createCodec(final Lookup lookup, final Class<?> targetType) {
+        try {
+            checkBean(targetType);
+            final var constructor = MethodHandles.privateLookupIn(targetType, lookup).findConstructor(targetType, methodType(void.class))
+                    .asType(methodType(Object.class));
+            final var fields = serializedFields(targetType);
+            final var fixed = fixedLayout(lookup, fields);
+            final var fixedSize = fixed.size();
+            var size = MethodHandles.dropArguments(MethodHandles.constant(int.class, fixedSize), 0, Object.class);
+            final var writers = new ArrayList<MethodHandle>();
+            final var readers = new ArrayList<MethodHandle>();
+            writers.add(withFixedSection(fixed.write(), RESERVE_WRITE, fixedSize));
+            readers.add(withFixedSection(fixed.read(), RESERVE_READ, fixedSize));
+            for (final var field : fields) {
+                final var fieldType = field.getType();
+                if (fieldType.isPrimitive()) {
+                    continue;
+                }
+                final var fieldLookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup);
+                final var getter = fieldLookup.unreflectGetter(field).asType(methodType(fieldType, Object.class));
+                final var setter = Cloners.setter(fieldLookup, field).asType(methodType(void.class, Object.class, fieldType));
+                final MethodHandle write;
+                final MethodHandle read;
+                final MethodHandle fieldSize;
+                if (fieldType == String.class) {
+                    write = WRITE_STRING;
+                    read = READ_STRING;
+                    fieldSize = SIZE_STRING;
+                } else {
+                    checkBean(fieldType);
+                    final var nested = new Nested(lookup, fieldType);
+                    write = MethodHandles.insertArguments(WRITE_NESTED, 0, nested);
+                    read = MethodHandles.insertArguments(READ_NESTED, 0, nested).asType(methodType(fieldType, ByteBuffer.class));
+                    fieldSize = MethodHandles.insertArguments(SIZE_NESTED, 0, nested);
+                }
+                // (ByteBuffer,Object)void, then (Object,ByteBuffer)void
+                writers.add(MethodHandles.permuteArguments(MethodHandles.filterArguments(write.asType(methodType(void.class, ByteBuffer.class, fieldType)), 1, getter), CODEC_TYPE, 1, 0));
+                readers.add(MethodHandles.collectArguments(setter, 1, read));
+                final var sum = MethodHandles.collectArguments(MethodHandles.collectArguments(ADD, 1, MethodHandles.filterArguments(fieldSize.asType(methodType(int.class, fieldType)), 0, getter)), 0, size);
+                size = MethodHandles.permuteArguments(sum, methodType(int.class, Object.class), 0, 0);
+            }
+            return (BinaryCodec<?>) ClassGenerator.defineFromTemplate(GeneratedBinaryCodec.class, List.of(size, sequence(writers), constructor, sequence(readers), targetType));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Returns the instance fields of the type, which are not transient.
+     * @param type The class type
+     * @return The list of fields
+     */
+    static List<Field> serializedFields(final Class<?> type) {
+        final var fields = new ArrayList<Field>();
+        for (final var field : Utils.instanceFields(type)) {
+            if (!Modifier.isTransient(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Computes the fixed section for the primitive fields from the given
+     * ones. The widest values come first, so every value is aligned to its
+     * size, relative to the start of the section.
+     * @param lookup The lookup used for access check
+     * @param fields The fields, the other ones are ignored
+     * @return The layout of the section
+     * @throws IllegalAccessException If a field cannot be accessed
+     */
+    static FixedLayout fixedLayout(final Lookup lookup, final List<Field> fields) throws IllegalAccessException {
+        final var primitives = fields.stream()
+                .filter(field -> field.getType().isPrimitive())
+                .sorted(Comparator.comparingInt((Field field) -> sizeOf(field.getType())).reversed())
+                .toList();
+        // The fields are listed topmost first, so the fields of the subtypes shadow the ones of the super types
+        final var byName = new HashMap<String, Field>();
+        for (final var field : fields) {
+            if (field.getType().isPrimitive()) {
+                byName.put(field.getName(), field);
+            }
+        }
+        final var offsets = new HashMap<String, Integer>();
+        var size = 0;
+        var write = MethodHandles.empty(FIXED_TYPE);
+        var read = MethodHandles.empty(FIXED_TYPE);
+        for (final var field : primitives) {
+            final var fieldType = field.getType();
+            final var fieldLookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup);
+            final var getter = fieldLookup.unreflectGetter(field).asType(methodType(fieldType, Object.class));
+            final var setter = Cloners.setter(fieldLookup, field).asType(methodType(void.class, Object.class, fieldType));
+            final var offset = MethodHandles.insertArguments(ADD, 1, size);
+            // (ByteBuffer,int,Object)void, then (Object,ByteBuffer,int)void
+            final var put = MethodHandles.filterArguments(put(fieldType), 1, offset, getter);
+            write = MethodHandles.foldArguments(write, MethodHandles.permuteArguments(put, FIXED_TYPE, 1, 2, 0));
+            final var get = MethodHandles.filterArguments(get(fieldType), 1, offset);
+            read = MethodHandles.foldArguments(read, MethodHandles.collectArguments(setter, 1, get));
+            if (byName.get(field.getName()) == field) {
+                offsets.put(field.getName(), size);
+            }
+            size += sizeOf(fieldType);
+        }
+        final var alignment = primitives.isEmpty() ? 1 : sizeOf(primitives.get(0).getType());
+        return new FixedLayout(Map.copyOf(byName), Map.copyOf(offsets), size, alignment, write, read);
+    }
+
+    /**
+     * Checks that the bean has exactly the type of the codec. The fields of
+     * a subclass would not be encoded, and the bean would be decoded as an
+     * instance of the super type, so the subclasses are rejected.
+     * @param type The type of the codec
+     * @param value The bean
+     */
+    static void checkType(final Class<?> type, final Object value) {
+        if (value.getClass() != type) {
+            throw new BeanMirrorException(new IllegalArgumentException("Type " + value.getClass().getName() + " is not supported by the binary codec of " + type.getName() + "."));
+        }
+    }
+
+    static void checkBean(final Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum() || type.isRecord()
+                || Modifier.isAbstract(type.getModifiers()) || type.getModule() == Object.class.getModule()) {
+            throw new IllegalArgumentException("Type " + type.getName() + " is not supported by the binary codec.");
+        }
+    }
+
+    /**
+     * Reserves the fixed section at the position of the buffer, then
+     * calls the fixed handle with the index of the section.
+     * @param fixed The fixed handle, with an (Object,ByteBuffer,int)void type
+     * @param reserve The reserving handle, with an (ByteBuffer,int)int type
+     * @param fixedSize The size of the fixed section
+     * @return The method handle, with the (Object,ByteBuffer)void type
+     */
+    private static MethodHandle withFixedSection(final MethodHandle fixed, final MethodHandle reserve, final int fixedSize) {
+        final var target = MethodHandles.permuteArguments(fixed, methodType(void.class, int.class, Object.class, ByteBuffer.class), 1, 2, 0);
+        return MethodHandles.foldArguments(target, MethodHandles.dropArguments(MethodHandles.insertArguments(reserve, 1, fixedSize), 0, Object.class));
+    }
+
+    /**
+     * Combines the handles, so they are called in the order of the list.
+     * @param handles The handles, with the (Object,ByteBuffer)void type
+     * @return The method handle, with the (Object,ByteBuffer)void type
+     */
+    private static MethodHandle sequence(final List<MethodHandle> handles) {
+        var result = MethodHandles.empty(CODEC_TYPE);
+        for (var i = handles.size() - 1; i >= 0; i--) {
+            result = MethodHandles.foldArguments(result, handles.get(i));
+        }
+        return result;
+    }
+
+    static int sizeOf(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return Long.BYTES;
+        } else if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        } else if (type == short.class || type == char.class) {
+            return Short.BYTES;
+        }
+        return Byte.BYTES;
+    }
+
+    /**
+     * Returns the handle writing the primitive type at the given index.
+     * @param type The primitive type
+     * @return The method handle, with the (ByteBuffer,int,type)void type
+     */
+    static MethodHandle put(final Class<?> type) {
+        if (type == byte.class) {
+            return PUT_BYTE;
+        } else if (type == boolean.class) {
+            return PUT_BOOLEAN;
+        }
+        return MethodHandles.byteBufferViewVarHandle(type.arrayType(), ORDER).toMethodHandle(AccessMode.SET);
+    }
+
+    /**
+     * Returns the handle reading the primitive type at the given index.
+     * @param type The primitive type
+     * @return The method handle, with the (ByteBuffer,int)type type
+     */
+    static MethodHandle get(final Class<?> type) {
+        if (type == byte.class) {
+            return GET_BYTE;
+        } else if (type == boolean.class) {
+            return GET_BOOLEAN;
+        }
+        return MethodHandles.byteBufferViewVarHandle(type.arrayType(), ORDER).toMethodHandle(AccessMode.GET);
+    }
+
+    private static int reserveWrite(final ByteBuffer buffer, final int size) {
+        final var position = buffer.position();
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        buffer.position(position + size);
+        return position;
+    }
+
+    private static int reserveRead(final ByteBuffer buffer, final int size) {
+        final var position = buffer.position();
+        if (buffer.remaining() < size) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(position + size);
+        return position;
+    }
+
+    private static void putBoolean(final ByteBuffer buffer, final int index, final boolean value) {
+        buffer.put(index, value ? (byte) 1 : (byte) 0);
+    }
+
+    private static boolean getBoolean(final ByteBuffer buffer, final int index) {
+        return buffer.get(index) != 0;
+    }
+
+    /**
+     * Writes the length of the string in UTF-8 bytes, or -1 for null, then
+     * the bytes of the string, encoded directly into the buffer.
+     * @param buffer The buffer
+     * @param value The string
+     */
+    private static void writeString(final ByteBuffer buffer, final String value) {
+        if (value == null) {
+            LENGTH.set(buffer, reserveWrite(buffer, Integer.BYTES), -1);
+            return;
+        }
+        final var length = utf8Length(value);
+        final var position = reserveWrite(buffer, Integer.BYTES + length);
+        LENGTH.set(buffer, position, length);
+        var index = position + Integer.BYTES;
+        for (var i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put(index++, (byte) c);
+            } else if (c < 0x800) {
+                buffer.put(index++, (byte) (0xC0 | c >> 6));
+                buffer.put(index++, (byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put(index++, (byte) (0xF0 | codePoint >> 18));
+                    buffer.put(index++, (byte) (0x80 | codePoint >> 12 & 0x3F));
+                    buffer.put(index++, (byte) (0x80 | codePoint >> 6 & 0x3F));
+                    buffer.put(index++, (byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    // Same replacement as the one used by String.getBytes
+                    buffer.put(index++, (byte) '?');
+                }
+            } else {
+                buffer.put(index++, (byte) (0xE0 | c >> 12));
+                buffer.put(index++, (byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put(index++, (byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final var length = (int) LENGTH.get(buffer, reserveRead(buffer, Integer.BYTES));
+        if (length < 0) {
+            return null;
+        }
+        final var position = reserveRead(buffer, length);
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + position, length, UTF_8);
+        }
+        final var bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static int sizeString(final String value) {
+        return value == null ? Integer.BYTES : Integer.BYTES + utf8Length(value);
+    }
+
+    /**
+     * Returns the number of the bytes of the string, encoded as UTF-8,
+     * without encoding it. The unpaired surrogates are replaced.
+     * @param value The string
+     * @return The encoded length
+     */
+    private static int utf8Length(final String value) {
+        final var chars = value.length();
+        var length = chars;
+        for (var i = 0; i < chars; i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length++;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 2;
+                    i++;
+                }
+            } else {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    private static void writeNested(final Nested nested, final ByteBuffer buffer, final Object value) {
+        if (value == null) {
+            buffer.put(reserveWrite(buffer, Byte.BYTES), (byte) 0);
+            return;
+        }
+        buffer.put(reserveWrite(buffer, Byte.BYTES), (byte) 1);
+        nested.codec().encode(value, buffer);
+    }
+
+    private static Object readNested(final Nested nested, final ByteBuffer buffer) {
+        if (buffer.get(reserveRead(buffer, Byte.BYTES)) == 0) {
+            return null;
+        }
+        return nested.codec().decode(buffer);
+    }
+
+    private static int sizeNested(final Nested nested, final Object value) {
+        return value == null ? Byte.BYTES : Byte.BYTES + nested.codec().size(value);
+    }
+
+    /**
+     * The fixed section of a bean, holding its primitive fields.
+     * @param fields The fields by their names
+     * @param offsets The offsets of the fields by their names
+     * @param size The size of the section
+     * @param alignment The size of the widest field
+     * @param write Writes the fields at the given index, with the (Object,ByteBuffer,int)void type
+     * @param read Reads the fields from the given index, with the (Object,ByteBuffer,int)void type
+     */
+    record FixedLayout(Map<String, Field> fields, Map<String, Integer> offsets, int size, int alignment, MethodHandle write, MethodHandle read) {}
+
+    /**
+     * The codec of a nested bean, resolved when it is first used.
+     * Resolving it more than once is harmless, as the codecs are cached.
+     */
+    private static final class Nested {
+
+        private final Lookup lookup;
+
+        private final Class<?> type;
+
+        private BinaryCodec<Object> codec;
+
+        private Nested(final Lookup lookup, final Class<?> type) {
+            this.lookup = lookup;
+            this.type = type;
+        }
+
+        @SuppressWarnings("unchecked")
+        private BinaryCodec<Object> codec() {
+            var result = codec;
+            if (result == null) {
+                result = (BinaryCodec<Object>) binaryCodec(lookup, type);
+                codec = result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+
+/**
+ * Generates classes implementing functional interfaces, used by
+ * the accessors which are created in the generated mode.
+ *
+ * <p>There are two strategies. Methods are bound with the lambda
+ * metafactory, the same way as the method references in the source
+ * code. Fields cannot be bound that way, so for them a template class
+ * is defined as a new hidden class for each accessor, with the method
+ * handle of the field as its class data. The template stores the handle
+ * in a static final field, which the JIT compiler treats as a constant,
+ * so the handle can be inlined into the call site.</p>
+ */
+final class ClassGenerator {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<byte[]> TEMPLATES = new ClassValue<>() {
+        @Override
+        protected byte[] computeValue(final Class<?> template) {
+            try (var stream = template.getResourceAsStream(template.getSimpleName() + ".class")) {
+                return Objects.requireNonNull(stream, template.getName()).readAllBytes();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    private ClassGenerator() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Defines a new hidden class from the given template class and
+     * returns a new instance of it. The class data will be available
+     * for the template through the {@link #classData(Lookup, Class)} method.
+     * @param template The template class, must be in the same package
+     * @param classData The data for the hidden class
+     * @return A new instance of the hidden class
+     * @throws Throwable If the class cannot be defined or instantiated
+     */
+    static Object defineFromTemplate(final Class<?> template, final Object classData) throws Throwable {
+        final var hiddenLookup = LOOKUP.defineHiddenClassWithClassData(TEMPLATES.get(template), classData, true);
+        return hiddenLookup.findConstructor(hiddenLookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+    }
+
+    /**
+     * Returns the class data of a hidden class, defined from a template.
+     * Called from the static initializer of the templates.
+     * @param lookup The lookup of the hidden class
+     * @param type The type of the class data
+     * @param <D> Generic param for the class data
+     * @return The class data
+     */
+    static <D> D classData(final Lookup lookup, final Class<D> type) {
+        try {
+            return MethodHandles.classData(lookup, ConstantDescs.DEFAULT_NAME, type);
+        } catch (final IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Returns an element of the class data of a hidden class, defined
+     * from a template, if the class data is a list.
+     * Called from the static initializer of the templates.
+     * @param lookup The lookup of the hidden class
+     * @param type The type of the element
+     * @param index The index of the element
+     * @param <D> Generic param for the element
+     * @return The element of the class data
+     */
+    static <D> D classDataAt(final Lookup lookup, final Class<D> type, final int index) {
+        try {
+            return MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, type, index);
+        } catch (final IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Binds the given method handle to a new instance of the functional
+     * interface, using the lambda metafactory.
+     * @param caller The lookup with full privilege access on the target type
+     * @param functionalInterface The functional interface
+     * @param methodName The name of the single abstract method
+     * @param erasedType The erased type of the single abstract method
+     * @param implementation The direct method handle to be bound
+     * @param instantiatedType The type of the method, after the generic params are applied
+     * @param bridges The additional types of the single abstract method, usually from generic super interfaces
+     * @param <F> Generic param for the functional interface
+     * @return A new instance of the functional interface
+     * @throws Throwable If the lambda cannot be created
+     */
+    static <F> F metafactory(final Lookup caller, final Class<F> functionalInterface, final String methodName, final MethodType erasedType,
+                             final MethodHandle implementation, final MethodType instantiatedType, final MethodType... bridges) throws Throwable {
+        final var factoryType = MethodType.methodType(functionalInterface);
+        final CallSite callSite;
+        if (bridges.length == 0) {
+            callSite = LambdaMetafactory.metafactory(caller, methodName, factoryType, erasedType, implementation, instantiatedType);
+        } else {
+            final var args = new Object[5 + bridges.length];
+            args[0] = erasedType;
+            args[1] = implementation;
+            args[2] = instantiatedType;
+            args[3] = LambdaMetafactory.FLAG_BRIDGES;
+            args[4] = bridges.length;
+            System.arraycopy(bridges, 0, args, 5, bridges.length);
+            callSite = LambdaMetafactory.altMetafactory(caller, methodName, factoryType, args);
+        }
+        return functionalInterface.cast(callSite.getTarget().invoke());
+    }
+
+    /**
+     * Rethrows the given error if it is unchecked, otherwise
+     * wraps it, used by the templates.
+     * @param throwable The error thrown by the handle
+     * @return Never returns normally
+     */
+    static RuntimeException rethrow(final Throwable throwable) {
+        if (throwable instanceof RuntimeException e) {
+            throw e;
+        }
+        if (throwable instanceof Error e) {
+            throw e;
+        }
+        throw new BeanMirrorException(throwable);
+    }
+}
@@ -0,0 +1,465 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.CloneDepth;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the cloners. A copy plan is created for every class found in
+ * the copied object graph, only once for each cloner, so repeated clones
+ * only cost the copying itself. The fields which do not need a deep copy
+ * are copied by a single combined method handle.
+ *
+ * <p>Beans are created with their no-arg constructor, then their fields
+ * are set, including the final ones if the type is open for reflection.
+ * Records are created with their canonical constructor. The classes which
+ * cannot be accessed with the lookup, like the platform collections, are
+ * copied with their public copy constructor, if they are collections or
+ * maps, then their elements are replaced with their copies. The platform
+ * unmodifiable collections are only copied if their elements changed.
+ * Other inaccessible classes cannot be copied, unless they are known to be
+ * immutable. The fields declared by super types in other modules cannot
+ * be accessed with the lookup, so the types extending a class with
+ * instance fields from another module cannot be copied either.</p>
+ */
+public final class Cloners {
+
+    /**
+     * The immutable types, which are never copied.
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class, Class.class, BigInteger.class, BigDecimal.class, UUID.class, URI.class, Locale.class);
+
+    /**
+     * The prefixes of the unmodifiable collection classes of the platform.
+     */
+    private static final List<String> UNMODIFIABLE_PREFIXES = List.of("java.util.ImmutableCollections$", "java.util.Collections$Unmodifiable",
+            "java.util.Collections$Empty", "java.util.Collections$Singleton");
+
+    private Cloners() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the cloner for the given type and depth, creating it
+     * if it was not created before for the same lookup.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param depth The depth of the copies
+     * @param <T> Generic param for the class
+     * @return The cloner
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> UnaryOperator<T> cloner(final Lookup lookup, final Class<T> targetType, final CloneDepth depth) {
+        return HandleCache.computeIfAbsent(lookup, targetType, new ClonerKey(depth), () -> {
+            final var cloner = new Cloner(lookup, depth == CloneDepth.DEEP);
+            // Fails early, if the type cannot be copied.
+            cloner.plans.get(targetType);
+            return (UnaryOperator<T>) cloner;
+        });
+    }
+
+    /**
+     * Copies the objects, using the plans created for their classes.
+     */
+    private static final class Cloner implements UnaryOperator<Object> {
+
+        /**
+         * Whether the referenced objects are copied as well.
+         */
+        private final boolean deep;
+
+        /**
+         * The copy plans of the classes found so far.
+         */
+        private final ClassValue<Plan> plans;
+
+        private Cloner(final Lookup lookup, final boolean deep) {
+            this.deep = deep;
+            this.plans = new ClassValue<>() {
+                @Override
+                protected Plan computeValue(final Class<?> type) {
+                    return plan(lookup, type, deep);
+                }
+            };
+        }
+
+        @Override
+        public Object apply(final Object value) {
+            return copy(value, deep ? new IdentityHashMap<>() : null);
+        }
+
+        /**
+         * Copies the value, unless it was copied before.
+         * @param value The value
+         * @param copies The copies made so far, by the originals, or null for shallow copies
+         * @return The copy
+         */
+        private Object copy(final Object value, final Map<Object, Object> copies) {
+            if (value == null) {
+                return null;
+            }
+            if (copies != null) {
+                final var copy = copies.get(value);
+                if (copy != null) {
+                    return copy;
+                }
+            }
+            try {
+                return plans.get(value.getClass()).copy(this, value, copies);
+            } catch (final Throwable throwable) {
+                throw ClassGenerator.rethrow(throwable);
+            }
+        }
+    }
+
+    /**
+     * Copies the objects of a single class.
+     */
+    @FunctionalInterface
+    private interface Plan {
+
+        /**
+         * Copies the value, registering the copy before copying the referenced objects.
+         * @param cloner The cloner, used for the referenced objects
+         * @param value The value
+         * @param copies The copies made so far, or null for shallow copies
+         * @return The copy
+         * @throws Throwable If the copy failed
+         */
+        Object copy(Cloner cloner, Object value, Map<Object, Object> copies) throws Throwable;
+    }
+
+    private static Plan plan(final Lookup lookup, final Class<?> type, final boolean deep) {
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive() ? Cloners::copyPrimitiveArray : Cloners::copyObjectArray;
+        }
+        if (isImmutable(type) || type.isHidden()) {
+            return (cloner, value, copies) -> value;
+        }
+        final Lookup privateLookup;
+        try {
+            privateLookup = MethodHandles.privateLookupIn(type, lookup);
+        } catch (final IllegalAccessException expected) {
+            return inaccessiblePlan(type);
+        }
+        try {
+            return type.isRecord() ? recordPlan(privateLookup, type) : beanPlan(lookup, privateLookup, type, deep);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Creates the plan for a class, which cannot be accessed with the lookup.
+     * Sharing a mutable object would make the copy depend on the original,
+     * so only the collections and maps are supported.
+     * @param type The class type
+     * @return The plan
+     */
+    private static Plan inaccessiblePlan(final Class<?> type) {
+        if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            final var name = type.getName();
+            if (UNMODIFIABLE_PREFIXES.stream().anyMatch(name::startsWith)) {
+                return Cloners::copyUnmodifiable;
+            }
+            final var constructor = copyConstructor(type);
+            if (constructor != null) {
+                return (cloner, value, copies) -> {
+                    final var copy = (Object) constructor.invokeExact(value);
+                    if (copies != null) {
+                        copies.put(value, copy);
+                        copyElements(cloner, copy, copies);
+                    }
+                    return copy;
+                };
+            }
+        }
+        throw new BeanMirrorException(new IllegalArgumentException("Type " + type.getName() + " cannot be accessed with the lookup, so it cannot be copied."));
+    }
+
+    /**
+     * Finds the public constructor of the class, which has a single parameter
+     * accepting the class itself. If there are more, like the ones taking a
+     * collection and a sorted set, the most specific one is used, which keeps
+     * the ordering of the original.
+     * @param type The class type
+     * @return The constructor, with the (Object)Object type, or null if it does not exist
+     */
+    private static MethodHandle copyConstructor(final Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        Class<?> parameterType = null;
+        for (final var constructor : type.getConstructors()) {
+            final var parameters = constructor.getParameterTypes();
+            if (parameters.length == 1 && parameters[0].isAssignableFrom(type) && (parameterType == null || parameterType.isAssignableFrom(parameters[0]))) {
+                parameterType = parameters[0];
+            }
+        }
+        if (parameterType == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, methodType(void.class, parameterType)).asType(methodType(Object.class, Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the elements of the copied collection or map
+     * with their copies, if any of them was copied.
+     * @param cloner The cloner, used for the elements
+     * @param copy The copy, filled by the copy constructor
+     * @param copies The copies made so far
+     */
+    @SuppressWarnings("unchecked")
+    private static void copyElements(final Cloner cloner, final Object copy, final Map<Object, Object> copies) {
+        if (copy instanceof Collection<?> collection) {
+            final var elements = collection.toArray();
+            if (copyAll(cloner, elements, copies)) {
+                collection.clear();
+                ((Collection<Object>) collection).addAll(Arrays.asList(elements));
+            }
+        } else {
+            final var map = (Map<Object, Object>) copy;
+            final var keys = map.keySet().toArray();
+            final var values = new Object[keys.length];
+            for (var i = 0; i < keys.length; i++) {
+                values[i] = map.get(keys[i]);
+            }
+            final var keysChanged = copyAll(cloner, keys, copies);
+            if (copyAll(cloner, values, copies) || keysChanged) {
+                map.clear();
+                for (var i = 0; i < keys.length; i++) {
+                    map.put(keys[i], values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the unmodifiable collections and maps of the platform. They are
+     * shared by the shallow copies, or if none of their elements was copied,
+     * otherwise their copies are unmodifiable views of new collections.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copyUnmodifiable(final Cloner cloner, final Object value, final Map<Object, Object> copies) {
+        if (copies == null) {
+            return value;
+        }
+        final Object copy;
+        if (value instanceof Collection<?> collection) {
+            final var elements = collection.toArray();
+            if (!copyAll(cloner, elements, copies)) {
+                return value;
+            }
+            if (value instanceof SortedSet<?> sortedSet) {
+                final var set = new TreeSet<Object>((Comparator<Object>) sortedSet.comparator());
+                set.addAll(Arrays.asList(elements));
+                copy = Collections.unmodifiableNavigableSet(set);
+            } else if (value instanceof Set<?>) {
+                copy = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(elements)));
+            } else if (value instanceof List<?>) {
+                copy = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(elements)));
+            } else {
+                copy = Collections.unmodifiableCollection(new ArrayList<>(Arrays.asList(elements)));
+            }
+        } else {
+            final var map = (Map<Object, Object>) value;
+            final var keys = map.keySet().toArray();
+            final var values = new Object[keys.length];
+            for (var i = 0; i < keys.length; i++) {
+                values[i] = map.get(keys[i]);
+            }
+            final var keysChanged = copyAll(cloner, keys, copies);
+            if (!copyAll(cloner, values, copies) && !keysChanged) {
+                return value;
+            }
+            if (value instanceof SortedMap<?, ?> sortedMap) {
+                final var result = new TreeMap<Object, Object>((Comparator<Object>) sortedMap.comparator());
+                for (var i = 0; i < keys.length; i++) {
+                    result.put(keys[i], values[i]);
+                }
+                copy = Collections.unmodifiableNavigableMap(result);
+            } else {
+                final var result = new LinkedHashMap<Object, Object>();
+                for (var i = 0; i < keys.length; i++) {
+                    result.put(keys[i], values[i]);
+                }
+                copy = Collections.unmodifiableMap(result);
+            }
+        }
+        copies.put(value, copy);
+        return copy;
+    }
+
+    /**
+     * Replaces the values of the array with their copies.
+     * @param cloner The cloner
+     * @param values The values
+     * @param copies The copies made so far
+     * @return Whether any of the values was copied
+     */
+    private static boolean copyAll(final Cloner cloner, final Object[] values, final Map<Object, Object> copies) {
+        var changed = false;
+        for (var i = 0; i < values.length; i++) {
+            final var copy = cloner.copy(values[i], copies);
+            changed |= copy != values[i];
+            values[i] = copy;
+        }
+        return changed;
+    }
+
+    private static Plan recordPlan(final Lookup privateLookup, final Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+        final var components = type.getRecordComponents();
+        final var types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        final var constructor = Utils.spread(privateLookup.findConstructor(type, methodType(void.class, types)), 0);
+        final var getters = new MethodHandle[components.length];
+        for (var i = 0; i < components.length; i++) {
+            getters[i] = privateLookup.unreflect(components[i].getAccessor()).asType(methodType(Object.class, Object.class));
+        }
+        return (cloner, value, copies) -> {
+            final var args = new Object[getters.length];
+            for (var i = 0; i < getters.length; i++) {
+                final var component = (Object) getters[i].invokeExact(value);
+                args[i] = copies == null ? component : cloner.copy(component, copies);
+            }
+            final var copy = (Object) constructor.invokeExact(args);
+            if (copies != null) {
+                copies.put(value, copy);
+            }
+            return copy;
+        };
+    }
+
+    private static Plan beanPlan(final Lookup lookup, final Lookup privateLookup, final Class<?> type, final boolean deep) throws NoSuchMethodException, IllegalAccessException {
+        for (Class<?> current = type.getSuperclass(); current != null; current = current.getSuperclass()) {
+            if (current.getModule() != type.getModule() && Arrays.stream(current.getDeclaredFields()).anyMatch(field -> !Modifier.isStatic(field.getModifiers()))) {
+                throw new IllegalArgumentException("Type " + type.getName() + " extends " + current.getName() + " from another module, so its fields cannot be copied.");
+            }
+        }
+        final var constructor = privateLookup.findConstructor(type, methodType(void.class)).asType(methodType(Object.class));
+        // (copy, value) -> void
+        var copyValues = MethodHandles.empty(methodType(void.class, type, type));
+        final var getters = new ArrayList<MethodHandle>();
+        final var setters = new ArrayList<MethodHandle>();
+        for (final var field : Utils.instanceFields(type)) {
+            final var fieldLookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup);
+            final var getter = fieldLookup.unreflectGetter(field);
+            final var setter = setter(fieldLookup, field);
+            if (deep && !field.getType().isPrimitive() && !isImmutable(field.getType())) {
+                getters.add(getter.asType(methodType(Object.class, Object.class)));
+                setters.add(setter.asType(methodType(void.class, Object.class, Object.class)));
+            } else {
+                copyValues = MethodHandles.foldArguments(MethodHandles.filterArguments(setter.asType(methodType(void.class, type, field.getType())), 1,
+                        getter.asType(methodType(field.getType(), type))), copyValues);
+            }
+        }
+        final var copyFields = MethodHandles.permuteArguments(copyValues, methodType(void.class, type, type), 1, 0)
+                .asType(methodType(void.class, Object.class, Object.class));
+        final var referenceGetters = getters.toArray(MethodHandle[]::new);
+        final var referenceSetters = setters.toArray(MethodHandle[]::new);
+        return (cloner, value, copies) -> {
+            final var copy = (Object) constructor.invokeExact();
+            if (copies != null) {
+                copies.put(value, copy);
+            }
+            copyFields.invokeExact(value, copy);
+            for (var i = 0; i < referenceGetters.length; i++) {
+                referenceSetters[i].invokeExact(copy, cloner.copy((Object) referenceGetters[i].invokeExact(value), copies));
+            }
+            return copy;
+        };
+    }
+
+    /**
+     * Returns the setter for the field. Final fields can only be set,
+     * if the declaring class is open for reflection.
+     * @param fieldLookup The private lookup of the declaring class
+     * @param field The field
+     * @return The setter handle
+     * @throws IllegalAccessException If the field cannot be set
+     */
+    static MethodHandle setter(final Lookup fieldLookup, final Field field) throws IllegalAccessException {
+        if (Modifier.isFinal(field.getModifiers()) && !field.trySetAccessible()) {
+            throw new IllegalAccessException("Property " + field.getName() + " is final and its type is not open for reflection.");
+        }
+        return fieldLookup.unreflectSetter(field);
+    }
+
+    private static boolean isImmutable(final Class<?> type) {
+        return IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type) || "java.time".equals(type.getPackageName());
+    }
+
+    private static Object copyPrimitiveArray(final Cloner cloner, final Object value, final Map<Object, Object> copies) {
+        final Object copy;
+        if (value instanceof int[] array) {
+            copy = Arrays.copyOf(array, array.length);
+        } else if (value instanceof long[] array) {
+            copy = Arrays.copyOf(array, array.length);
+        } else if (value instanceof double[] array) {
+            copy = Arrays.copyOf(array, array.length);
+        } else if (value instanceof byte[] array) {
+            copy = Arrays.copyOf(array, array.length);
+        } else if (value instanceof char[] array) {
+            copy = Arrays.copyOf(array, array.length);
+        } else if (value instanceof float[] array) {
+            copy = Arrays.copyOf(array, array.length);
+        } else if (value instanceof short[] array) {
+            copy = Arrays.copyOf(array, array.length);
+        } else {
+            final var array = (boolean[]) value;
+            copy = Arrays.copyOf(array, array.length);
+        }
+        if (copies != null) {
+            copies.put(value, copy);
+        }
+        return copy;
+    }
+
+    private static Object copyObjectArray(final Cloner cloner, final Object value, final Map<Object, Object> copies) {
+        final var array = (Object[]) value;
+        final var copy = Arrays.copyOf(array, array.length);
+        if (copies != null) {
+            copies.put(value, copy);
+            for (var i = 0; i < copy.length; i++) {
+                copy[i] = cloner.copy(copy[i], copies);
+            }
+        }
+        return copy;
+    }
+
+    private record ClonerKey(CloneDepth depth) {}
+}
@@ -0,0 +1,23 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.util.List;
+
+/**
+ * Bulk access to a single field of the elements of a list. The
+ * implementations are generated from the {@link GeneratedColumn}
+ * template, each method processes the elements in the given range.
+ */
+interface Column {
+
+    void extractInts(List<?> source, int[] destination, int from, int to);
+
+    void extractLongs(List<?> source, long[] destination, int from, int to);
+
+    void extractDoubles(List<?> source, double[] destination, int from, int to);
+
+    void scatterInts(int[] source, List<?> destination, int from, int to);
+
+    void scatterLongs(long[] source, List<?> destination, int from, int to);
+
+    void scatterDoubles(double[] source, List<?> destination, int from, int to);
+}
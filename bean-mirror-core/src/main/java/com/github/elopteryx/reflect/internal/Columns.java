@@ -0,0 +1,159 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Bulk extraction and scatter of a primitive field, between the elements
+ * of a list and a primitive array. The field is resolved only once, and
+ * the loops run in a generated class, holding the handles as constants.
+ * Large random access lists are split across the common fork-join pool.
+ */
+public final class Columns {
+
+    /**
+     * The number of elements below which the range is not split further.
+     */
+    private static final int THRESHOLD = 1 << 13;
+
+    private Columns() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Copies the values of the field from the elements of the list into the array.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param name The name of the field
+     * @param source The elements
+     * @param destination The array, at least as long as the list
+     * @return The array
+     */
+    public static int[] extractInts(final Lookup lookup, final Class<?> targetType, final String name, final List<?> source, final int[] destination) {
+        final var column = column(lookup, targetType, name);
+        run(source, destination.length, (from, to) -> column.extractInts(source, destination, from, to));
+        return destination;
+    }
+
+    /**
+     * Copies the values of the field from the elements of the list into the array.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param name The name of the field
+     * @param source The elements
+     * @param destination The array, at least as long as the list
+     * @return The array
+     */
+    public static long[] extractLongs(final Lookup lookup, final Class<?> targetType, final String name, final List<?> source, final long[] destination) {
+        final var column = column(lookup, targetType, name);
+        run(source, destination.length, (from, to) -> column.extractLongs(source, destination, from, to));
+        return destination;
+    }
+
+    /**
+     * Copies the values of the field from the elements of the list into the array.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param name The name of the field
+     * @param source The elements
+     * @param destination The array, at least as long as the list
+     * @return The array
+     */
+    public static double[] extractDoubles(final Lookup lookup, final Class<?> targetType, final String name, final List<?> source, final double[] destination) {
+        final var column = column(lookup, targetType, name);
+        run(source, destination.length, (from, to) -> column.extractDoubles(source, destination, from, to));
+        return destination;
+    }
+
+    /**
+     * Sets the field of the elements of the list from the values of the array.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param name The name of the field
+     * @param values The values, at least as many as the elements
+     * @param destination The elements
+     */
+    public static void scatter(final Lookup lookup, final Class<?> targetType, final String name, final int[] values, final List<?> destination) {
+        final var column = column(lookup, targetType, name);
+        run(destination, values.length, (from, to) -> column.scatterInts(values, destination, from, to));
+    }
+
+    /**
+     * Sets the field of the elements of the list from the values of the array.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param name The name of the field
+     * @param values The values, at least as many as the elements
+     * @param destination The elements
+     */
+    public static void scatter(final Lookup lookup, final Class<?> targetType, final String name, final long[] values, final List<?> destination) {
+        final var column = column(lookup, targetType, name);
+        run(destination, values.length, (from, to) -> column.scatterLongs(values, destination, from, to));
+    }
+
+    /**
+     * Sets the field of the elements of the list from the values of the array.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param name The name of the field
+     * @param values The values, at least as many as the elements
+     * @param destination The elements
+     */
+    public static void scatter(final Lookup lookup, final Class<?> targetType, final String name, final double[] values, final List<?> destination) {
+        final var column = column(lookup, targetType, name);
+        run(destination, values.length, (from, to) -> column.scatterDoubles(values, destination, from, to));
+    }
+
+    private static Column column(final Lookup lookup, final Class<?> targetType, final String name) {
+        return HandleCache.computeIfAbsent(lookup, targetType, new ColumnKey(name), () -> createColumn(lookup, targetType, name));
+    }
+
+    private static Column createColumn(final Lookup lookup, final Class<?> targetType, final String name) {
+        try {
+            final var field = Utils.instanceField(targetType, name);
+            final var privateLookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup);
+            final var getter = privateLookup.unreflectGetter(field);
+            final var setter = Modifier.isFinal(field.getModifiers()) ? null : privateLookup.unreflectSetter(field);
+            final var classData = List.of(
+                    Accessors.adapt(field, getter, methodType(int.class, Object.class), true),
+                    Accessors.adapt(field, setter, methodType(void.class, Object.class, int.class), true),
+                    Accessors.adapt(field, getter, methodType(long.class, Object.class), true),
+                    Accessors.adapt(field, setter, methodType(void.class, Object.class, long.class), true),
+                    Accessors.adapt(field, getter, methodType(double.class, Object.class), true),
+                    Accessors.adapt(field, setter, methodType(void.class, Object.class, double.class), true));
+            return (Column) ClassGenerator.defineFromTemplate(GeneratedColumn.class, classData);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Processes the elements of the list, checking the size of the array first.
+     * Small lists and the ones without random access are processed on the
+     * calling thread, others are split into ranges processed in parallel.
+     * @param list The elements
+     * @param length The length of the array
+     * @param range Processes a range of the elements
+     */
+    private static void run(final List<?> list, final int length, final Ranges.Range range) {
+        final var size = list.size();
+        Objects.checkFromIndexSize(0, size, length);
+        if (size <= THRESHOLD || !(list instanceof RandomAccess)) {
+            range.process(0, size);
+        } else {
+            Ranges.invoke(ForkJoinPool.commonPool(), size, THRESHOLD, range);
+        }
+    }
+
+    private record ColumnKey(String name) {}
+}
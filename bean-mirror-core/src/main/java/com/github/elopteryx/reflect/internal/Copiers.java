@@ -0,0 +1,113 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the bean copiers. The matching fields are paired only once,
+ * and the copy of every pair is combined into a single method handle,
+ * which is held as a constant by a generated class.
+ */
+public final class Copiers {
+
+    private static final List<Class<?>> WIDENING_ORDER = List.of(byte.class, short.class, int.class, long.class, float.class, double.class);
+
+    private Copiers() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the copier for the given types, creating it if it was
+     * not created before for the same lookup.
+     * @param lookup The lookup used for access check
+     * @param sourceType The type of the source objects
+     * @param destinationType The type of the destination objects
+     * @param <S> Generic param for the source
+     * @param <D> Generic param for the destination
+     * @return The copier
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, D> BiConsumer<S, D> copier(final Lookup lookup, final Class<S> sourceType, final Class<D> destinationType) {
+        return HandleCache.computeIfAbsent(lookup, sourceType, new CopierKey(destinationType), List.of(destinationType),
+                () -> (BiConsumer<S, D>) createCopier(lookup, sourceType, destinationType, UnaryOperator.identity()));
+    }
+
+    /**
+     * Creates a new copier for the given types, with a name mapping.
+     * @param lookup The lookup used for access check
+     * @param sourceType The type of the source objects
+     * @param destinationType The type of the destination objects
+     * @param nameMapping Maps the name of a source field to the name of the destination field, or to null to skip it
+     * @param <S> Generic param for the source
+     * @param <D> Generic param for the destination
+     * @return The copier
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, D> BiConsumer<S, D> copier(final Lookup lookup, final Class<S> sourceType, final Class<D> destinationType, final UnaryOperator<String> nameMapping) {
+        return (BiConsumer<S, D>) createCopier(lookup, sourceType, destinationType, nameMapping);
+    }
+
+    private static BiConsumer<?, ?> createCopier(final Lookup lookup, final Class<?> sourceType, final Class<?> destinationType, final UnaryOperator<String> nameMapping) {
+        try {
+            final var destinationFields = new HashMap<String, Field>();
+            for (final var field : Utils.instanceFields(destinationType)) {
+                destinationFields.put(field.getName(), field);
+            }
+            // (destination, source) -> void
+            var methodHandle = MethodHandles.empty(methodType(void.class, destinationType, sourceType));
+            for (final var source : Utils.instanceFields(sourceType)) {
+                final var name = nameMapping.apply(source.getName());
+                final var destination = name == null ? null : destinationFields.get(name);
+                if (destination == null || Modifier.isFinal(destination.getModifiers()) || !isCompatible(source.getType(), destination.getType())) {
+                    continue;
+                }
+                final var getter = MethodHandles.privateLookupIn(source.getDeclaringClass(), lookup).unreflectGetter(source)
+                        .asType(methodType(destination.getType(), sourceType));
+                final var setter = MethodHandles.privateLookupIn(destination.getDeclaringClass(), lookup).unreflectSetter(destination)
+                        .asType(methodType(void.class, destinationType, destination.getType()));
+                methodHandle = MethodHandles.foldArguments(MethodHandles.filterArguments(setter, 1, getter), methodHandle);
+            }
+            final var copier = MethodHandles.permuteArguments(methodHandle, methodType(void.class, sourceType, destinationType), 1, 0)
+                    .asType(methodType(void.class, Object.class, Object.class));
+            return (BiConsumer<?, ?>) ClassGenerator.defineFromTemplate(GeneratedSetter.class, copier);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Checks whether a value of the source type can be stored in the
+     * destination type without a cast, either as a reference or with
+     * a primitive widening conversion.
+     * @param sourceType The type of the source field
+     * @param destinationType The type of the destination field
+     * @return Whether the value can be copied
+     */
+    private static boolean isCompatible(final Class<?> sourceType, final Class<?> destinationType) {
+        if (sourceType == destinationType) {
+            return true;
+        }
+        if (!sourceType.isPrimitive() && !destinationType.isPrimitive()) {
+            return destinationType.isAssignableFrom(sourceType);
+        }
+        if (sourceType == char.class) {
+            return WIDENING_ORDER.indexOf(destinationType) >= WIDENING_ORDER.indexOf(int.class);
+        }
+        final var sourceIndex = WIDENING_ORDER.indexOf(sourceType);
+        return sourceIndex >= 0 && WIDENING_ORDER.indexOf(destinationType) > sourceIndex;
+    }
+
+    private record CopierKey(Class<?> destinationType) {}
+}
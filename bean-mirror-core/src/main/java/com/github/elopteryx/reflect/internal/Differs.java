@@ -0,0 +1,86 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.Differ;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+
+/**
+ * Creates the differs. Every instance field is compared by its own
+ * method handle, which reports the change to the sink and returns one,
+ * or returns zero for equal values. The results are added together by
+ * a single combined handle, which is held as a constant by a generated
+ * class, so a comparison does not resolve or allocate anything, except
+ * the boxed values of the changed primitive properties.
+ */
+public final class Differs {
+
+    /**
+     * The type of the handle comparing the fields of two objects.
+     */
+    private static final MethodType DIFF_TYPE = methodType(int.class, Object.class, Object.class, Differ.Sink.class);
+
+    private static final MethodHandle ZERO = MethodHandles.dropArguments(MethodHandles.constant(int.class, 0), 0, DIFF_TYPE.parameterList());
+
+    private static final MethodHandle ONE = MethodHandles.dropArguments(MethodHandles.constant(int.class, 1), 0, DIFF_TYPE.parameterList());
+
+    private static final MethodHandle CHANGED;
+
+    private static final MethodHandle ADD;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            CHANGED = lookup.findVirtual(Differ.Sink.class, "changed", methodType(void.class, int.class, Object.class, Object.class));
+            ADD = lookup.findStatic(Integer.class, "sum", methodType(int.class, int.class, int.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Differs() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the differ for the given type, creating it if it
+     * was not created before for the same lookup.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return The differ
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Differ<T> differ(final Lookup lookup, final Class<T> targetType) {
+        return HandleCache.computeIfAbsent(lookup, targetType, Differ.class, () -> (Differ<T>) createDiffer(lookup, targetType));
+    }
+
+    private static Differ<?> createDiffer(final Lookup lookup, final Class<?> targetType) {
+        try {
+            final var fields = Utils.instanceFields(targetType);
+            var diff = ZERO;
+            for (var i = 0; i < fields.size(); i++) {
+                final var field = fields.get(i);
+                final var getter = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup).unreflectGetter(field)
+                        .asType(methodType(Object.class, Object.class));
+                // (Sink,Object,Object)void, then (Object,Object,Sink)void
+                final var changed = MethodHandles.filterArguments(MethodHandles.insertArguments(CHANGED, 1, i), 1, getter, getter);
+                final var report = MethodHandles.foldArguments(ONE, MethodHandles.permuteArguments(changed, DIFF_TYPE.changeReturnType(void.class), 2, 0, 1));
+                final var fieldDiff = MethodHandles.guardWithTest(
+                        MethodHandles.dropArguments(Equivalences.equality(lookup, field), 2, Differ.Sink.class), ZERO, report);
+                // The previous fields are compared first, then the current one
+                final var sum = MethodHandles.collectArguments(MethodHandles.collectArguments(ADD, 1, fieldDiff), 0, diff);
+                diff = MethodHandles.permuteArguments(sum, DIFF_TYPE, 0, 1, 2, 0, 1, 2);
+            }
+            return (Differ<?>) ClassGenerator.defineFromTemplate(GeneratedDiffer.class, diff);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.Equivalence;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates the equivalences and comparators, compiled from a list of fields.
+ * The comparison of every field is combined into a single method handle,
+ * which is held as a constant by a generated class. Primitive fields are
+ * compared with the methods of their wrapper types, without boxing. The
+ * byte, short and char fields are widened to int first.
+ */
+public final class Equivalences {
+
+    private static final MethodHandle TRUE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class, Object.class);
+
+    private static final MethodHandle FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+
+    private static final MethodHandle INITIAL_HASH = MethodHandles.dropArguments(MethodHandles.constant(int.class, 1), 0, Object.class);
+
+    private static final MethodHandle EQUAL_ORDER = MethodHandles.dropArguments(MethodHandles.constant(int.class, 0), 0, Object.class, Object.class);
+
+    private static final MethodHandle COMBINE_HASH;
+
+    private static final MethodHandle IS_ZERO;
+
+    private static final Map<Class<?>, Strategy> STRATEGIES;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            COMBINE_HASH = lookup.findStatic(Equivalences.class, "combineHash", methodType(int.class, int.class, int.class));
+            IS_ZERO = lookup.findStatic(Equivalences.class, "isZero", methodType(boolean.class, int.class));
+            final var intStrategy = strategy(lookup, int.class, Integer.class, "equalInts");
+            STRATEGIES = Map.of(
+                    boolean.class, strategy(lookup, boolean.class, Boolean.class, "equalBooleans"),
+                    byte.class, intStrategy,
+                    short.class, intStrategy,
+                    char.class, intStrategy,
+                    int.class, intStrategy,
+                    long.class, strategy(lookup, long.class, Long.class, "equalLongs"),
+                    float.class, strategy(lookup, float.class, Float.class, "equalFloats"),
+                    double.class, strategy(lookup, double.class, Double.class, "equalDoubles"),
+                    Object.class, new Strategy(Object.class,
+                            lookup.findStatic(Objects.class, "equals", methodType(boolean.class, Object.class, Object.class)),
+                            lookup.findStatic(Objects.class, "hashCode", methodType(int.class, Object.class)),
+                            lookup.findStatic(Equivalences.class, "compareReferences", methodType(int.class, Object.class, Object.class))));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Equivalences() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the equivalence for the given fields, creating it if it
+     * was not created before for the same lookup.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param names The names of the fields, or none for every instance field
+     * @param <T> Generic param for the class
+     * @return The equivalence
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Equivalence<T> equivalence(final Lookup lookup, final Class<T> targetType, final String... names) {
+        return HandleCache.computeIfAbsent(lookup, targetType, new EquivalenceKey(List.of(names)),
+                () -> (Equivalence<T>) createEquivalence(lookup, targetType, names));
+    }
+
+    /**
+     * Returns the comparator for the given fields, creating it if it was
+     * not created before for the same lookup. The objects are ordered by
+     * the first field, then by the next one for equal values and so on.
+     * Reference fields must be comparable, null values come first.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param names The names of the fields, or none for every instance field
+     * @param <T> Generic param for the class
+     * @return The comparator
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Comparator<T> comparator(final Lookup lookup, final Class<T> targetType, final String... names) {
+        return HandleCache.computeIfAbsent(lookup, targetType, new ComparatorKey(List.of(names)),
+                () -> (Comparator<T>) createComparator(lookup, targetType, names));
+    }
+
+    private static Equivalence<?> createEquivalence(final Lookup lookup, final Class<?> targetType, final String... names) {
+        try {
+            final var fields = fields(targetType, names);
+            var equivalent = TRUE;
+            var hash = INITIAL_HASH;
+            for (var i = fields.size() - 1; i >= 0; i--) {
+                equivalent = MethodHandles.guardWithTest(equality(lookup, fields.get(i)), equivalent, FALSE);
+            }
+            for (final var field : fields) {
+                final var strategy = strategy(field.getType());
+                final var fieldHash = MethodHandles.filterReturnValue(getter(lookup, field, strategy), strategy.hash());
+                hash = MethodHandles.permuteArguments(MethodHandles.filterArguments(COMBINE_HASH, 0, hash, fieldHash), methodType(int.class, Object.class), 0, 0);
+            }
+            return (Equivalence<?>) ClassGenerator.defineFromTemplate(GeneratedEquivalence.class, List.of(equivalent, hash));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    private static Comparator<?> createComparator(final Lookup lookup, final Class<?> targetType, final String... names) {
+        try {
+            final var fields = fields(targetType, names);
+            var compare = EQUAL_ORDER;
+            for (var i = fields.size() - 1; i >= 0; i--) {
+                final var field = fields.get(i);
+                if (!field.getType().isPrimitive() && !Comparable.class.isAssignableFrom(field.getType())) {
+                    throw new IllegalArgumentException("Property " + field.getName() + " with type " + field.getType() + " is not comparable.");
+                }
+                final var strategy = strategy(field.getType());
+                final var getter = getter(lookup, field, strategy);
+                final var fieldCompare = MethodHandles.filterArguments(strategy.compare(), 0, getter, getter);
+                if (i == fields.size() - 1) {
+                    compare = fieldCompare;
+                } else {
+                    // (int,Object,Object)int, returns the given result, unless it is zero
+                    final var next = MethodHandles.guardWithTest(
+                            MethodHandles.dropArguments(IS_ZERO, 1, Object.class, Object.class),
+                            MethodHandles.dropArguments(compare, 0, int.class),
+                            MethodHandles.dropArguments(MethodHandles.identity(int.class), 1, Object.class, Object.class));
+                    compare = MethodHandles.foldArguments(next, fieldCompare);
+                }
+            }
+            return (Comparator<?>) ClassGenerator.defineFromTemplate(GeneratedComparator.class, compare);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    private static List<Field> fields(final Class<?> targetType, final String... names) throws NoSuchFieldException {
+        if (names.length == 0) {
+            return Utils.instanceFields(targetType);
+        }
+        final var fields = new ArrayList<Field>(names.length);
+        for (final var name : names) {
+            fields.add(Utils.instanceField(targetType, name));
+        }
+        return fields;
+    }
+
+    /**
+     * Creates the handle which compares the field of two objects for equality,
+     * the same way as the equivalences, without boxing primitive values.
+     * @param lookup The lookup used for access check
+     * @param field The field
+     * @return The method handle, with the (Object,Object)boolean type
+     * @throws IllegalAccessException If the field cannot be accessed
+     */
+    static MethodHandle equality(final Lookup lookup, final Field field) throws IllegalAccessException {
+        final var strategy = strategy(field.getType());
+        final var getter = getter(lookup, field, strategy);
+        return MethodHandles.filterArguments(strategy.equal(), 0, getter, getter);
+    }
+
+    private static MethodHandle getter(final Lookup lookup, final Field field, final Strategy strategy) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup).unreflectGetter(field)
+                .asType(methodType(strategy.type(), Object.class));
+    }
+
+    private static Strategy strategy(final Class<?> fieldType) {
+        return STRATEGIES.get(fieldType.isPrimitive() ? fieldType : Object.class);
+    }
+
+    private static Strategy strategy(final Lookup lookup, final Class<?> type, final Class<?> wrapper, final String equalName) throws NoSuchMethodException, IllegalAccessException {
+        return new Strategy(type,
+                lookup.findStatic(Equivalences.class, equalName, methodType(boolean.class, type, type)),
+                lookup.findStatic(wrapper, "hashCode", methodType(int.class, type)),
+                lookup.findStatic(wrapper, "compare", methodType(int.class, type, type)));
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean equalBooleans(final boolean first, final boolean second) {
+        return first == second;
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean equalInts(final int first, final int second) {
+        return first == second;
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean equalLongs(final long first, final long second) {
+        return first == second;
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean equalFloats(final float first, final float second) {
+        return Float.floatToIntBits(first) == Float.floatToIntBits(second);
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean equalDoubles(final double first, final double second) {
+        return Double.doubleToLongBits(first) == Double.doubleToLongBits(second);
+    }
+
+    @SuppressWarnings({"unused", "unchecked"})
+    private static int compareReferences(final Object first, final Object second) {
+        if (first == second) {
+            return 0;
+        }
+        if (first == null) {
+            return -1;
+        }
+        if (second == null) {
+            return 1;
+        }
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    @SuppressWarnings("unused")
+    private static int combineHash(final int hash, final int fieldHash) {
+        return 31 * hash + fieldHash;
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean isZero(final int value) {
+        return value == 0;
+    }
+
+    /**
+     * The method handles used for the fields of a type.
+     * @param type The type the field values are converted to
+     * @param equal Compares two values for equality
+     * @param hash Computes the hash code of a value
+     * @param compare Compares the order of two values
+     */
+    private record Strategy(Class<?> type, MethodHandle equal, MethodHandle hash, MethodHandle compare) {}
+
+    private record EquivalenceKey(List<String> names) {}
+
+    private record ComparatorKey(List<String> names) {}
+}
@@ -3,15 +3,34 @@ package com.github.elopteryx.reflect.internal;
 import static com.github.elopteryx.reflect.internal.Utils.wrapper;
 
 import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.CasUpdater;
 
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public final class Functional {
 
@@ -100,6 +119,581 @@ public final class Functional {
         }
     }
 
+    /**
+     * Primitive int getter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new function
+     */
+    public static <T> ToIntFunction<T> createIntGetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, int.class);
+            return obj -> (int) varHandle.get(obj);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive int static getter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new supplier
+     */
+    public static <T> IntSupplier createStaticIntGetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, int.class);
+            return () -> (int) varHandle.get();
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive int setter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new consumer
+     */
+    public static <T> ObjIntConsumer<T> createIntSetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, int.class);
+            return (target, value) -> varHandle.set(target, value);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive int static setter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new consumer
+     */
+    public static <T> IntConsumer createStaticIntSetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, int.class);
+            return value -> varHandle.set(value);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive long getter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new function
+     */
+    public static <T> ToLongFunction<T> createLongGetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, long.class);
+            return obj -> (long) varHandle.get(obj);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive long static getter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new supplier
+     */
+    public static <T> LongSupplier createStaticLongGetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, long.class);
+            return () -> (long) varHandle.get();
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive long setter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new consumer
+     */
+    public static <T> ObjLongConsumer<T> createLongSetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, long.class);
+            return (target, value) -> varHandle.set(target, value);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive long static setter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new consumer
+     */
+    public static <T> LongConsumer createStaticLongSetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, long.class);
+            return value -> varHandle.set(value);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive double getter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new function
+     */
+    public static <T> ToDoubleFunction<T> createDoubleGetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, double.class);
+            return obj -> (double) varHandle.get(obj);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive double static getter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new supplier
+     */
+    public static <T> DoubleSupplier createStaticDoubleGetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, double.class);
+            return () -> (double) varHandle.get();
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive double setter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new consumer
+     */
+    public static <T> ObjDoubleConsumer<T> createDoubleSetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, double.class);
+            return (target, value) -> varHandle.set(target, value);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Primitive double static setter creator method used by both Mirror implementations.
+     * The value of the field is not boxed.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new consumer
+     */
+    public static <T> DoubleConsumer createStaticDoubleSetter(final String name, final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, double.class);
+            return value -> varHandle.set(value);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Volatile getter creator method used by both Mirror implementations.
+     * The field is read with volatile memory semantics, even if it is
+     * not declared volatile.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param returnType The field type
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the field
+     * @return A new function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> createVolatileGetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        try {
+            final var field = Utils.instanceField(targetType, name);
+            final var varHandle = HandleCache.findVarHandle(lookup, field.getDeclaringClass(), name, returnType);
+            final var classToUse = (Class<R>) wrapper(returnType);
+            return obj -> classToUse.cast(varHandle.getVolatile(obj));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Compare-and-set updater creator method used by both Mirror implementations.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param fieldType The field type
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the field
+     * @return A new updater
+     */
+    public static <T, R> CasUpdater<T, R> createCasUpdater(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> fieldType) {
+        try {
+            final var field = Utils.instanceField(targetType, name);
+            if (Modifier.isFinal(field.getModifiers())) {
+                throw new IllegalArgumentException("Property " + name + " is final.");
+            }
+            final var varHandle = HandleCache.findVarHandle(lookup, field.getDeclaringClass(), name, fieldType);
+            return (target, expected, newValue) -> varHandle.compareAndSet(target, expected, newValue);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Factory creator method, using the constructor with the given parameter types.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param types The constructor parameter types
+     * @param <T> Generic param for the class
+     * @return A new function, taking the constructor arguments as an array
+     */
+    public static <T> Function<Object[], T> createFactory(final Lookup lookup, final Class<T> targetType, final Class<?>... types) {
+        try {
+            final var methodHandle = HandleCache.findConstructor(lookup, targetType, types);
+            return args -> {
+                try {
+                    return targetType.cast((Object) methodHandle.invokeExact(args));
+                } catch (final Throwable throwable) {
+                    throw new BeanMirrorException(throwable);
+                }
+            };
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Supplier creator method, using the constructor without parameters.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new supplier
+     */
+    public static <T> Supplier<T> createSupplier(final Lookup lookup, final Class<T> targetType) {
+        try {
+            final var methodHandle = HandleCache.findConstructor(lookup, targetType);
+            final var noArgs = new Object[0];
+            return () -> {
+                try {
+                    return targetType.cast((Object) methodHandle.invokeExact(noArgs));
+                } catch (final Throwable throwable) {
+                    throw new BeanMirrorException(throwable);
+                }
+            };
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Generated getter creator method used by both Mirror implementations.
+     * Instead of capturing the handle in a lambda, a new hidden class is
+     * defined, which holds the handle as a constant.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param returnType The field type
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the field
+     * @return A new function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> generateGetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        try {
+            final var methodHandle = getLookup(name, lookup, targetType).findGetter(targetType, name, returnType)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return (Function<T, R>) ClassGenerator.defineFromTemplate(GeneratedGetter.class, methodHandle);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Generated setter creator method used by both Mirror implementations.
+     * Instead of capturing the handle in a lambda, a new hidden class is
+     * defined, which holds the handle as a constant.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param returnType The field type
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the field
+     * @return A new bi-consumer
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> BiConsumer<T, R> generateSetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        try {
+            final var methodHandle = getLookup(name, lookup, targetType).findSetter(targetType, name, returnType)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (BiConsumer<T, R>) ClassGenerator.defineFromTemplate(GeneratedSetter.class, methodHandle);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Generated getter creator method, which binds a getter method
+     * with the lambda metafactory. The method must not have parameters.
+     * @param name The method name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param returnType The return type of the method
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the return type
+     * @return A new function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> generateMethodGetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        try {
+            final var privateLookup = MethodHandles.privateLookupIn(targetType, lookup);
+            final var methodHandle = privateLookup.findVirtual(targetType, name, MethodType.methodType(returnType));
+            return ClassGenerator.metafactory(privateLookup, Function.class, "apply", MethodType.methodType(Object.class, Object.class),
+                    methodHandle, MethodType.methodType(wrapper(returnType), targetType));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Generated setter creator method, which binds a setter method
+     * with the lambda metafactory. The method must have a single
+     * parameter. Its return value, if it has one, is discarded.
+     * @param name The method name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param valueType The parameter type of the method
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the parameter
+     * @return A new bi-consumer
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> BiConsumer<T, R> generateMethodSetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> valueType) {
+        try {
+            final var privateLookup = MethodHandles.privateLookupIn(targetType, lookup);
+            MethodHandle methodHandle;
+            try {
+                methodHandle = privateLookup.findVirtual(targetType, name, MethodType.methodType(void.class, valueType));
+            } catch (final NoSuchMethodException e) {
+                methodHandle = privateLookup.findVirtual(targetType, name, MethodType.methodType(targetType, valueType));
+            }
+            return ClassGenerator.metafactory(privateLookup, BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class),
+                    methodHandle, MethodType.methodType(void.class, targetType, wrapper(valueType)));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Binds a static or virtual method of the class to an instance of
+     * the given functional interface, with the lambda metafactory. A static
+     * method must take the same number of parameters as the single abstract
+     * method of the interface. For a virtual method the first parameter of
+     * the abstract method is the receiver, followed by the arguments.
+     * The instances are cached, so the same interface and method
+     * returns the same instance, unless the interface is not visible
+     * from the class loader of the class.
+     * @param name The method name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param functionalInterface The functional interface to implement
+     * @param <T> Generic param for the class
+     * @param <F> Generic param for the functional interface
+     * @return The cached instance of the functional interface
+     */
+    public static <T, F> F createMethod(final String name, final Lookup lookup, final Class<T> targetType, final Class<F> functionalInterface) {
+        return HandleCache.computeIfAbsent(lookup, targetType, new BindingKey(name, functionalInterface), List.of(functionalInterface), () -> {
+            try {
+                return bindMethod(name, lookup, targetType, functionalInterface);
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        });
+    }
+
+    private static <F> F bindMethod(final String name, final Lookup lookup, final Class<?> targetType, final Class<F> functionalInterface) throws Throwable {
+        final var abstractMethods = abstractMethods(functionalInterface);
+        final var single = abstractMethods.get(0);
+        final var erasedType = MethodType.methodType(single.getReturnType(), single.getParameterTypes());
+        final var bridges = abstractMethods.stream()
+                .skip(1)
+                .map(method -> MethodType.methodType(method.getReturnType(), method.getParameterTypes()))
+                .toArray(MethodType[]::new);
+        F result = null;
+        Method found = null;
+        for (final var method : Utils.methods(targetType)) {
+            if (!method.getName().equals(name)) {
+                continue;
+            }
+            final var instantiatedType = instantiatedType(method, erasedType);
+            if (instantiatedType == null) {
+                continue;
+            }
+            final var caller = MethodHandles.privateLookupIn(method.getDeclaringClass(), lookup);
+            final F bound;
+            try {
+                bound = ClassGenerator.metafactory(caller, functionalInterface, single.getName(), erasedType, caller.unreflect(method), instantiatedType, bridges);
+            } catch (final LambdaConversionException expected) {
+                // The types are not compatible, try the next method.
+                continue;
+            }
+            if (found != null) {
+                throw new IllegalArgumentException("Both " + found + " and " + method + " can be bound to " + functionalInterface.getName() + ".");
+            }
+            found = method;
+            result = bound;
+        }
+        if (result == null) {
+            throw new NoSuchMethodException("No method " + name + " matching " + functionalInterface.getName() + " could be found on type " + targetType + ".");
+        }
+        return result;
+    }
+
+    /**
+     * Collects the abstract methods of the functional interface, the ones
+     * inherited from Object are ignored. Generic super interfaces can add
+     * more abstract methods with the same name and count of parameters,
+     * these are returned after the most specific method, as bridges.
+     * @param functionalInterface The functional interface
+     * @return The abstract methods, the most specific one first
+     */
+    private static List<Method> abstractMethods(final Class<?> functionalInterface) {
+        if (!functionalInterface.isInterface()) {
+            throw new IllegalArgumentException(functionalInterface.getName() + " is not an interface.");
+        }
+        final var methods = new ArrayList<Method>();
+        for (final var method : functionalInterface.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+                methods.add(method);
+            }
+        }
+        final var single = methods.stream()
+                .filter(method -> methods.stream().allMatch(other -> overrides(method, other)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(functionalInterface.getName() + " is not a functional interface."));
+        methods.remove(single);
+        methods.add(0, single);
+        return methods;
+    }
+
+    private static boolean isObjectMethod(final Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (final NoSuchMethodException expected) {
+            return false;
+        }
+    }
+
+    private static boolean overrides(final Method method, final Method other) {
+        if (!method.getName().equals(other.getName()) || method.getParameterCount() != other.getParameterCount()) {
+            return false;
+        }
+        final var types = method.getParameterTypes();
+        final var otherTypes = other.getParameterTypes();
+        for (var i = 0; i < types.length; i++) {
+            if (!otherTypes[i].isAssignableFrom(types[i])) {
+                return false;
+            }
+        }
+        return other.getReturnType().isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Computes the instantiated type of the functional interface, for the
+     * given method. The receiver of a virtual method is the first parameter.
+     * @param method The method to be bound
+     * @param erasedType The erased type of the single abstract method
+     * @return The instantiated type, or null if the method cannot be bound
+     */
+    private static MethodType instantiatedType(final Method method, final MethodType erasedType) {
+        final var isStatic = Modifier.isStatic(method.getModifiers());
+        final var implTypes = new ArrayList<Class<?>>(method.getParameterCount() + 1);
+        if (!isStatic) {
+            implTypes.add(method.getDeclaringClass());
+        }
+        implTypes.addAll(List.of(method.getParameterTypes()));
+        if (implTypes.size() != erasedType.parameterCount()) {
+            return null;
+        }
+        final var types = new Class<?>[implTypes.size()];
+        for (var i = 0; i < types.length; i++) {
+            types[i] = narrower(erasedType.parameterType(i), implTypes.get(i));
+            if (types[i] == null) {
+                return null;
+            }
+        }
+        final var erasedReturn = erasedType.returnType();
+        final var implReturn = method.getReturnType();
+        final Class<?> returnType;
+        if (erasedReturn == void.class || erasedReturn.isPrimitive()) {
+            returnType = erasedReturn;
+        } else if (implReturn != void.class && erasedReturn.isAssignableFrom(wrapper(implReturn))) {
+            returnType = wrapper(implReturn);
+        } else {
+            return null;
+        }
+        return MethodType.methodType(returnType, types);
+    }
+
+    private static Class<?> narrower(final Class<?> erased, final Class<?> actual) {
+        if (erased.isPrimitive()) {
+            return erased;
+        }
+        final var wrapped = wrapper(actual);
+        if (erased.isAssignableFrom(wrapped)) {
+            return wrapped;
+        }
+        return wrapped.isAssignableFrom(erased) ? erased : null;
+    }
+
+    /**
+     * Identifies a method bound to a functional interface in the cache.
+     */
+    private record BindingKey(String name, Class<?> functionalInterface) {}
+
     private static <T> Lookup getLookup(final String name, final Lookup lookup, final Class<T> targetType) throws IllegalAccessException, NoSuchFieldException {
         final var field = targetType.getDeclaredField(name);
         return isPrivateAndModifiable(field) ? MethodHandles.privateLookupIn(targetType, lookup) : lookup;
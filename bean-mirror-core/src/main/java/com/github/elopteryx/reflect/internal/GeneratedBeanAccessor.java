@@ -0,0 +1,121 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.BeanAccessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
+/**
+ * Template for the generated bean accessors. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is a list, containing the property metadata and
+ * the table switch handles, created by {@link Accessors}.
+ */
+final class GeneratedBeanAccessor implements BeanAccessor<Object> {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final AccessorProperties PROPERTIES = ClassGenerator.classDataAt(LOOKUP, AccessorProperties.class, 0);
+
+    private static final MethodHandle GET = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 1);
+    private static final MethodHandle SET = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 2);
+    private static final MethodHandle GET_INT = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 3);
+    private static final MethodHandle SET_INT = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 4);
+    private static final MethodHandle GET_LONG = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 5);
+    private static final MethodHandle SET_LONG = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 6);
+    private static final MethodHandle GET_DOUBLE = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 7);
+    private static final MethodHandle SET_DOUBLE = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 8);
+
+    @Override
+    public int size() {
+        return PROPERTIES.names().size();
+    }
+
+    @Override
+    public String name(final int index) {
+        return PROPERTIES.names().get(index);
+    }
+
+    @Override
+    public Class<?> type(final int index) {
+        return PROPERTIES.types().get(index);
+    }
+
+    @Override
+    public int indexOf(final String name) {
+        return PROPERTIES.indices().getOrDefault(name, -1);
+    }
+
+    @Override
+    public Object get(final Object target, final int index) {
+        try {
+            return (Object) GET.invokeExact(index, target);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void set(final Object target, final int index, final Object value) {
+        try {
+            SET.invokeExact(index, target, value);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public int getInt(final Object target, final int index) {
+        try {
+            return (int) GET_INT.invokeExact(index, target);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void setInt(final Object target, final int index, final int value) {
+        try {
+            SET_INT.invokeExact(index, target, value);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public long getLong(final Object target, final int index) {
+        try {
+            return (long) GET_LONG.invokeExact(index, target);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void setLong(final Object target, final int index, final long value) {
+        try {
+            SET_LONG.invokeExact(index, target, value);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public double getDouble(final Object target, final int index) {
+        try {
+            return (double) GET_DOUBLE.invokeExact(index, target);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void setDouble(final Object target, final int index, final double value) {
+        try {
+            SET_DOUBLE.invokeExact(index, target, value);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.BinaryCodec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.nio.ByteBuffer;
+
+/**
+ * Template for the generated binary codecs. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is a list of the size handle, with an (Object)int type,
+ * the encoding handle, with an (Object,ByteBuffer)void type, the
+ * constructor, with an ()Object type, the decoding handle, with
+ * an (Object,ByteBuffer)void type, created by {@link BinaryCodecs},
+ * and the type of the beans.
+ */
+final class GeneratedBinaryCodec implements BinaryCodec<Object> {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle SIZE = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 0);
+
+    private static final MethodHandle ENCODE = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 1);
+
+    private static final MethodHandle CONSTRUCTOR = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 2);
+
+    private static final MethodHandle DECODE = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 3);
+
+    private static final Class<?> TYPE = ClassGenerator.classDataAt(LOOKUP, Class.class, 4);
+
+    @Override
+    public int size(final Object value) {
+        BinaryCodecs.checkType(TYPE, value);
+        try {
+            return (int) SIZE.invokeExact(value);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void encode(final Object value, final ByteBuffer buffer) {
+        BinaryCodecs.checkType(TYPE, value);
+        final var position = buffer.position();
+        try {
+            ENCODE.invokeExact(value, buffer);
+        } catch (final Throwable throwable) {
+            // The bean is not written partially, even if a nested bean is rejected
+            buffer.position(position);
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public Object decode(final ByteBuffer buffer) {
+        final var position = buffer.position();
+        try {
+            final var value = (Object) CONSTRUCTOR.invokeExact();
+            DECODE.invokeExact(value, buffer);
+            return value;
+        } catch (final Throwable throwable) {
+            buffer.position(position);
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Template for the generated columns. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is a list of the getter and setter handles of
+ * the field, adapted to each primitive type, created by {@link Columns}.
+ * As the handles are constants, the loops are compiled with the
+ * field access inlined.
+ */
+final class GeneratedColumn implements Column {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle GET_INT = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 0);
+    private static final MethodHandle SET_INT = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 1);
+    private static final MethodHandle GET_LONG = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 2);
+    private static final MethodHandle SET_LONG = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 3);
+    private static final MethodHandle GET_DOUBLE = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 4);
+    private static final MethodHandle SET_DOUBLE = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 5);
+
+    @Override
+    public void extractInts(final List<?> source, final int[] destination, final int from, final int to) {
+        try {
+            if (source instanceof RandomAccess) {
+                for (var i = from; i < to; i++) {
+                    destination[i] = (int) GET_INT.invokeExact((Object) source.get(i));
+                }
+            } else {
+                final var iterator = source.listIterator(from);
+                for (var i = from; i < to; i++) {
+                    destination[i] = (int) GET_INT.invokeExact((Object) iterator.next());
+                }
+            }
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void extractLongs(final List<?> source, final long[] destination, final int from, final int to) {
+        try {
+            if (source instanceof RandomAccess) {
+                for (var i = from; i < to; i++) {
+                    destination[i] = (long) GET_LONG.invokeExact((Object) source.get(i));
+                }
+            } else {
+                final var iterator = source.listIterator(from);
+                for (var i = from; i < to; i++) {
+                    destination[i] = (long) GET_LONG.invokeExact((Object) iterator.next());
+                }
+            }
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void extractDoubles(final List<?> source, final double[] destination, final int from, final int to) {
+        try {
+            if (source instanceof RandomAccess) {
+                for (var i = from; i < to; i++) {
+                    destination[i] = (double) GET_DOUBLE.invokeExact((Object) source.get(i));
+                }
+            } else {
+                final var iterator = source.listIterator(from);
+                for (var i = from; i < to; i++) {
+                    destination[i] = (double) GET_DOUBLE.invokeExact((Object) iterator.next());
+                }
+            }
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void scatterInts(final int[] source, final List<?> destination, final int from, final int to) {
+        try {
+            if (destination instanceof RandomAccess) {
+                for (var i = from; i < to; i++) {
+                    SET_INT.invokeExact((Object) destination.get(i), source[i]);
+                }
+            } else {
+                final var iterator = destination.listIterator(from);
+                for (var i = from; i < to; i++) {
+                    SET_INT.invokeExact((Object) iterator.next(), source[i]);
+                }
+            }
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void scatterLongs(final long[] source, final List<?> destination, final int from, final int to) {
+        try {
+            if (destination instanceof RandomAccess) {
+                for (var i = from; i < to; i++) {
+                    SET_LONG.invokeExact((Object) destination.get(i), source[i]);
+                }
+            } else {
+                final var iterator = destination.listIterator(from);
+                for (var i = from; i < to; i++) {
+                    SET_LONG.invokeExact((Object) iterator.next(), source[i]);
+                }
+            }
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public void scatterDoubles(final double[] source, final List<?> destination, final int from, final int to) {
+        try {
+            if (destination instanceof RandomAccess) {
+                for (var i = from; i < to; i++) {
+                    SET_DOUBLE.invokeExact((Object) destination.get(i), source[i]);
+                }
+            } else {
+                final var iterator = destination.listIterator(from);
+                for (var i = from; i < to; i++) {
+                    SET_DOUBLE.invokeExact((Object) iterator.next(), source[i]);
+                }
+            }
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
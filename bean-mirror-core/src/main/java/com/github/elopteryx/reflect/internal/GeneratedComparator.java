@@ -0,0 +1,25 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Comparator;
+
+/**
+ * Template for the generated comparators. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is the comparison handle, with an (Object,Object)int
+ * type, created by {@link Equivalences}.
+ */
+final class GeneratedComparator implements Comparator<Object> {
+
+    private static final MethodHandle HANDLE = ClassGenerator.classData(MethodHandles.lookup(), MethodHandle.class);
+
+    @Override
+    public int compare(final Object first, final Object second) {
+        try {
+            return (int) HANDLE.invokeExact(first, second);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.Differ;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Template for the generated differs. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is the diff handle, with an (Object,Object,Sink)int
+ * type, created by {@link Differs}.
+ */
+final class GeneratedDiffer implements Differ<Object> {
+
+    private static final MethodHandle HANDLE = ClassGenerator.classData(MethodHandles.lookup(), MethodHandle.class);
+
+    @Override
+    public int diff(final Object before, final Object after, final Sink sink) {
+        if (before == after) {
+            return 0;
+        }
+        try {
+            return (int) HANDLE.invokeExact(before, after, sink);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.Equivalence;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
+/**
+ * Template for the generated equivalences. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is a list of the equality handle, with an
+ * (Object,Object)boolean type, and the hash handle, with an
+ * (Object)int type, created by {@link Equivalences}.
+ */
+final class GeneratedEquivalence implements Equivalence<Object> {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle EQUIVALENT = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 0);
+
+    private static final MethodHandle HASH = ClassGenerator.classDataAt(LOOKUP, MethodHandle.class, 1);
+
+    @Override
+    public boolean equivalent(final Object first, final Object second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        try {
+            return (boolean) EQUIVALENT.invokeExact(first, second);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public int hash(final Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return (int) HASH.invokeExact(value);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+
+/**
+ * Template for the generated field getters. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is the getter handle, with an (Object)Object type.
+ */
+final class GeneratedGetter implements Function<Object, Object> {
+
+    private static final MethodHandle HANDLE = ClassGenerator.classData(MethodHandles.lookup(), MethodHandle.class);
+
+    @Override
+    public Object apply(final Object target) {
+        try {
+            return (Object) HANDLE.invokeExact(target);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.BiConsumer;
+
+/**
+ * Template for the generated field setters. Never used directly,
+ * only as a hidden class, defined by the {@link ClassGenerator}.
+ * The class data is the setter handle, with an (Object,Object)void type.
+ */
+final class GeneratedSetter implements BiConsumer<Object, Object> {
+
+    private static final MethodHandle HANDLE = ClassGenerator.classData(MethodHandles.lookup(), MethodHandle.class);
+
+    @Override
+    public void accept(final Object target, final Object value) {
+        try {
+            HANDLE.invokeExact(target, value);
+        } catch (final Throwable throwable) {
+            throw ClassGenerator.rethrow(throwable);
+        }
+    }
+}
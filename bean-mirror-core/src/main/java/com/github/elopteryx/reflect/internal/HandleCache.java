@@ -0,0 +1,347 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the resolved handles, used by both Mirror implementations.
+ *
+ * <p>The handles are stored in two levels of class values. The outer
+ * level is keyed by the lookup class, the inner level by the target type.
+ * Because class values are only reachable from the class they are
+ * attached to, the cache does not pin the class loader of either
+ * class. The entries are stored in concurrent maps, so they can
+ * be safely read by multiple threads.</p>
+ *
+ * <p>Some keys refer to other classes as well, for example the types
+ * of the arguments. These entries are only cached if the other classes
+ * are visible from the class loader of the target type, otherwise the
+ * entry would keep a class loader alive, which is only reachable from
+ * the target type through the entry itself.</p>
+ */
+public final class HandleCache {
+
+    private static final ClassValue<TypeCache> CACHE = new ClassValue<>() {
+        @Override
+        protected TypeCache computeValue(final Class<?> lookupClass) {
+            return new TypeCache();
+        }
+    };
+
+    private HandleCache() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the handle for the given instance field, resolving it
+     * with a private lookup if it is not cached yet.
+     * @param lookup The lookup used for access check
+     * @param type The class type
+     * @param name The field name
+     * @param fieldType The field type
+     * @return The resolved var handle
+     * @throws NoSuchFieldException If the field does not exist
+     * @throws IllegalAccessException If the field cannot be accessed
+     */
+    public static VarHandle findVarHandle(final Lookup lookup, final Class<?> type, final String name, final Class<?> fieldType) throws NoSuchFieldException, IllegalAccessException {
+        return varHandle(lookup, type, name, fieldType, false);
+    }
+
+    /**
+     * Returns the handle for the given static field, resolving it
+     * with a private lookup if it is not cached yet.
+     * @param lookup The lookup used for access check
+     * @param type The class type
+     * @param name The field name
+     * @param fieldType The field type
+     * @return The resolved var handle
+     * @throws NoSuchFieldException If the field does not exist
+     * @throws IllegalAccessException If the field cannot be accessed
+     */
+    public static VarHandle findStaticVarHandle(final Lookup lookup, final Class<?> type, final String name, final Class<?> fieldType) throws NoSuchFieldException, IllegalAccessException {
+        return varHandle(lookup, type, name, fieldType, true);
+    }
+
+    private static VarHandle varHandle(final Lookup lookup, final Class<?> type, final String name, final Class<?> fieldType, final boolean isStatic)
+            throws NoSuchFieldException, IllegalAccessException {
+        if (!isCacheable(lookup) || !isVisible(type, fieldType)) {
+            return resolveVarHandle(lookup, type, name, fieldType, isStatic);
+        }
+        final var fields = handles(lookup, type).fields;
+        final var key = new FieldKey(name, fieldType, isStatic, lookup.lookupModes());
+        final var cached = fields.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final var varHandle = resolveVarHandle(lookup, type, name, fieldType, isStatic);
+        final var previous = fields.putIfAbsent(key, varHandle);
+        return previous == null ? varHandle : previous;
+    }
+
+    private static VarHandle resolveVarHandle(final Lookup lookup, final Class<?> type, final String name, final Class<?> fieldType, final boolean isStatic)
+            throws NoSuchFieldException, IllegalAccessException {
+        final var privateLookup = MethodHandles.privateLookupIn(type, lookup);
+        return isStatic ? privateLookup.findStaticVarHandle(type, name, fieldType) : privateLookup.findVarHandle(type, name, fieldType);
+    }
+
+    /**
+     * Returns the handle for the constructor with the given parameter
+     * types, resolving it with a private lookup if it is not cached yet.
+     * The handle is adapted to take its arguments as an array and to
+     * return the created instance as an object, so it can be invoked
+     * exactly, without knowing the actual signature.
+     * @param lookup The lookup used for access check
+     * @param type The class type
+     * @param types The constructor parameter types
+     * @return The resolved method handle, with the (Object[])Object type
+     * @throws NoSuchMethodException If the constructor does not exist
+     * @throws IllegalAccessException If the constructor cannot be accessed
+     */
+    public static MethodHandle findConstructor(final Lookup lookup, final Class<?> type, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
+        if (!isCacheable(lookup) || !isVisible(type, types)) {
+            return resolveConstructor(lookup, type, types);
+        }
+        final var constructors = handles(lookup, type).constructors;
+        final var key = new ConstructorKey(List.of(types), lookup.lookupModes());
+        final var cached = constructors.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final var methodHandle = resolveConstructor(lookup, type, types);
+        final var previous = constructors.putIfAbsent(key, methodHandle);
+        return previous == null ? methodHandle : previous;
+    }
+
+    private static MethodHandle resolveConstructor(final Lookup lookup, final Class<?> type, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
+        final var privateLookup = MethodHandles.privateLookupIn(type, lookup);
+        return Utils.spread(privateLookup.findConstructor(type, MethodType.methodType(void.class, types)), 0);
+    }
+
+    /**
+     * Returns the handle for the given virtual method, resolving it
+     * with the given resolver if it is not cached yet. Failed
+     * resolutions are cached as well.
+     * @param lookup The lookup used for access check
+     * @param type The receiver type
+     * @param name The method name
+     * @param returnType The requested return type
+     * @param types The argument types
+     * @param resolver The resolver used for a cache miss
+     * @return The resolved method handle
+     * @throws NoSuchMethodException If the method does not exist
+     * @throws IllegalAccessException If the method cannot be accessed
+     */
+    public static MethodHandle findVirtual(final Lookup lookup, final Class<?> type, final String name, final Class<?> returnType, final Class<?>[] types, final Resolver resolver)
+            throws NoSuchMethodException, IllegalAccessException {
+        return methodHandle(lookup, type, new MethodKey(Kind.VIRTUAL, name, returnType, List.of(types), lookup.lookupModes()), resolver);
+    }
+
+    /**
+     * Returns the handle for the given method, invoked as if from an
+     * invokespecial instruction, resolving it with the given resolver
+     * if it is not cached yet. Failed resolutions are cached as well.
+     * @param lookup The lookup used for access check
+     * @param type The receiver type
+     * @param name The method name
+     * @param returnType The requested return type
+     * @param types The argument types
+     * @param resolver The resolver used for a cache miss
+     * @return The resolved method handle
+     * @throws NoSuchMethodException If the method does not exist
+     * @throws IllegalAccessException If the method cannot be accessed
+     */
+    public static MethodHandle findSpecial(final Lookup lookup, final Class<?> type, final String name, final Class<?> returnType, final Class<?>[] types, final Resolver resolver)
+            throws NoSuchMethodException, IllegalAccessException {
+        return methodHandle(lookup, type, new MethodKey(Kind.SPECIAL, name, returnType, List.of(types), lookup.lookupModes()), resolver);
+    }
+
+    /**
+     * Returns the handle for the given static method, resolving it
+     * with the given resolver if it is not cached yet. Failed
+     * resolutions are cached as well.
+     * @param lookup The lookup used for access check
+     * @param type The class type
+     * @param name The method name
+     * @param returnType The requested return type
+     * @param types The argument types
+     * @param resolver The resolver used for a cache miss
+     * @return The resolved method handle
+     * @throws NoSuchMethodException If the method does not exist
+     * @throws IllegalAccessException If the method cannot be accessed
+     */
+    public static MethodHandle findStatic(final Lookup lookup, final Class<?> type, final String name, final Class<?> returnType, final Class<?>[] types, final Resolver resolver)
+            throws NoSuchMethodException, IllegalAccessException {
+        return methodHandle(lookup, type, new MethodKey(Kind.STATIC, name, returnType, List.of(types), lookup.lookupModes()), resolver);
+    }
+
+    private static MethodHandle methodHandle(final Lookup lookup, final Class<?> type, final MethodKey key, final Resolver resolver)
+            throws NoSuchMethodException, IllegalAccessException {
+        if (!isCacheable(lookup) || !isVisible(type, key.returnType()) || !isVisible(type, key.types().toArray(Class<?>[]::new))) {
+            return resolver.resolve();
+        }
+        final var methods = handles(lookup, type).methods;
+        var entry = methods.get(key);
+        if (entry == null) {
+            try {
+                entry = new MethodEntry(resolver.resolve(), null);
+            } catch (final NoSuchMethodException e) {
+                entry = new MethodEntry(null, e.getMessage());
+            }
+            final var previous = methods.putIfAbsent(key, entry);
+            if (previous != null) {
+                entry = previous;
+            }
+        }
+        if (entry.handle() == null) {
+            throw new NoSuchMethodException(entry.failure());
+        }
+        return entry.handle();
+    }
+
+    /**
+     * Returns the value computed from the handles of the given type,
+     * for example a generated accessor, computing it if it is not
+     * cached yet. The value must only depend on the key, the type and
+     * the lookup, because the same value is returned for every lookup
+     * with the same lookup class and modes.
+     * @param lookup The lookup used for access check
+     * @param type The class type
+     * @param key The key identifying the value
+     * @param supplier The supplier used for a cache miss
+     * @param <V> Generic param for the value
+     * @return The cached value
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V computeIfAbsent(final Lookup lookup, final Class<?> type, final Object key, final Supplier<V> supplier) {
+        if (!isCacheable(lookup)) {
+            return supplier.get();
+        }
+        final var values = handles(lookup, type).values;
+        final var valueKey = new ValueKey(key, lookup.lookupModes());
+        final var cached = values.get(valueKey);
+        if (cached != null) {
+            return (V) cached;
+        }
+        final var value = supplier.get();
+        final var previous = values.putIfAbsent(valueKey, value);
+        return previous == null ? value : (V) previous;
+    }
+
+    /**
+     * Same as {@link #computeIfAbsent(Lookup, Class, Object, Supplier)},
+     * for keys which also refer to other classes. The value is only cached
+     * if these classes are visible from the class loader of the type.
+     * @param lookup The lookup used for access check
+     * @param type The class type
+     * @param key The key identifying the value
+     * @param keyTypes The classes the key refers to
+     * @param supplier The supplier used for a cache miss
+     * @param <V> Generic param for the value
+     * @return The cached value
+     */
+    public static <V> V computeIfAbsent(final Lookup lookup, final Class<?> type, final Object key, final List<Class<?>> keyTypes, final Supplier<V> supplier) {
+        if (!isVisible(type, keyTypes.toArray(Class<?>[]::new))) {
+            return supplier.get();
+        }
+        return computeIfAbsent(lookup, type, key, supplier);
+    }
+
+    /**
+     * Checks whether the given classes are defined by the class loader of
+     * the type, or one of its parents. Such classes stay reachable as long
+     * as the type itself, so an entry of the type referring to them does
+     * not keep any other class loader alive.
+     * @param type The class type
+     * @param others The classes referred to by an entry
+     * @return Whether the entry can be cached for the type
+     */
+    static boolean isVisible(final Class<?> type, final Class<?>... others) {
+        for (final var other : others) {
+            final var loader = other.getClassLoader();
+            if (loader == null) {
+                continue;
+            }
+            var current = type.getClassLoader();
+            while (current != null && current != loader) {
+                current = current.getParent();
+            }
+            if (current == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A lookup which was teleported from another module carries
+     * its previous lookup class as well, which also affects the
+     * access check. These are rare, so they are not cached.
+     * @param lookup The lookup used for access check
+     * @return Whether the results of the lookup can be cached
+     */
+    private static boolean isCacheable(final Lookup lookup) {
+        return lookup.previousLookupClass() == null;
+    }
+
+    /**
+     * Resolves a method handle, used if the handle is not cached yet.
+     */
+    @FunctionalInterface
+    public interface Resolver {
+
+        /**
+         * Resolves the method handle.
+         * @return The resolved method handle
+         * @throws NoSuchMethodException If the method does not exist
+         * @throws IllegalAccessException If the method cannot be accessed
+         */
+        MethodHandle resolve() throws NoSuchMethodException, IllegalAccessException;
+    }
+
+    private static Handles handles(final Lookup lookup, final Class<?> type) {
+        return CACHE.get(lookup.lookupClass()).get(type);
+    }
+
+    /**
+     * The inner level of the cache, keyed by the target type.
+     */
+    private static final class TypeCache extends ClassValue<Handles> {
+        @Override
+        protected Handles computeValue(final Class<?> type) {
+            return new Handles();
+        }
+    }
+
+    /**
+     * The handles resolved for a single lookup class and target type.
+     */
+    private static final class Handles {
+        private final ConcurrentMap<FieldKey, VarHandle> fields = new ConcurrentHashMap<>();
+        private final ConcurrentMap<MethodKey, MethodEntry> methods = new ConcurrentHashMap<>();
+        private final ConcurrentMap<ConstructorKey, MethodHandle> constructors = new ConcurrentHashMap<>();
+        private final ConcurrentMap<ValueKey, Object> values = new ConcurrentHashMap<>();
+    }
+
+    private enum Kind { VIRTUAL, SPECIAL, STATIC }
+
+    private record FieldKey(String name, Class<?> type, boolean isStatic, int lookupModes) {}
+
+    private record ConstructorKey(List<Class<?>> types, int lookupModes) {}
+
+    private record MethodKey(Kind kind, String name, Class<?> returnType, List<Class<?>> types, int lookupModes) {}
+
+    private record ValueKey(Object key, int lookupModes) {}
+
+    /**
+     * Either the resolved handle, or the reason why it could not be resolved.
+     */
+    private record MethodEntry(MethodHandle handle, String failure) {}
+}
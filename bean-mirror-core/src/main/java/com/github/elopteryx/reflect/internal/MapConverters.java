@@ -0,0 +1,206 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.BeanAccessor;
+import com.github.elopteryx.reflect.BeanMirrorException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Creates the converters between beans and maps. The properties are the
+ * instance fields of the type, as in the {@link BeanAccessor}, for shadowed
+ * names only the most specific field is used. The list of the properties
+ * is computed only once, and the values are accessed with the accessor.
+ */
+public final class MapConverters {
+
+    /**
+     * Marks a property which is not found in a map.
+     */
+    private static final Object MISSING = new Object();
+
+    private MapConverters() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the converter from beans to immutable maps, backed by an
+     * array of the values, creating it if it was not created before for
+     * the same lookup.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return The converter
+     */
+    public static <T> Function<T, Map<String, Object>> toMap(final Lookup lookup, final Class<T> targetType) {
+        return HandleCache.computeIfAbsent(lookup, targetType, ConverterKey.TO_MAP, () -> {
+            final var accessor = Accessors.accessor(lookup, targetType);
+            final var layout = layout(accessor, targetType);
+            return target -> {
+                final var indices = layout.indices();
+                final var values = new Object[indices.length];
+                for (var i = 0; i < indices.length; i++) {
+                    values[i] = accessor.get(target, indices[i]);
+                }
+                return new PropertyMap(layout.names(), layout.positions(), values);
+            };
+        });
+    }
+
+    /**
+     * Creates a converter from beans to maps, which are created by the given
+     * factory. The factory is called with the number of the properties, so
+     * the map can be created with the right capacity.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param mapFactory Creates an empty map, for the given number of entries
+     * @param <T> Generic param for the class
+     * @return The converter
+     */
+    public static <T> Function<T, Map<String, Object>> toMap(final Lookup lookup, final Class<T> targetType, final IntFunction<? extends Map<String, Object>> mapFactory) {
+        final var accessor = Accessors.accessor(lookup, targetType);
+        final var layout = layout(accessor, targetType);
+        return target -> {
+            final var indices = layout.indices();
+            final var map = mapFactory.apply(indices.length);
+            for (var i = 0; i < indices.length; i++) {
+                map.put(layout.names().get(i), accessor.get(target, indices[i]));
+            }
+            return map;
+        };
+    }
+
+    /**
+     * Returns the converter from maps to beans, creating it if it was not
+     * created before for the same lookup. Records are created with their
+     * canonical constructor, the missing components are null or zero. Other
+     * types are created with their no-arg constructor, then the properties
+     * found in the map are set. Final fields and null values for primitive
+     * fields are skipped.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return The converter
+     */
+    public static <T> Function<Map<String, ?>, T> fromMap(final Lookup lookup, final Class<T> targetType) {
+        return HandleCache.computeIfAbsent(lookup, targetType, ConverterKey.FROM_MAP, () -> {
+            final var accessor = Accessors.accessor(lookup, targetType);
+            final var layout = layout(accessor, targetType);
+            return targetType.isRecord() ? recordFromMap(lookup, targetType, layout) : beanFromMap(lookup, targetType, accessor, layout);
+        });
+    }
+
+    private static <T> Function<Map<String, ?>, T> beanFromMap(final Lookup lookup, final Class<T> targetType, final BeanAccessor<T> accessor, final Layout layout) {
+        final var supplier = Functional.createSupplier(lookup, targetType);
+        return map -> {
+            final var target = supplier.get();
+            final var indices = layout.indices();
+            for (var i = 0; i < indices.length; i++) {
+                if (!layout.writable()[i]) {
+                    continue;
+                }
+                final var value = valueAt(map, layout, i);
+                if (value == MISSING || value == null && layout.types()[i].isPrimitive()) {
+                    continue;
+                }
+                accessor.set(target, indices[i], value);
+            }
+            return target;
+        };
+    }
+
+    private static <T> Function<Map<String, ?>, T> recordFromMap(final Lookup lookup, final Class<T> targetType, final Layout layout) {
+        try {
+            final var types = Arrays.stream(targetType.getRecordComponents()).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            final var constructor = HandleCache.findConstructor(lookup, targetType, types);
+            final var defaults = new Object[types.length];
+            for (var i = 0; i < types.length; i++) {
+                defaults[i] = types[i].isPrimitive() ? MethodHandles.zero(types[i]).invoke() : null;
+            }
+            return map -> {
+                final var args = new Object[defaults.length];
+                for (var i = 0; i < args.length; i++) {
+                    final var value = valueAt(map, layout, i);
+                    args[i] = value == MISSING || value == null ? defaults[i] : value;
+                }
+                return create(targetType, constructor, args);
+            };
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    private static <T> T create(final Class<T> targetType, final MethodHandle constructor, final Object[] args) {
+        try {
+            return targetType.cast((Object) constructor.invokeExact(args));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Returns the value of the property from the map. The values of a
+     * property map with the same layout are read by their position.
+     * @param map The map
+     * @param layout The layout of the properties
+     * @param position The position of the property
+     * @return The value, or {@link #MISSING} if the map does not contain the property
+     */
+    private static Object valueAt(final Map<String, ?> map, final Layout layout, final int position) {
+        if (map instanceof PropertyMap propertyMap && propertyMap.hasNames(layout.names())) {
+            return propertyMap.valueAt(position);
+        }
+        final var name = layout.names().get(position);
+        final var value = map.get(name);
+        return value != null || map.containsKey(name) ? value : MISSING;
+    }
+
+    private static Layout layout(final BeanAccessor<?> accessor, final Class<?> targetType) {
+        final var fields = Utils.instanceFields(targetType);
+        final var names = new ArrayList<String>();
+        final var positions = new HashMap<String, Integer>();
+        final var indices = new ArrayList<Integer>();
+        for (var i = 0; i < accessor.size(); i++) {
+            final var name = accessor.name(i);
+            if (accessor.indexOf(name) == i) {
+                positions.put(name, names.size());
+                names.add(name);
+                indices.add(i);
+            }
+        }
+        final var size = names.size();
+        final var writable = new boolean[size];
+        final var types = new Class<?>[size];
+        final var indexArray = new int[size];
+        for (var i = 0; i < size; i++) {
+            final var field = fields.get(indices.get(i));
+            indexArray[i] = indices.get(i);
+            writable[i] = !Modifier.isFinal(field.getModifiers());
+            types[i] = field.getType();
+        }
+        return new Layout(List.copyOf(names), Map.copyOf(positions), indexArray, types, writable);
+    }
+
+    /**
+     * The properties of a type.
+     * @param names The unique names of the properties
+     * @param positions The position of each name
+     * @param indices The index of each property in the bean accessor
+     * @param types The types of the properties
+     * @param writable Whether each property can be set
+     */
+    private record Layout(List<String> names, Map<String, Integer> positions, int[] indices, Class<?>[] types, boolean[] writable) {}
+
+    private enum ConverterKey { TO_MAP, FROM_MAP }
+}
@@ -0,0 +1,54 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.OffHeapStore;
+
+import java.lang.invoke.MethodHandles.Lookup;
+
+/**
+ * Creates the memory layouts and the memory segment views. The foreign
+ * memory API is only final from Java 22, so this version, which is used
+ * on older runtimes, only reports that it is not available. The working
+ * version is in the versioned part of the multi-release jar.
+ */
+public final class MemoryViews {
+
+    /**
+     * The first feature version, with the final foreign memory API.
+     */
+    private static final int REQUIRED_VERSION = 22;
+
+    private MemoryViews() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the struct layout of the given type, which is a
+     * {@code java.lang.foreign.StructLayout} on Java 22 or later.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @return The layout
+     */
+    public static Object memoryLayout(final Lookup lookup, final Class<?> targetType) {
+        throw unsupported();
+    }
+
+    /**
+     * Creates a view of the given segment, which is a
+     * {@code java.lang.foreign.MemorySegment} on Java 22 or later.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param segment The segment
+     * @param <T> Generic param for the class
+     * @return A new view
+     */
+    public static <T> OffHeapStore<T> memoryView(final Lookup lookup, final Class<T> targetType, final Object segment) {
+        throw unsupported();
+    }
+
+    private static BeanMirrorException unsupported() {
+        return new BeanMirrorException(new UnsupportedOperationException("The foreign memory API requires Java " + REQUIRED_VERSION
+                + " or later, the current version is " + Runtime.version().feature() + "."));
+    }
+}
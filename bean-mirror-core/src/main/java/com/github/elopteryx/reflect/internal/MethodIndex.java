@@ -0,0 +1,199 @@
+package com.github.elopteryx.reflect.internal;
+
+import static com.github.elopteryx.reflect.internal.Utils.wrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the methods of a class type, used to find the method for the
+ * runtime types of the arguments, when there is no exact match.
+ *
+ * <p>The methods are grouped by their name and parameter count, with
+ * their parameter types already wrapped. Each group is ordered by
+ * specificity, a method comes before the methods it is more specific than,
+ * so the first applicable method of the group is the most specific one.
+ * Methods which are equally specific are ordered by their declaring class,
+ * the most derived first, then by their parameter types, so the result
+ * does not depend on the order returned by the reflection methods.</p>
+ *
+ * <p>The index is created only once for each type, it does not
+ * depend on the lookup.</p>
+ */
+public final class MethodIndex {
+
+    private static final ClassValue<MethodIndex> INDICES = new ClassValue<>() {
+        @Override
+        protected MethodIndex computeValue(final Class<?> type) {
+            return new MethodIndex(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private final Map<Key, Candidate[]> candidates;
+
+    private MethodIndex(final Class<?> type) {
+        this.type = type;
+        final var groups = new HashMap<Key, List<Candidate>>();
+        for (final var method : Utils.methods(type)) {
+            final var key = new Key(method.getName(), method.getParameterCount());
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(new Candidate(method));
+        }
+        final var result = new HashMap<Key, Candidate[]>();
+        groups.forEach((key, group) -> result.put(key, rank(type, group)));
+        this.candidates = Map.copyOf(result);
+    }
+
+    /**
+     * Returns the index of the given type, creating it only once.
+     * @param type The class type
+     * @return The method index
+     */
+    public static MethodIndex of(final Class<?> type) {
+        return INDICES.get(type);
+    }
+
+    /**
+     * Finds the most specific static method, which can be invoked with
+     * arguments of the given types. The primitive types are wrapped, and
+     * the {@link NULL} type matches every parameter.
+     * @param name The method name
+     * @param types The argument types
+     * @return The found method
+     * @throws NoSuchMethodException If there is no applicable method
+     */
+    public Method findStatic(final String name, final Class<?>... types) throws NoSuchMethodException {
+        return find(true, name, types);
+    }
+
+    /**
+     * Finds the most specific instance method, which can be invoked with
+     * arguments of the given types. The primitive types are wrapped, and
+     * the {@link NULL} type matches every parameter.
+     * @param name The method name
+     * @param types The argument types
+     * @return The found method
+     * @throws NoSuchMethodException If there is no applicable method
+     */
+    public Method findVirtual(final String name, final Class<?>... types) throws NoSuchMethodException {
+        return find(false, name, types);
+    }
+
+    private Method find(final boolean isStatic, final String name, final Class<?>... types) throws NoSuchMethodException {
+        final var group = candidates.get(new Key(name, types.length));
+        if (group != null) {
+            for (final var candidate : group) {
+                if (candidate.isStatic == isStatic && candidate.isApplicable(types)) {
+                    return candidate.method;
+                }
+            }
+        }
+        throw new NoSuchMethodException("No similar method " + name + " with params " + Arrays.toString(types) + " could be found on type " + type + ".");
+    }
+
+    /**
+     * Unreflects the method found by the index. Public methods of public
+     * types are unreflected with the given lookup, the others with a private
+     * lookup on their declaring class, as they can be declared by a super type.
+     * @param lookup The lookup used for access check
+     * @param method The method
+     * @return The method handle
+     * @throws IllegalAccessException If the method cannot be accessed
+     */
+    public static MethodHandle unreflect(final Lookup lookup, final Method method) throws IllegalAccessException {
+        final var declaringClass = method.getDeclaringClass();
+        if (Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers())) {
+            return lookup.unreflect(method);
+        }
+        return MethodHandles.privateLookupIn(declaringClass, lookup).unreflect(method);
+    }
+
+    /**
+     * Orders the methods of a group, so every method comes before the
+     * ones which are less specific.
+     * @param type The indexed type
+     * @param group The methods with the same name and parameter count
+     * @return The ranked methods
+     */
+    private static Candidate[] rank(final Class<?> type, final List<Candidate> group) {
+        final var remaining = new ArrayList<>(group);
+        remaining.sort(Comparator.<Candidate>comparingInt(candidate -> depth(type, candidate.method.getDeclaringClass()))
+                .thenComparing(candidate -> Arrays.toString(candidate.method.getParameterTypes())));
+        final var result = new Candidate[remaining.size()];
+        for (var i = 0; i < result.length; i++) {
+            final var next = remaining.stream()
+                    .filter(candidate -> remaining.stream().noneMatch(other -> other.isMoreSpecificThan(candidate)))
+                    .findFirst()
+                    .orElse(remaining.get(0));
+            remaining.remove(next);
+            result[i] = next;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distance of the declaring class from the indexed type,
+     * the methods of the interfaces come after the methods of the classes.
+     */
+    private static int depth(final Class<?> type, final Class<?> declaringClass) {
+        var depth = 0;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (current == declaringClass) {
+                return depth;
+            }
+            depth++;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private record Key(String name, int parameterCount) {}
+
+    /**
+     * A method with its wrapped parameter types.
+     */
+    private static final class Candidate {
+
+        private final Method method;
+
+        private final Class<?>[] wrappedTypes;
+
+        private final boolean isStatic;
+
+        private Candidate(final Method method) {
+            this.method = method;
+            this.wrappedTypes = Arrays.stream(method.getParameterTypes()).map(Utils::wrapper).toArray(Class<?>[]::new);
+            this.isStatic = Modifier.isStatic(method.getModifiers());
+        }
+
+        private boolean isApplicable(final Class<?>... types) {
+            for (var i = 0; i < types.length; i++) {
+                if (types[i] != NULL.class && !wrappedTypes[i].isAssignableFrom(wrapper(types[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isMoreSpecificThan(final Candidate other) {
+            if (isStatic != other.isStatic || Arrays.equals(wrappedTypes, other.wrappedTypes)) {
+                return false;
+            }
+            for (var i = 0; i < wrappedTypes.length; i++) {
+                if (!other.wrappedTypes[i].isAssignableFrom(wrappedTypes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.OffHeapStore;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Creates the off-heap stores. The rows use the fixed layout of the
+ * {@link BinaryCodecs}, so the beans are copied with the same compiled
+ * handles, and the accessors of the flyweights read and write the
+ * fields with the same byte buffer view handles.
+ */
+public final class OffHeapStores {
+
+    /**
+     * The first bytes of the files, followed by the size of the rows
+     * and the fingerprint of the layout.
+     */
+    private static final int MAGIC = 0x424D4F53;
+
+    /**
+     * The size of the header, which keeps the rows aligned to eight bytes.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    private OffHeapStores() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a store for the given type, mapping the file, which is
+     * created if it does not exist. The existing rows in the file are
+     * kept, so the store can be reopened. The file starts with a header,
+     * holding the size of the rows and the fingerprint of the layout, so
+     * a file written for a different layout is rejected. The type must be a concrete
+     * class with a no-arg constructor, and its instance fields must
+     * be primitives, except the transient ones, which are skipped.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param file The file holding the rows
+     * @param capacity The number of the rows
+     * @param <T> Generic param for the class
+     * @return A new store
+     */
+    public static <T> OffHeapStore<T> offHeapStore(final Lookup lookup, final Class<T> targetType, final Path file, final long capacity) {
+        try {
+            BinaryCodecs.checkBean(targetType);
+            if (capacity < 0) {
+                throw new IllegalArgumentException("Capacity is negative: " + capacity);
+            }
+            final var fields = BinaryCodecs.serializedFields(targetType);
+            for (final var field : fields) {
+                if (!field.getType().isPrimitive()) {
+                    throw new IllegalArgumentException("Property " + field.getName() + " with type " + field.getType() + " is not a primitive.");
+                }
+            }
+            final var layout = BinaryCodecs.fixedLayout(lookup, fields);
+            if (layout.size() == 0) {
+                throw new IllegalArgumentException("Type " + targetType.getName() + " has no primitive fields.");
+            }
+            final var constructor = MethodHandles.privateLookupIn(targetType, lookup).findConstructor(targetType, methodType(void.class))
+                    .asType(methodType(Object.class));
+            final var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                return new MappedStore<>(channel, layout, constructor, capacity);
+            } catch (final IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Writes the header into the empty file, or checks that the
+     * header of the existing file matches the given layout.
+     * @param channel The channel of the file
+     * @param rowSize The size of the rows
+     * @param fingerprint The fingerprint of the layout
+     * @throws IOException If the file cannot be read or written
+     */
+    private static void checkHeader(final FileChannel channel, final int rowSize, final long fingerprint) throws IOException {
+        final var header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.size() == 0) {
+            header.putInt(MAGIC).putInt(rowSize).putLong(fingerprint).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            return;
+        }
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IllegalArgumentException("The file is not an off-heap store.");
+            }
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("The file is not an off-heap store.");
+        }
+        if (header.getInt(4) != rowSize || header.getLong(8) != fingerprint) {
+            throw new IllegalArgumentException("The file holds rows with a different layout.");
+        }
+    }
+
+    /**
+     * Hashes the names, types and offsets of the fields, which is
+     * stable between runs, unlike the identity of the classes.
+     * @param layout The layout of the rows
+     * @return The fingerprint
+     */
+    private static long fingerprint(final BinaryCodecs.FixedLayout layout) {
+        final var description = new StringBuilder().append(layout.size());
+        layout.offsets().entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> description.append(';').append(entry.getKey()).append(':')
+                        .append(layout.fields().get(entry.getKey()).getType().getName()).append('@').append(entry.getValue()));
+        var hash = 0xCBF29CE484222325L;
+        for (var i = 0; i < description.length(); i++) {
+            hash = (hash ^ description.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * The store, mapping the rows in segments, which are
+     * smaller than two gigabytes, the limit of a byte buffer.
+     * @param <T> The type of the beans
+     */
+    private static final class MappedStore<T> implements OffHeapStore<T> {
+
+        private final FileChannel channel;
+
+        private final BinaryCodecs.FixedLayout layout;
+
+        /**
+         * The no-arg constructor of the beans, with the ()Object type.
+         */
+        private final MethodHandle constructor;
+
+        private final long capacity;
+
+        /**
+         * The size of the layout, padded to its widest field,
+         * so the fields of every row are aligned.
+         */
+        private final int rowSize;
+
+        private final long rowsPerSegment;
+
+        private final MappedByteBuffer[] segments;
+
+        private MappedStore(final FileChannel channel, final BinaryCodecs.FixedLayout layout, final MethodHandle constructor, final long capacity) throws IOException {
+            this.channel = channel;
+            this.layout = layout;
+            this.constructor = constructor;
+            this.capacity = capacity;
+            this.rowSize = (layout.size() + layout.alignment() - 1) / layout.alignment() * layout.alignment();
+            this.rowsPerSegment = Integer.MAX_VALUE / rowSize;
+            checkHeader(channel, rowSize, fingerprint(layout));
+            this.segments = new MappedByteBuffer[(int) ((capacity + rowsPerSegment - 1) / rowsPerSegment)];
+            for (var i = 0; i < segments.length; i++) {
+                final var start = i * rowsPerSegment;
+                final var rows = Math.min(rowsPerSegment, capacity - start);
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + start * rowSize, rows * rowSize);
+            }
+        }
+
+        @Override
+        public long capacity() {
+            return capacity;
+        }
+
+        @Override
+        public int rowSize() {
+            return rowSize;
+        }
+
+        @Override
+        public Row row(final long index) {
+            return new MappedRow(this).moveTo(index);
+        }
+
+        @Override
+        public void write(final long index, final T value) {
+            Objects.requireNonNull(value);
+            Objects.checkIndex(index, capacity);
+            try {
+                layout.write().invokeExact((Object) value, segment(index), offset(index));
+            } catch (final Throwable throwable) {
+                throw ClassGenerator.rethrow(throwable);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T read(final long index) {
+            Objects.checkIndex(index, capacity);
+            try {
+                final var value = (Object) constructor.invokeExact();
+                layout.read().invokeExact(value, segment(index), offset(index));
+                return (T) value;
+            } catch (final Throwable throwable) {
+                throw ClassGenerator.rethrow(throwable);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> Function<Row, R> createGetter(final String name, final Class<R> clazz) {
+            final var field = field(name, clazz);
+            final var offset = layout.offsets().get(name);
+            final var handle = BinaryCodecs.get(field.getType()).asType(methodType(Object.class, ByteBuffer.class, int.class));
+            return row -> {
+                final var current = own(row);
+                try {
+                    return (R) (Object) handle.invokeExact(current.buffer, current.offset + offset);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public <R> BiConsumer<Row, R> createSetter(final String name, final Class<R> clazz) {
+            final var field = field(name, clazz);
+            final var offset = layout.offsets().get(name);
+            final var handle = BinaryCodecs.put(field.getType()).asType(methodType(void.class, ByteBuffer.class, int.class, Object.class));
+            return (row, value) -> {
+                final var current = own(row);
+                try {
+                    handle.invokeExact(current.buffer, current.offset + offset, (Object) value);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public ToIntFunction<Row> createIntGetter(final String name) {
+            final var offset = offset(name, int.class);
+            final var handle = BinaryCodecs.get(int.class);
+            return row -> {
+                final var current = own(row);
+                try {
+                    return (int) handle.invokeExact(current.buffer, current.offset + offset);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public ObjIntConsumer<Row> createIntSetter(final String name) {
+            final var offset = offset(name, int.class);
+            final var handle = BinaryCodecs.put(int.class);
+            return (row, value) -> {
+                final var current = own(row);
+                try {
+                    handle.invokeExact(current.buffer, current.offset + offset, value);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public ToLongFunction<Row> createLongGetter(final String name) {
+            final var offset = offset(name, long.class);
+            final var handle = BinaryCodecs.get(long.class);
+            return row -> {
+                final var current = own(row);
+                try {
+                    return (long) handle.invokeExact(current.buffer, current.offset + offset);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public ObjLongConsumer<Row> createLongSetter(final String name) {
+            final var offset = offset(name, long.class);
+            final var handle = BinaryCodecs.put(long.class);
+            return (row, value) -> {
+                final var current = own(row);
+                try {
+                    handle.invokeExact(current.buffer, current.offset + offset, value);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public ToDoubleFunction<Row> createDoubleGetter(final String name) {
+            final var offset = offset(name, double.class);
+            final var handle = BinaryCodecs.get(double.class);
+            return row -> {
+                final var current = own(row);
+                try {
+                    return (double) handle.invokeExact(current.buffer, current.offset + offset);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public ObjDoubleConsumer<Row> createDoubleSetter(final String name) {
+            final var offset = offset(name, double.class);
+            final var handle = BinaryCodecs.put(double.class);
+            return (row, value) -> {
+                final var current = own(row);
+                try {
+                    handle.invokeExact(current.buffer, current.offset + offset, value);
+                } catch (final Throwable throwable) {
+                    throw ClassGenerator.rethrow(throwable);
+                }
+            };
+        }
+
+        @Override
+        public void flush() {
+            for (final var segment : segments) {
+                segment.force();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                throw new BeanMirrorException(e);
+            }
+        }
+
+        private ByteBuffer segment(final long index) {
+            return segments[(int) (index / rowsPerSegment)];
+        }
+
+        private int offset(final long index) {
+            return (int) (index % rowsPerSegment * rowSize);
+        }
+
+        /**
+         * Returns the field with the given name, if its type matches the
+         * given one, which can be the primitive type or its wrapper.
+         * @param name The name of the field
+         * @param clazz The type for the field
+         * @return The field
+         */
+        private Field field(final String name, final Class<?> clazz) {
+            final var field = layout.fields().get(name);
+            if (field == null) {
+                throw new BeanMirrorException(new NoSuchFieldException(name));
+            }
+            if (Utils.wrapper(field.getType()) != Utils.wrapper(clazz)) {
+                throw new BeanMirrorException(new IllegalArgumentException("Property " + name + " with type " + field.getType() + " is not a " + clazz + "."));
+            }
+            return field;
+        }
+
+        private int offset(final String name, final Class<?> type) {
+            if (field(name, type).getType() != type) {
+                throw new BeanMirrorException(new IllegalArgumentException("Property " + name + " is not a " + type + "."));
+            }
+            return layout.offsets().get(name);
+        }
+
+        private MappedRow own(final Row row) {
+            if (row instanceof MappedRow current && current.store == this) {
+                return current;
+            }
+            throw new IllegalArgumentException("The row does not belong to the store.");
+        }
+    }
+
+    /**
+     * The flyweight, holding the segment and the offset of the current row.
+     */
+    private static final class MappedRow implements OffHeapStore.Row {
+
+        private final MappedStore<?> store;
+
+        private ByteBuffer buffer;
+
+        private int offset;
+
+        private long index;
+
+        private MappedRow(final MappedStore<?> store) {
+            this.store = store;
+        }
+
+        @Override
+        public long index() {
+            return index;
+        }
+
+        @Override
+        public MappedRow moveTo(final long index) {
+            Objects.checkIndex(index, store.capacity);
+            this.buffer = store.segment(index);
+            this.offset = store.offset(index);
+            this.index = index;
+            return this;
+        }
+    }
+}
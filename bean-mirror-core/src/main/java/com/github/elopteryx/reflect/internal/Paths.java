@@ -0,0 +1,230 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Accessors for nested property paths, like "principal.address.city".
+ *
+ * <p>Every segment of the path is resolved once, and the field handles are
+ * combined into a single method handle, so the traversal does not allocate
+ * or resolve anything. The combined handle is held as a constant by a
+ * generated class, the same way as the generated getters and setters.</p>
+ */
+public final class Paths {
+
+    private static final MethodHandle IS_NULL;
+
+    static {
+        try {
+            IS_NULL = MethodHandles.lookup().findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Paths() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Path getter creator method. Every object on the path must be
+     * non-null, otherwise a NullPointerException is thrown.
+     * @param path The field names, separated by dots
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param returnType The type of the last field
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the last field
+     * @return A new function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> createPathGetter(final String path, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        try {
+            final var fields = resolve(path, targetType, returnType);
+            var methodHandle = getter(lookup, targetType, fields.get(0));
+            for (var i = 1; i < fields.size(); i++) {
+                methodHandle = MethodHandles.filterReturnValue(methodHandle, getter(lookup, fields.get(i - 1).getType(), fields.get(i)));
+            }
+            return (Function<T, R>) ClassGenerator.defineFromTemplate(GeneratedGetter.class, methodHandle.asType(MethodType.methodType(Object.class, Object.class)));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Null-safe path getter creator method. If the object given to the
+     * function, or any object on the path is null, the default value
+     * is returned instead of throwing an exception.
+     * @param path The field names, separated by dots
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param returnType The type of the last field
+     * @param defaultValue The value returned if the path cannot be followed, for primitives null means zero
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the last field
+     * @return A new function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> createNullSafePathGetter(final String path, final Lookup lookup, final Class<T> targetType, final Class<R> returnType,
+                                                                 final R defaultValue) {
+        try {
+            final var fields = resolve(path, targetType, returnType);
+            final var fallback = defaultValue == null ? MethodHandles.zero(returnType) : MethodHandles.constant(returnType, defaultValue);
+            MethodHandle methodHandle = null;
+            for (var i = fields.size() - 1; i >= 0; i--) {
+                final var inputType = i == 0 ? targetType : fields.get(i - 1).getType();
+                final var getter = getter(lookup, inputType, fields.get(i));
+                final var step = methodHandle == null ? getter : MethodHandles.filterReturnValue(getter, methodHandle);
+                methodHandle = MethodHandles.guardWithTest(
+                        IS_NULL.asType(MethodType.methodType(boolean.class, inputType)),
+                        MethodHandles.dropArguments(fallback, 0, inputType),
+                        step);
+            }
+            return (Function<T, R>) ClassGenerator.defineFromTemplate(GeneratedGetter.class, methodHandle.asType(MethodType.methodType(Object.class, Object.class)));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Path setter creator method. The intermediate objects which are null
+     * are created with their no-arg constructor and stored in their fields,
+     * before the last field is set. If an intermediate type is abstract or
+     * has no no-arg constructor, or its field is final, its value is only
+     * read, so it must be non-null when the setter is called, otherwise a
+     * NullPointerException is thrown. The object given to the function
+     * must be non-null.
+     * @param path The field names, separated by dots
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param valueType The type of the last field
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the last field
+     * @return A new bi-consumer
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> BiConsumer<T, R> createPathSetter(final String path, final Lookup lookup, final Class<T> targetType, final Class<R> valueType) {
+        try {
+            final var fields = resolve(path, targetType, valueType);
+            final var lastIndex = fields.size() - 1;
+            var methodHandle = setter(lookup, lastIndex == 0 ? targetType : fields.get(lastIndex - 1).getType(), fields.get(lastIndex));
+            if (lastIndex > 0) {
+                var traversal = getOrCreate(lookup, targetType, fields.get(0));
+                for (var i = 1; i < lastIndex; i++) {
+                    traversal = MethodHandles.filterReturnValue(traversal, getOrCreate(lookup, fields.get(i - 1).getType(), fields.get(i)));
+                }
+                methodHandle = MethodHandles.filterArguments(methodHandle, 0, traversal);
+            }
+            return (BiConsumer<T, R>) ClassGenerator.defineFromTemplate(GeneratedSetter.class, methodHandle.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Resolves the fields of the path, each segment is searched
+     * on the type of the previous field.
+     * @param path The field names, separated by dots
+     * @param targetType The class type
+     * @param lastType The type of the last field
+     * @return The resolved fields
+     * @throws NoSuchFieldException If a field does not exist, or the last one has a different type
+     */
+    private static List<Field> resolve(final String path, final Class<?> targetType, final Class<?> lastType) throws NoSuchFieldException {
+        final var names = path.split("\\.", -1);
+        final var fields = new ArrayList<Field>(names.length);
+        var current = targetType;
+        for (final var name : names) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Invalid path: " + path);
+            }
+            final var field = field(current, name, path);
+            fields.add(field);
+            current = field.getType();
+        }
+        if (current != lastType) {
+            throw new NoSuchFieldException("The last field of the path " + path + " has the type " + current.getName() + " instead of " + lastType.getName() + ".");
+        }
+        return fields;
+    }
+
+    private static Field field(final Class<?> type, final String name, final String path) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (final var field : current.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+        }
+        throw new NoSuchFieldException("No field " + name + " of the path " + path + " could be found on type " + type + ".");
+    }
+
+    /**
+     * Creates the getter of the field, the owner is the type on the path,
+     * which can be a subtype of the declaring class.
+     */
+    private static MethodHandle getter(final Lookup lookup, final Class<?> ownerType, final Field field) throws IllegalAccessException {
+        final var getter = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup).unreflectGetter(field);
+        return getter.asType(getter.type().changeParameterType(0, ownerType));
+    }
+
+    /**
+     * Creates the setter of the field, the owner is the type on the path,
+     * which can be a subtype of the declaring class.
+     */
+    private static MethodHandle setter(final Lookup lookup, final Class<?> ownerType, final Field field) throws IllegalAccessException {
+        final var setter = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup).unreflectSetter(field);
+        return setter.asType(setter.type().changeParameterType(0, ownerType));
+    }
+
+    /**
+     * Creates a handle which returns the value of the field, or if it is
+     * null, creates a new instance, stores it in the field and returns it.
+     * If the field type cannot be instantiated, because it is abstract or
+     * it has no accessible no-arg constructor, or the field is final, the
+     * handle only returns the value, so a null value fails when the next
+     * field of the path is accessed.
+     * @param lookup The lookup used for access check
+     * @param ownerType The type on the path, which holds the field
+     * @param field The intermediate field
+     * @return The handle, with the (Owner)FieldType type
+     * @throws IllegalAccessException If the field cannot be accessed
+     */
+    private static MethodHandle getOrCreate(final Lookup lookup, final Class<?> ownerType, final Field field) throws IllegalAccessException {
+        final var fieldType = field.getType();
+        final var getter = getter(lookup, ownerType, field);
+        if (Modifier.isFinal(field.getModifiers()) || Modifier.isAbstract(fieldType.getModifiers())) {
+            return getter;
+        }
+        final MethodHandle constructor;
+        try {
+            constructor = MethodHandles.privateLookupIn(fieldType, lookup).findConstructor(fieldType, MethodType.methodType(void.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return getter;
+        }
+        // (value, owner) -> { setter(owner, value); return value; }
+        final var store = MethodHandles.foldArguments(
+                MethodHandles.dropArguments(MethodHandles.identity(fieldType), 1, ownerType),
+                MethodHandles.permuteArguments(setter(lookup, ownerType, field), MethodType.methodType(void.class, fieldType, ownerType), 1, 0));
+        final var create = MethodHandles.foldArguments(store, constructor);
+        // (value, owner) -> value == null ? create(owner) : value
+        final var coalesce = MethodHandles.guardWithTest(
+                IS_NULL.asType(MethodType.methodType(boolean.class, fieldType)),
+                MethodHandles.dropArguments(create, 0, fieldType),
+                MethodHandles.dropArguments(MethodHandles.identity(fieldType), 1, ownerType));
+        return MethodHandles.foldArguments(coalesce, getter);
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable map view of the properties of a bean, backed by a flat
+ * array of values. The keys and their positions are shared by every
+ * map created for the same type, so creating a map only allocates
+ * the array of the values, without building a hash table.
+ */
+public final class PropertyMap extends AbstractMap<String, Object> {
+
+    /**
+     * The shared names of the properties.
+     */
+    private final List<String> names;
+
+    /**
+     * The shared positions of the names.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * The values, in the same order as the names.
+     */
+    private final Object[] values;
+
+    PropertyMap(final List<String> names, final Map<String, Integer> positions, final Object[] values) {
+        this.names = names;
+        this.positions = positions;
+        this.values = values;
+    }
+
+    /**
+     * Returns whether the map has the same keys in the same order, so its
+     * values can be read by position, without looking up the names.
+     * @param names The names of the properties
+     * @return True if the names are the same instance
+     */
+    boolean hasNames(final List<String> names) {
+        return this.names == names;
+    }
+
+    /**
+     * Returns the value at the given position.
+     * @param position The position of the property
+     * @return The value
+     */
+    Object valueAt(final int position) {
+        return values[position];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return positions.containsKey(key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final var position = positions.get(key);
+        return position == null ? null : values[position];
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super String, ? super Object> action) {
+        for (var i = 0; i < values.length; i++) {
+            action.accept(names.get(i), values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (position >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        final var entry = new SimpleImmutableEntry<>(names.get(position), values[position]);
+                        position++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        var hashCode = 0;
+        for (var i = 0; i < values.length; i++) {
+            hashCode += names.get(i).hashCode() ^ Objects.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+}
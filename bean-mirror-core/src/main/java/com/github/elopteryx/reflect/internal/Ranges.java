@@ -0,0 +1,68 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Processes the indices of a bulk operation in parallel. The indices are
+ * split recursively into halves in a fork-join pool, until the ranges are
+ * not larger than the threshold, so idle workers can steal them.
+ */
+final class Ranges {
+
+    private Ranges() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Processes the indices from zero to the size with the pool, returns
+     * after every range has been processed.
+     * @param pool The fork-join pool
+     * @param size The number of indices
+     * @param threshold The largest range which is not split further
+     * @param range Processes a range of the indices
+     */
+    static void invoke(final ForkJoinPool pool, final int size, final int threshold, final Range range) {
+        pool.invoke(new RangeAction(range, threshold, 0, size));
+    }
+
+    /**
+     * Processes the indices from the first one, inclusive,
+     * to the last one, exclusive.
+     */
+    @FunctionalInterface
+    interface Range {
+        void process(int from, int to);
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Range range;
+
+        private final int threshold;
+
+        private final int from;
+
+        private final int to;
+
+        private RangeAction(final Range range, final int threshold, final int from, final int to) {
+            this.range = range;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                range.process(from, to);
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new RangeAction(range, threshold, from, middle), new RangeAction(range, threshold, middle, to));
+            }
+        }
+    }
+}
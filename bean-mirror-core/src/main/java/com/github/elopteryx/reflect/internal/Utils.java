@@ -1,6 +1,14 @@
 package com.github.elopteryx.reflect.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 public final class Utils {
 
@@ -37,6 +45,93 @@ public final class Utils {
         return true;
     }
 
+    /**
+     * Collects the instance fields of the given type and its super
+     * types, starting with the topmost super type, in declaration order.
+     * Only the super types in the same module are included, the fields
+     * of other modules, like the ones of the platform classes, are
+     * usually not accessible anyway. Synthetic fields are excluded.
+     * @param type The class type
+     * @return The list of fields
+     */
+    public static List<Field> instanceFields(final Class<?> type) {
+        final var hierarchy = new ArrayDeque<Class<?>>();
+        for (Class<?> current = type; current != null && current.getModule() == type.getModule(); current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+        final var result = new ArrayList<Field>();
+        for (final var current : hierarchy) {
+            for (final var field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    result.add(field);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the most specific instance field with the given name,
+     * from the fields returned by {@link #instanceFields(Class)}.
+     * @param type The class type
+     * @param name The name of the field
+     * @return The field
+     * @throws NoSuchFieldException If the field does not exist
+     */
+    public static Field instanceField(final Class<?> type, final String name) throws NoSuchFieldException {
+        final var fields = instanceFields(type);
+        for (var i = fields.size() - 1; i >= 0; i--) {
+            if (fields.get(i).getName().equals(name)) {
+                return fields.get(i);
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+    /**
+     * Collects the methods of the given type: the ones declared by the type
+     * and its super classes, including the private ones, and the public ones
+     * inherited from the interfaces. Overridden methods, bridges and synthetic
+     * methods are excluded, for the same signature the most derived method
+     * is kept. The methods of the type come first.
+     * @param type The class type
+     * @return The list of methods
+     */
+    public static List<Method> methods(final Class<?> type) {
+        final var methods = new LinkedHashMap<MethodSignature, Method>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (final var method : current.getDeclaredMethods()) {
+                if (!method.isBridge() && !method.isSynthetic()) {
+                    methods.putIfAbsent(new MethodSignature(method.getName(), List.of(method.getParameterTypes())), method);
+                }
+            }
+        }
+        for (final var method : type.getMethods()) {
+            if (!method.isBridge() && !method.isSynthetic()) {
+                methods.putIfAbsent(new MethodSignature(method.getName(), List.of(method.getParameterTypes())), method);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private record MethodSignature(String name, List<Class<?>> types) {}
+
+    /**
+     * Adapts the method handle to a type which can be invoked exactly,
+     * without knowing the actual signature. The leading parameters and the
+     * return type become objects, the rest of the parameters are collected
+     * into an object array, which is spread without copying it.
+     * @param methodHandle The method handle
+     * @param leadingCount The number of parameters before the array, like the receiver
+     * @return The adapted method handle
+     */
+    public static MethodHandle spread(final MethodHandle methodHandle, final int leadingCount) {
+        final var fixedArity = methodHandle.asFixedArity();
+        final var spreadCount = fixedArity.type().parameterCount() - leadingCount;
+        return fixedArity.asSpreader(Object[].class, spreadCount)
+                .asType(MethodType.genericMethodType(leadingCount).appendParameterTypes(Object[].class));
+    }
+
     /**
      * Converts the given array of values to a new array of their types.
      * @param values The object values
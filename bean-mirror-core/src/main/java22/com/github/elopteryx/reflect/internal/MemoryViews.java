@@ -0,0 +1,358 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.OffHeapStore;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Creates the memory layouts and the memory segment views. The layout
+ * holds the primitive fields of the bean, the widest ones first, like
+ * the fixed section of the {@link BinaryCodecs}, padded to its alignment,
+ * so an array of the structs needs no padding between the elements.
+ * The values are in the native byte order, so the segments can be
+ * shared with native code. The fields are accessed by the var handles
+ * of the layout, the beans are copied by handles combining them.
+ */
+public final class MemoryViews {
+
+    /**
+     * The type of the handles, writing or reading
+     * the fields at the given offset of the segment.
+     */
+    private static final MethodType COPY_TYPE = methodType(void.class, Object.class, MemorySegment.class, long.class);
+
+    private MemoryViews() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the struct layout of the given type, creating it if
+     * it was not created before for the same lookup.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @return The layout
+     */
+    public static Object memoryLayout(final Lookup lookup, final Class<?> targetType) {
+        return structure(lookup, targetType).layout();
+    }
+
+    /**
+     * Creates a view of the given segment, which is treated as an array
+     * of the structs. The segment must be aligned to the layout.
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param segment The segment
+     * @param <T> Generic param for the class
+     * @return A new view
+     */
+    public static <T> OffHeapStore<T> memoryView(final Lookup lookup, final Class<T> targetType, final Object segment) {
+        if (!(segment instanceof MemorySegment memorySegment)) {
+            throw new BeanMirrorException(new IllegalArgumentException("Not a memory segment: " + segment));
+        }
+        return new SegmentView<>(structure(lookup, targetType), memorySegment);
+    }
+
+    private static Structure structure(final Lookup lookup, final Class<?> targetType) {
+        return HandleCache.computeIfAbsent(lookup, targetType, Structure.class, () -> createStructure(lookup, targetType));
+    }
+
+    private static Structure createStructure(final Lookup lookup, final Class<?> targetType) {
+        try {
+            BinaryCodecs.checkBean(targetType);
+            final var fields = BinaryCodecs.serializedFields(targetType);
+            for (final var field : fields) {
+                if (!field.getType().isPrimitive()) {
+                    throw new IllegalArgumentException("Property " + field.getName() + " with type " + field.getType() + " is not a primitive.");
+                }
+            }
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("Type " + targetType.getName() + " has no primitive fields.");
+            }
+            // The most specific field for a shadowed name, then the widest ones first
+            final var byName = new HashMap<String, Field>();
+            for (final var field : fields) {
+                byName.put(field.getName(), field);
+            }
+            final var sorted = byName.values().stream()
+                    .sorted(Comparator.comparingInt((Field field) -> BinaryCodecs.sizeOf(field.getType())).reversed()
+                            .thenComparingInt(fields::indexOf))
+                    .toList();
+            final var elements = new ArrayList<MemoryLayout>();
+            var size = 0L;
+            for (final var field : sorted) {
+                final var element = valueLayout(field.getType()).withName(field.getName());
+                elements.add(element);
+                size += element.byteSize();
+            }
+            final var alignment = elements.get(0).byteAlignment();
+            if (size % alignment != 0) {
+                elements.add(MemoryLayout.paddingLayout(alignment - size % alignment));
+            }
+            final var layout = MemoryLayout.structLayout(elements.toArray(MemoryLayout[]::new));
+            final var handles = new HashMap<String, VarHandle>();
+            var write = MethodHandles.empty(COPY_TYPE);
+            var read = MethodHandles.empty(COPY_TYPE);
+            for (final var field : sorted) {
+                final var fieldType = field.getType();
+                final var fieldLookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup);
+                final var getter = fieldLookup.unreflectGetter(field).asType(methodType(fieldType, Object.class));
+                final var setter = Cloners.setter(fieldLookup, field).asType(methodType(void.class, Object.class, fieldType));
+                // (MemorySegment,long)type, with the offset of the struct
+                final var varHandle = layout.varHandle(MemoryLayout.PathElement.groupElement(field.getName()));
+                handles.put(field.getName(), varHandle);
+                // (MemorySegment,long,Object)void, then (Object,MemorySegment,long)void
+                final var set = MethodHandles.filterArguments(varHandle.toMethodHandle(AccessMode.SET), 2, getter);
+                write = MethodHandles.foldArguments(write, MethodHandles.permuteArguments(set, COPY_TYPE, 1, 2, 0));
+                read = MethodHandles.foldArguments(read, MethodHandles.collectArguments(setter, 1, varHandle.toMethodHandle(AccessMode.GET)));
+            }
+            final var constructor = MethodHandles.privateLookupIn(targetType, lookup).findConstructor(targetType, methodType(void.class))
+                    .asType(methodType(Object.class));
+            return new Structure(layout, Map.copyOf(byName), Map.copyOf(handles), constructor, write, read);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    private static ValueLayout valueLayout(final Class<?> type) {
+        if (type == long.class) {
+            return ValueLayout.JAVA_LONG;
+        } else if (type == double.class) {
+            return ValueLayout.JAVA_DOUBLE;
+        } else if (type == int.class) {
+            return ValueLayout.JAVA_INT;
+        } else if (type == float.class) {
+            return ValueLayout.JAVA_FLOAT;
+        } else if (type == short.class) {
+            return ValueLayout.JAVA_SHORT;
+        } else if (type == char.class) {
+            return ValueLayout.JAVA_CHAR;
+        } else if (type == byte.class) {
+            return ValueLayout.JAVA_BYTE;
+        }
+        return ValueLayout.JAVA_BOOLEAN;
+    }
+
+    /**
+     * The layout of a type and the handles accessing it.
+     * @param layout The struct layout
+     * @param fields The fields by their names
+     * @param handles The var handles of the fields by their names, with (MemorySegment,long) coordinates
+     * @param constructor The no-arg constructor, with the ()Object type
+     * @param write Writes the fields at the given offset, with the (Object,MemorySegment,long)void type
+     * @param read Reads the fields from the given offset, with the (Object,MemorySegment,long)void type
+     */
+    private record Structure(StructLayout layout, Map<String, Field> fields, Map<String, VarHandle> handles,
+                             MethodHandle constructor, MethodHandle write, MethodHandle read) {}
+
+    /**
+     * The view, treating the segment as an array of the structs.
+     * @param <T> The type of the beans
+     */
+    private static final class SegmentView<T> implements OffHeapStore<T> {
+
+        private final Structure structure;
+
+        private final MemorySegment segment;
+
+        private final long stride;
+
+        private final long capacity;
+
+        private SegmentView(final Structure structure, final MemorySegment segment) {
+            this.structure = structure;
+            this.segment = segment;
+            this.stride = structure.layout().byteSize();
+            this.capacity = segment.byteSize() / stride;
+        }
+
+        @Override
+        public long capacity() {
+            return capacity;
+        }
+
+        @Override
+        public int rowSize() {
+            return (int) stride;
+        }
+
+        @Override
+        public Row row(final long index) {
+            return new SegmentRow(this).moveTo(index);
+        }
+
+        @Override
+        public void write(final long index, final T value) {
+            Objects.requireNonNull(value);
+            Objects.checkIndex(index, capacity);
+            try {
+                structure.write().invokeExact((Object) value, segment, index * stride);
+            } catch (final Throwable throwable) {
+                throw ClassGenerator.rethrow(throwable);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T read(final long index) {
+            Objects.checkIndex(index, capacity);
+            try {
+                final var value = (Object) structure.constructor().invokeExact();
+                structure.read().invokeExact(value, segment, index * stride);
+                return (T) value;
+            } catch (final Throwable throwable) {
+                throw ClassGenerator.rethrow(throwable);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> Function<Row, R> createGetter(final String name, final Class<R> clazz) {
+            final var handle = handle(name, clazz, false);
+            return row -> {
+                final var current = own(row);
+                return (R) handle.get(segment, current.offset);
+            };
+        }
+
+        @Override
+        public <R> BiConsumer<Row, R> createSetter(final String name, final Class<R> clazz) {
+            final var handle = handle(name, clazz, false);
+            return (row, value) -> handle.set(segment, own(row).offset, value);
+        }
+
+        @Override
+        public ToIntFunction<Row> createIntGetter(final String name) {
+            final var handle = handle(name, int.class, true);
+            return row -> (int) handle.get(segment, own(row).offset);
+        }
+
+        @Override
+        public ObjIntConsumer<Row> createIntSetter(final String name) {
+            final var handle = handle(name, int.class, true);
+            return (row, value) -> handle.set(segment, own(row).offset, value);
+        }
+
+        @Override
+        public ToLongFunction<Row> createLongGetter(final String name) {
+            final var handle = handle(name, long.class, true);
+            return row -> (long) handle.get(segment, own(row).offset);
+        }
+
+        @Override
+        public ObjLongConsumer<Row> createLongSetter(final String name) {
+            final var handle = handle(name, long.class, true);
+            return (row, value) -> handle.set(segment, own(row).offset, value);
+        }
+
+        @Override
+        public ToDoubleFunction<Row> createDoubleGetter(final String name) {
+            final var handle = handle(name, double.class, true);
+            return row -> (double) handle.get(segment, own(row).offset);
+        }
+
+        @Override
+        public ObjDoubleConsumer<Row> createDoubleSetter(final String name) {
+            final var handle = handle(name, double.class, true);
+            return (row, value) -> handle.set(segment, own(row).offset, value);
+        }
+
+        @Override
+        public void flush() {
+            if (segment.isMapped()) {
+                segment.force();
+            }
+        }
+
+        /**
+         * Flushes the changes. The segment is not released, that
+         * is the responsibility of the arena which allocated it.
+         */
+        @Override
+        public void close() {
+            flush();
+        }
+
+        /**
+         * Returns the var handle of the field with the given name, if its
+         * type matches the given one. Unless it is exact, the type can
+         * be the primitive type or its wrapper.
+         * @param name The name of the field
+         * @param clazz The type for the field
+         * @param exact Whether the type must be the same primitive type
+         * @return The var handle
+         */
+        private VarHandle handle(final String name, final Class<?> clazz, final boolean exact) {
+            final var field = structure.fields().get(name);
+            if (field == null) {
+                throw new BeanMirrorException(new NoSuchFieldException(name));
+            }
+            if (exact ? field.getType() != clazz : Utils.wrapper(field.getType()) != Utils.wrapper(clazz)) {
+                throw new BeanMirrorException(new IllegalArgumentException("Property " + name + " with type " + field.getType() + " is not a " + clazz + "."));
+            }
+            return structure.handles().get(name);
+        }
+
+        private SegmentRow own(final Row row) {
+            if (row instanceof SegmentRow current && current.view == this) {
+                return current;
+            }
+            throw new IllegalArgumentException("The row does not belong to the view.");
+        }
+    }
+
+    /**
+     * The flyweight, holding the offset of the current struct.
+     */
+    private static final class SegmentRow implements OffHeapStore.Row {
+
+        private final SegmentView<?> view;
+
+        private long offset;
+
+        private long index;
+
+        private SegmentRow(final SegmentView<?> view) {
+            this.view = view;
+        }
+
+        @Override
+        public long index() {
+            return index;
+        }
+
+        @Override
+        public SegmentRow moveTo(final long index) {
+            Objects.checkIndex(index, view.capacity);
+            this.offset = index * view.stride;
+            this.index = index;
+            return this;
+        }
+    }
+}
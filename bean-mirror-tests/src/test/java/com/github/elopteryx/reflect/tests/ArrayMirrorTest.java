@@ -0,0 +1,141 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.Arrays;
+
+class ArrayMirrorTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Holder {
+        private int[] ints = {1, 2, 3};
+        private String[] strings = {"a", "b"};
+        private Object erased = new long[] {4L, 5L};
+        private double[] missing;
+        private String notArray = "value";
+    }
+
+    @Test
+    void createArrayMirror() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> BeanMirror.ofArray(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> BeanMirror.ofArray("value"))
+        );
+    }
+
+    @Test
+    void arrayFromField() {
+        final var holder = new Holder();
+        final var mirror = BeanMirror.of(holder, LOOKUP);
+        final var ints = mirror.<int[]>array("ints");
+        final var erased = mirror.array("erased");
+        assertAll(
+                () -> assertSame(holder.ints, ints.get()),
+                () -> assertEquals(3, ints.length()),
+                () -> assertEquals(int.class, ints.componentType()),
+                () -> assertEquals(long.class, erased.componentType()),
+                () -> assertEquals(5L, erased.get(1)),
+                () -> assertThrows(NullPointerException.class, () -> mirror.array("missing")),
+                () -> assertThrows(IllegalArgumentException.class, () -> mirror.array("notArray")),
+                () -> assertThrows(BeanMirrorException.class, () -> mirror.array("nothing"))
+        );
+    }
+
+    @Test
+    void elementAccess() {
+        final var ints = new int[] {1, 2, 3};
+        final var mirror = BeanMirror.ofArray(ints);
+        mirror.set(0, 10).setInt(1, 20);
+        assertAll(
+                () -> assertEquals(10, mirror.get(0)),
+                () -> assertEquals(20, mirror.getInt(1)),
+                () -> assertEquals(3L, mirror.getLong(2)),
+                () -> assertEquals(3.0, mirror.getDouble(2)),
+                () -> assertThrows(ArrayIndexOutOfBoundsException.class, () -> mirror.get(3)),
+                () -> assertThrows(ClassCastException.class, () -> mirror.set(0, "value")),
+                () -> assertThrows(WrongMethodTypeException.class, () -> mirror.setLong(0, 1L))
+        );
+        final var longs = BeanMirror.ofArray(new long[2]).setLong(0, 7L).setInt(1, 8);
+        assertAll(
+                () -> assertEquals(7L, longs.getLong(0)),
+                () -> assertEquals(8L, longs.get(1)),
+                () -> assertThrows(WrongMethodTypeException.class, () -> longs.getInt(0))
+        );
+    }
+
+    @Test
+    void accessModes() {
+        final var strings = new String[] {"a", "b"};
+        final var mirror = BeanMirror.ofArray(strings);
+        mirror.setVolatile(0, "c").setRelease(1, "d");
+        assertAll(
+                () -> assertEquals("c", mirror.getVolatile(0)),
+                () -> assertEquals("d", mirror.getAcquire(1)),
+                () -> assertTrue(mirror.compareAndSet(0, strings[0], "e")),
+                () -> assertFalse(mirror.compareAndSet(0, "c", "f")),
+                () -> assertEquals("e", strings[0])
+        );
+        final var doubles = BeanMirror.ofArray(new double[] {0.5});
+        assertAll(
+                () -> assertTrue(doubles.compareAndSet(0, 0.5, 1.5)),
+                () -> assertEquals(1.5, doubles.getDouble(0))
+        );
+    }
+
+    @Test
+    void bulkOperations() {
+        final var ints = new int[5];
+        final var mirror = BeanMirror.ofArray(ints).fill(7).fill(3, 5, 9);
+        final var copy = mirror.copy();
+        final var longer = mirror.copyOf(6);
+        final var destination = new int[3];
+        mirror.copyTo(2, destination, 0, 3);
+        assertAll(
+                () -> assertArrayEquals(new int[] {7, 7, 7, 9, 9}, ints),
+                () -> assertNotSame(ints, copy),
+                () -> assertArrayEquals(ints, copy),
+                () -> assertArrayEquals(new int[] {7, 7, 7, 9, 9, 0}, longer),
+                () -> assertArrayEquals(new int[] {7, 9, 9}, destination),
+                () -> assertTrue(mirror.contentEquals(copy)),
+                () -> assertFalse(mirror.contentEquals(longer)),
+                () -> assertFalse(mirror.contentEquals(new long[] {7, 7, 7, 9, 9})),
+                () -> assertEquals(Arrays.hashCode(ints), mirror.contentHashCode()),
+                () -> assertEquals(-1, mirror.mismatch(copy)),
+                () -> assertEquals(5, mirror.mismatch(longer)),
+                () -> assertTrue(mirror.compare(longer) < 0),
+                () -> assertEquals(0, mirror.compare(copy)),
+                () -> assertThrows(IllegalArgumentException.class, () -> mirror.compare(new long[0])),
+                () -> assertThrows(ClassCastException.class, () -> mirror.fill(1L))
+        );
+    }
+
+    @Test
+    void bulkOperationsOnReferences() {
+        final var strings = new String[] {"b", null, "a"};
+        final var mirror = BeanMirror.ofArray(strings);
+        final var copy = mirror.copy();
+        assertAll(
+                () -> assertTrue(mirror.contentEquals(copy)),
+                () -> assertEquals(0, mirror.mismatch(new String[] {"a", null, "a"})),
+                () -> assertTrue(mirror.compare(new String[] {"a", null, "a"}) > 0),
+                () -> assertTrue(mirror.compare(new String[] {"b", "a", "a"}) < 0),
+                () -> assertArrayEquals(new String[] {"x", "x", "x"}, mirror.fill("x").get()),
+                () -> assertThrows(ArrayStoreException.class, () -> BeanMirror.ofArray(new Integer[1]).fill("x"))
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class BeanAccessorTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+        private int i = 1;
+        private String name = "parent";
+    }
+
+    @SuppressWarnings("unused")
+    private static class Child extends Parent {
+        private static int ignored = 0;
+        private int i = 2;
+        private long l = 3L;
+        private double d = 4.0;
+        private boolean b = true;
+        private final String constant = "constant";
+    }
+
+    private static class Empty {}
+
+    @Test
+    void properties() {
+        final var accessor = BeanMirror.of(Child.class, LOOKUP).accessor();
+        assertAll(
+                () -> assertEquals(7, accessor.size()),
+                () -> assertEquals("i", accessor.name(0)),
+                () -> assertEquals("name", accessor.name(1)),
+                () -> assertEquals("i", accessor.name(2)),
+                () -> assertEquals(String.class, accessor.type(1)),
+                () -> assertEquals(long.class, accessor.type(3)),
+                () -> assertEquals(2, accessor.indexOf("i")),
+                () -> assertEquals(1, accessor.indexOf("name")),
+                () -> assertEquals(-1, accessor.indexOf("ignored")),
+                () -> assertEquals(-1, accessor.indexOf("missing"))
+        );
+    }
+
+    @Test
+    void getAndSet() {
+        final var child = new Child();
+        final var accessor = BeanMirror.of(Child.class, LOOKUP).accessor();
+        assertAll(
+                () -> assertEquals(1, accessor.get(child, 0)),
+                () -> assertEquals("parent", accessor.get(child, 1)),
+                () -> assertEquals(2, accessor.get(child, 2)),
+                () -> assertEquals(true, accessor.get(child, 5)),
+                () -> assertEquals("constant", accessor.get(child, 6)),
+                () -> {
+                    accessor.set(child, 1, "changed");
+                    accessor.set(child, 5, false);
+                    assertEquals("changed", accessor.get(child, 1));
+                    assertEquals(false, accessor.get(child, 5));
+                }
+        );
+    }
+
+    @Test
+    void primitives() {
+        final var child = new Child();
+        final var accessor = BeanMirror.of(Child.class, LOOKUP).accessor();
+        accessor.setInt(child, 2, 20);
+        accessor.setLong(child, 3, 30L);
+        accessor.setDouble(child, 4, 40.0);
+        assertAll(
+                () -> assertEquals(20, accessor.getInt(child, 2)),
+                () -> assertEquals(30L, accessor.getLong(child, 3)),
+                () -> assertEquals(40.0, accessor.getDouble(child, 4)),
+                () -> assertEquals(20L, accessor.getLong(child, 2)),
+                () -> assertEquals(30.0, accessor.getDouble(child, 3)),
+                () -> {
+                    accessor.setInt(child, 3, 5);
+                    assertEquals(5L, accessor.getLong(child, 3));
+                }
+        );
+    }
+
+    @Test
+    void invalidAccess() {
+        final var child = new Child();
+        final var accessor = BeanMirror.of(Child.class, LOOKUP).accessor();
+        assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(child, 7)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.setInt(child, -1, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> accessor.getInt(child, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> accessor.getInt(child, 3)),
+                () -> assertThrows(IllegalArgumentException.class, () -> accessor.setInt(child, 5, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> accessor.set(child, 6, "other")),
+                () -> assertThrows(ClassCastException.class, () -> accessor.set(child, 1, 1))
+        );
+    }
+
+    @Test
+    void emptyType() {
+        final var accessor = BeanMirror.of(Empty.class, LOOKUP).accessor();
+        assertAll(
+                () -> assertEquals(0, accessor.size()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(new Empty(), 0))
+        );
+    }
+
+    @Test
+    void sameAccessorForSameType() {
+        assertSame(BeanMirror.of(Child.class, LOOKUP).accessor(), BeanMirror.of(Child.class, LOOKUP).accessor());
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.tests.hidden.Hidden;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+class BeanDescriptorTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+        private int id;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(final int id) {
+            this.id = id;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Child extends Parent {
+        private static int ignored;
+        private String name;
+        private final transient boolean active = true;
+        private volatile String URL;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public String getURL() {
+            return URL;
+        }
+
+        public void setDescription(final String description) {}
+
+        private Child() {}
+
+        private Child(final String name) {
+            this.name = name;
+        }
+    }
+
+    private record Point(int x, int y) {}
+
+    @Test
+    void fields() {
+        final var descriptor = BeanMirror.of(Child.class, LOOKUP).describe();
+        final var accessor = BeanMirror.of(Child.class, LOOKUP).accessor();
+        assertAll(
+                () -> assertEquals(Child.class, descriptor.type()),
+                () -> assertTrue(Modifier.isFinal(descriptor.modifiers())),
+                () -> assertEquals(4, descriptor.fields().size()),
+                () -> assertEquals("id", descriptor.field(0).name()),
+                () -> assertEquals(Parent.class, descriptor.field(0).field().getDeclaringClass()),
+                () -> assertEquals(String.class, descriptor.field(1).type()),
+                () -> assertTrue(descriptor.field(2).isFinal()),
+                () -> assertTrue(descriptor.field(2).isTransient()),
+                () -> assertTrue(descriptor.field(3).isVolatile()),
+                () -> assertEquals(-1, descriptor.indexOf("ignored")),
+                () -> {
+                    for (final var field : descriptor.fields()) {
+                        assertEquals(accessor.indexOf(field.name()), field.index());
+                        assertEquals(accessor.type(field.index()), field.type());
+                    }
+                }
+        );
+    }
+
+    @Test
+    void properties() {
+        final var descriptor = BeanMirror.of(Child.class, LOOKUP).describe();
+        assertAll(
+                () -> assertEquals(5, descriptor.properties().size()),
+                () -> assertEquals("URL", descriptor.properties().get(0).name()),
+                () -> assertTrue(descriptor.property("id").isWritable()),
+                () -> assertEquals(0, descriptor.property("id").fieldIndex()),
+                () -> assertEquals(int.class, descriptor.property("id").type()),
+                () -> assertEquals("setName", descriptor.property("name").setter().getName()),
+                () -> assertFalse(descriptor.property("active").isWritable()),
+                () -> assertEquals("isActive", descriptor.property("active").getter().getName()),
+                () -> assertFalse(descriptor.property("description").isReadable()),
+                () -> assertEquals(-1, descriptor.property("description").fieldIndex()),
+                () -> assertEquals(3, descriptor.property("URL").fieldIndex()),
+                () -> assertNull(descriptor.property("class")),
+                () -> assertNull(descriptor.property("missing"))
+        );
+    }
+
+    @Test
+    void membersAndRecords() {
+        final var descriptor = BeanMirror.of(Child.class, LOOKUP).describe();
+        final var recordDescriptor = BeanMirror.of(Point.class, LOOKUP).describe();
+        assertAll(
+                () -> assertEquals(2, descriptor.constructors().size()),
+                () -> assertTrue(descriptor.methods().stream().anyMatch(method -> method.getName().equals("getId"))),
+                () -> assertEquals(1, descriptor.methods().stream().filter(method -> method.getName().equals("toString")).count()),
+                () -> assertFalse(descriptor.isRecord()),
+                () -> assertTrue(descriptor.recordComponents().isEmpty()),
+                () -> assertTrue(recordDescriptor.isRecord()),
+                () -> assertEquals(2, recordDescriptor.recordComponents().size()),
+                () -> assertEquals("x", recordDescriptor.properties().get(0).name()),
+                () -> assertEquals("x", recordDescriptor.property("x").getter().getName()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> descriptor.fields().clear()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> descriptor.methods().clear())
+        );
+    }
+
+    @Test
+    void reflectedMembersAreCopied() {
+        final var descriptor = BeanMirror.of(Hidden.class, LOOKUP).describe();
+        final var recordDescriptor = BeanMirror.of(Point.class, LOOKUP).describe();
+        final var hidden = BeanMirror.of(Hidden.class, LOOKUP).create().get();
+        descriptor.field(0).field().setAccessible(true);
+        descriptor.property("name").getter().setAccessible(true);
+        descriptor.property("name").setter().setAccessible(true);
+        descriptor.methods().forEach(Method::trySetAccessible);
+        descriptor.constructors().forEach(Constructor::trySetAccessible);
+        assertAll(
+                () -> assertNotSame(descriptor.field(0).field(), descriptor.field(0).field()),
+                () -> assertEquals(descriptor.field(0).field(), descriptor.field(0).field()),
+                () -> assertFalse(descriptor.field(0).field().canAccess(hidden)),
+                () -> assertFalse(descriptor.property("name").getter().canAccess(hidden)),
+                () -> assertFalse(descriptor.property("name").setter().canAccess(hidden)),
+                () -> assertTrue(descriptor.methods().stream()
+                        .filter(method -> method.getDeclaringClass() == Hidden.class)
+                        .noneMatch(method -> method.canAccess(hidden))),
+                () -> assertFalse(descriptor.constructors().get(0).canAccess(null)),
+                () -> assertNull(BeanMirror.of(Child.class, LOOKUP).describe().property("description").getter()),
+                () -> assertNotSame(recordDescriptor.recordComponents().get(0), recordDescriptor.recordComponents().get(0))
+        );
+    }
+
+    @Test
+    void sameDescriptorForSameType() {
+        assertSame(BeanMirror.of(Child.class, LOOKUP).describe(), BeanMirror.of(Child.class, MethodHandles.publicLookup()).describe());
+    }
+}
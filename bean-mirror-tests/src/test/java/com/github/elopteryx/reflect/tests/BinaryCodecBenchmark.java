@@ -0,0 +1,110 @@
+package com.github.elopteryx.reflect.tests;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BinaryCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary codec to the Java serialization, encoding
+ * and decoding the same bean, with a string and a nested bean.
+ */
+@SuppressWarnings("unused")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class BinaryCodecBenchmark {
+
+    public static class Order implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private long id = 123_456_789L;
+        private int quantity = 3;
+        private double price = 19.99;
+        private boolean paid = true;
+        private String customer = "customer";
+        private Address address = new Address();
+    }
+
+    public static class Address implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private String city = "city";
+        private int zip = 1011;
+    }
+
+    private static final BinaryCodec<Order> CODEC = BeanMirror.of(Order.class, MethodHandles.lookup()).binaryCodec();
+
+    private final Order order = new Order();
+
+    private final ByteBuffer heapBuffer = ByteBuffer.allocate(256);
+
+    private final ByteBuffer directBuffer = ByteBuffer.allocateDirect(256);
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        CODEC.encode(order, heapBuffer.clear());
+        CODEC.encode(order, directBuffer.clear());
+        serialized = java_serialization_encode();
+    }
+
+    @Benchmark
+    public ByteBuffer codec_encode_heap() {
+        CODEC.encode(order, heapBuffer.clear());
+        return heapBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer codec_encode_direct() {
+        CODEC.encode(order, directBuffer.clear());
+        return directBuffer;
+    }
+
+    @Benchmark
+    public Order codec_decode_heap() {
+        return CODEC.decode(heapBuffer.rewind());
+    }
+
+    @Benchmark
+    public Order codec_decode_direct() {
+        return CODEC.decode(directBuffer.rewind());
+    }
+
+    @Benchmark
+    public byte[] java_serialization_encode() throws IOException {
+        final var bytes = new ByteArrayOutputStream(256);
+        try (var output = new ObjectOutputStream(bytes)) {
+            output.writeObject(order);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object java_serialization_decode() throws IOException, ClassNotFoundException {
+        try (var input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return input.readObject();
+        }
+    }
+
+}
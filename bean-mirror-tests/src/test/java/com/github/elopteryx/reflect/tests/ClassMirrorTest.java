@@ -3,15 +3,26 @@ package com.github.elopteryx.reflect.tests;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.elopteryx.reflect.BeanMirror;
 import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Functional;
 import org.junit.jupiter.api.Test;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
 
 class ClassMirrorTest {
 
@@ -47,6 +58,41 @@ class ClassMirrorTest {
         assertTrue(createdPrimitiveParamsRecord.getClass().isRecord());
     }
 
+    @Test
+    void createFactory() {
+        final var factory = BeanMirror.of(ForCreateWithPrimitiveParams.class, LOOKUP).createFactory(int.class, boolean.class, char.class, String.class);
+        assertAll(
+                () -> assertEquals(new ForCreateWithPrimitiveParams(1, true, 'a', "a"), factory.apply(new Object[]{ 1, true, 'a', "a" })),
+                () -> assertEquals(new ForCreateWithPrimitiveParams(2, false, 'b', "b"), factory.apply(new Object[]{ 2, false, 'b', "b" }))
+        );
+    }
+
+    @Test
+    void createFactoryForMissingConstructor() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(ForCreateWithOneParam.class, LOOKUP).createFactory(Integer.class));
+        assertEquals(NoSuchMethodException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void createSupplier() {
+        final var supplier = BeanMirror.of(ForCreate.class, LOOKUP).createSupplier();
+        final var first = supplier.get();
+        final var second = supplier.get();
+        assertAll(
+                () -> assertNotNull(first),
+                () -> assertNotNull(second),
+                () -> assertNotSame(first, second)
+        );
+    }
+
+    @Test
+    void createSupplierWithFailingConstructor() {
+        final var supplier = BeanMirror.of(Functional.class, LOOKUP).createSupplier();
+        final var exception = assertThrows(BeanMirrorException.class, supplier::get);
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getClass());
+    }
+
     @SuppressWarnings("unused")
     private static class Parent {
         private static int i = 3;
@@ -222,6 +268,370 @@ class ClassMirrorTest {
         );
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createGeneratedGetterAndSetter() {
+        final var target = new GetterSetterTarget();
+        final var mirror = BeanMirror.of(GetterSetterTarget.class, LOOKUP);
+        final var getter = mirror.createGeneratedGetter("value", String.class);
+        final var setter = mirror.createGeneratedSetter("value", String.class);
+        assertAll(
+                () -> assertEquals("", getter.apply(target)),
+                () -> {
+                    setter.accept(target, "a");
+                    assertEquals("a", target.getValue());
+                    assertEquals("a", getter.apply(target));
+                },
+                () -> assertThrows(NullPointerException.class, () -> getter.apply(null)),
+                () -> assertThrows(ClassCastException.class, () -> ((BiConsumer<Object, Object>) (BiConsumer<?, ?>) setter).accept(target, 1))
+        );
+    }
+
+    @Test
+    void createGeneratedGetterForPrimitive() {
+        final var target = new PrimitiveTarget();
+        final var mirror = BeanMirror.of(PrimitiveTarget.class, LOOKUP);
+        mirror.createGeneratedSetter("i", int.class).accept(target, 5);
+        assertEquals(5, (int) mirror.createGeneratedGetter("i", int.class).apply(target));
+    }
+
+    @Test
+    void createAtomicAccessors() {
+        final var target = new PrimitiveTarget();
+        final var mirror = BeanMirror.of(PrimitiveTarget.class, LOOKUP);
+        final var updater = mirror.createCasUpdater("l", long.class);
+        assertAll(
+                () -> assertTrue(updater.compareAndSet(target, 0L, 3L)),
+                () -> assertEquals(3L, (long) mirror.createVolatileGetter("l", long.class).apply(target)),
+                () -> assertThrows(BeanMirrorException.class, () -> mirror.createCasUpdater("missing", long.class))
+        );
+    }
+
+    @Test
+    void createGeneratedGetterForMissingField() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(GetterSetterTarget.class, LOOKUP).createGeneratedGetter("missing", String.class));
+        assertEquals(NoSuchFieldException.class, exception.getCause().getClass());
+    }
+
+    @SuppressWarnings("unused")
+    private static class MethodTarget {
+        private String value = "";
+        private int number;
+
+        private String getValue() {
+            return value;
+        }
+
+        private void setValue(final String value) {
+            this.value = value;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public MethodTarget withNumber(final int number) {
+            this.number = number;
+            return this;
+        }
+    }
+
+    @Test
+    void createMethodGetterAndSetter() {
+        final var target = new MethodTarget();
+        final var mirror = BeanMirror.of(MethodTarget.class, LOOKUP);
+        final var getter = mirror.createMethodGetter("getValue", String.class);
+        final var setter = mirror.createMethodSetter("setValue", String.class);
+        final var numberGetter = mirror.createMethodGetter("getNumber", int.class);
+        final var numberSetter = mirror.createMethodSetter("withNumber", int.class);
+        setter.accept(target, "a");
+        numberSetter.accept(target, 3);
+        assertAll(
+                () -> assertEquals("a", target.value),
+                () -> assertEquals("a", getter.apply(target)),
+                () -> assertEquals(3, target.number),
+                () -> assertEquals(3, (int) numberGetter.apply(target))
+        );
+    }
+
+    @Test
+    void createMethodGetterForMissingMethod() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(MethodTarget.class, LOOKUP).createMethodGetter("getValue", Integer.class));
+        assertEquals(NoSuchMethodException.class, exception.getCause().getClass());
+    }
+
+    @SuppressWarnings("unused")
+    private static class Order {
+        private final long amount;
+
+        private Order(final long amount) {
+            this.amount = amount;
+        }
+
+        private long price(final String currency) {
+            return "EUR".equals(currency) ? amount * 2 : amount;
+        }
+
+        private void cancel() {}
+
+        private static Order of(final long amount) {
+            return new Order(amount);
+        }
+
+        private static int sum(final int a, final int b) {
+            return a + b;
+        }
+
+        private static String overloaded(final String value) {
+            return value;
+        }
+
+        private static String overloaded(final Integer value) {
+            return String.valueOf(value);
+        }
+    }
+
+    private interface OrderPricer {
+        long price(Order order, String currency);
+    }
+
+    private interface StringFunction extends Function<String, String> {
+        @Override
+        String apply(String value);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createMethod() {
+        final var mirror = BeanMirror.of(Order.class, LOOKUP);
+        final ToLongBiFunction<Order, String> price = mirror.createMethod("price", ToLongBiFunction.class);
+        final LongFunction<Order> factory = mirror.createMethod("of", LongFunction.class);
+        final IntBinaryOperator sum = mirror.createMethod("sum", IntBinaryOperator.class);
+        final Consumer<Order> cancel = mirror.createMethod("cancel", Consumer.class);
+        final var pricer = mirror.createMethod("price", OrderPricer.class);
+        final var order = factory.apply(5L);
+        assertAll(
+                () -> assertEquals(5L, order.amount),
+                () -> assertEquals(10L, price.applyAsLong(order, "EUR")),
+                () -> assertEquals(5L, pricer.price(order, "USD")),
+                () -> assertEquals(3, sum.applyAsInt(1, 2)),
+                () -> cancel.accept(order),
+                () -> assertSame(pricer, mirror.createMethod("price", OrderPricer.class))
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createMethodWithBridges() {
+        final var mirror = BeanMirror.of(Order.class, LOOKUP);
+        final var function = mirror.createMethod("overloaded", StringFunction.class);
+        final Function<String, String> raw = function;
+        assertAll(
+                () -> assertEquals("a", function.apply("a")),
+                () -> assertEquals("b", raw.apply("b"))
+        );
+    }
+
+    @Test
+    void createMethodWithInvalidInterface() {
+        final var mirror = BeanMirror.of(Order.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(NoSuchMethodException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createMethod("price", Supplier.class)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createMethod("overloaded", Function.class)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createMethod("price", Object.class)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createMethod("price", Iterator.class)).getCause().getClass())
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private static class School {
+        private Principal principal;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Person {
+        Address address;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Principal extends Person {
+        private int age;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Address {
+        private String city;
+        private int zip;
+    }
+
+    @Test
+    void createPathGetter() {
+        final var school = new School();
+        school.principal = new Principal();
+        school.principal.age = 50;
+        school.principal.address = new Address();
+        school.principal.address.city = "Budapest";
+        school.principal.address.zip = 1011;
+        final var mirror = BeanMirror.of(School.class, LOOKUP);
+        final var city = mirror.createPathGetter("principal.address.city", String.class);
+        final var zip = mirror.createPathGetter("principal.address.zip", int.class);
+        final var age = mirror.createPathGetter("principal.age", int.class);
+        assertAll(
+                () -> assertEquals("Budapest", city.apply(school)),
+                () -> assertEquals(1011, (int) zip.apply(school)),
+                () -> assertEquals(50, (int) age.apply(school)),
+                () -> assertThrows(NullPointerException.class, () -> city.apply(new School()))
+        );
+    }
+
+    @Test
+    void createNullSafePathGetter() {
+        final var school = new School();
+        final var mirror = BeanMirror.of(School.class, LOOKUP);
+        final var city = mirror.createPathGetter("principal.address.city", String.class, "unknown");
+        final var zip = mirror.createPathGetter("principal.address.zip", int.class, null);
+        assertAll(
+                () -> assertEquals("unknown", city.apply(null)),
+                () -> assertEquals("unknown", city.apply(school)),
+                () -> assertEquals(0, (int) zip.apply(school)),
+                () -> {
+                    school.principal = new Principal();
+                    assertEquals("unknown", city.apply(school));
+                    school.principal.address = new Address();
+                    school.principal.address.zip = 1011;
+                    assertEquals(null, city.apply(school));
+                    assertEquals(1011, (int) zip.apply(school));
+                }
+        );
+    }
+
+    @Test
+    void createPathSetter() {
+        final var school = new School();
+        final var mirror = BeanMirror.of(School.class, LOOKUP);
+        final var city = mirror.createPathSetter("principal.address.city", String.class);
+        final var zip = mirror.createPathSetter("principal.address.zip", int.class);
+        city.accept(school, "Budapest");
+        final var address = school.principal.address;
+        zip.accept(school, 1011);
+        assertAll(
+                () -> assertEquals("Budapest", school.principal.address.city),
+                () -> assertEquals(1011, school.principal.address.zip),
+                () -> assertSame(address, school.principal.address),
+                () -> assertThrows(NullPointerException.class, () -> city.accept(null, "Budapest"))
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private abstract static class Named {
+        String name;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Label extends Named {
+        private String text;
+
+        Label(final String text) {
+            this.text = text;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Tag {
+        private Named named;
+        private Label label;
+    }
+
+    @Test
+    void createPathSetterWithoutConstructor() {
+        final var tag = new Tag();
+        final var mirror = BeanMirror.of(Tag.class, LOOKUP);
+        final var text = mirror.createPathSetter("label.text", String.class);
+        final var name = mirror.createPathSetter("named.name", String.class);
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> text.accept(tag, "first")),
+                () -> assertThrows(NullPointerException.class, () -> name.accept(tag, "first"))
+        );
+        tag.label = new Label("none");
+        tag.named = tag.label;
+        text.accept(tag, "second");
+        name.accept(tag, "third");
+        assertAll(
+                () -> assertEquals("second", tag.label.text),
+                () -> assertEquals("third", tag.label.name)
+        );
+    }
+
+    @Test
+    void createPathGetterWithInvalidPath() {
+        final var mirror = BeanMirror.of(School.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createPathGetter("principal.missing", String.class)).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createPathGetter("principal.address.city", Object.class)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createPathSetter("principal..city", String.class)).getCause().getClass())
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private static class PrimitiveTarget {
+        private int i;
+        private long l;
+        private double d;
+
+        private static int si;
+        private static long sl;
+        private static double sd;
+    }
+
+    @Test
+    void createPrimitiveGettersAndSetters() {
+        final var target = new PrimitiveTarget();
+        final var mirror = BeanMirror.of(PrimitiveTarget.class, LOOKUP);
+        mirror.createIntSetter("i").accept(target, 1);
+        mirror.createLongSetter("l").accept(target, 2L);
+        mirror.createDoubleSetter("d").accept(target, 3.0);
+        assertAll(
+                () -> assertEquals(1, target.i),
+                () -> assertEquals(2L, target.l),
+                () -> assertEquals(3.0, target.d),
+                () -> assertEquals(1, mirror.createIntGetter("i").applyAsInt(target)),
+                () -> assertEquals(2L, mirror.createLongGetter("l").applyAsLong(target)),
+                () -> assertEquals(3.0, mirror.createDoubleGetter("d").applyAsDouble(target))
+        );
+    }
+
+    @Test
+    void createStaticPrimitiveGettersAndSetters() {
+        final var mirror = BeanMirror.of(PrimitiveTarget.class, LOOKUP);
+        mirror.createStaticIntSetter("si").accept(4);
+        mirror.createStaticLongSetter("sl").accept(5L);
+        mirror.createStaticDoubleSetter("sd").accept(6.0);
+        assertAll(
+                () -> assertEquals(4, PrimitiveTarget.si),
+                () -> assertEquals(5L, PrimitiveTarget.sl),
+                () -> assertEquals(6.0, PrimitiveTarget.sd),
+                () -> assertEquals(4, mirror.createStaticIntGetter("si").getAsInt()),
+                () -> assertEquals(5L, mirror.createStaticLongGetter("sl").getAsLong()),
+                () -> assertEquals(6.0, mirror.createStaticDoubleGetter("sd").getAsDouble())
+        );
+    }
+
+    @Test
+    void createPrimitiveGetterWithWrongType() {
+        final var mirror = BeanMirror.of(PrimitiveTarget.class, LOOKUP);
+        final var exception = assertThrows(BeanMirrorException.class, () -> mirror.createLongGetter("i"));
+        assertEquals(NoSuchFieldException.class, exception.getCause().getClass());
+    }
+
     @SuppressWarnings("unused")
     private static class RunTarget {
 
@@ -0,0 +1,137 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.tests.astype.Child;
+import com.github.elopteryx.reflect.tests.astype.GrandChild;
+import com.github.elopteryx.reflect.tests.astype.Parent;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.Objects;
+
+class MethodMirrorTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private String value = "";
+
+        private String zero() {
+            return "zero";
+        }
+
+        private String one(final String a) {
+            return a;
+        }
+
+        private int two(final int a, final int b) {
+            return a + b;
+        }
+
+        private String three(final String a, final String b, final String c) {
+            return a + b + c;
+        }
+
+        private String four(final String a, final String b, final String c, final String d) {
+            return a + b + c + d;
+        }
+
+        private String five(final String a, final String b, final String c, final String d, final String e) {
+            return a + b + c + d + e;
+        }
+
+        private void set(final String value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        private static String join(final String a, final String b) {
+            return a + b;
+        }
+
+        private static String all(final String... values) {
+            return String.join("", values);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class SubTarget extends Target {}
+
+    @Test
+    void invokeByArity() {
+        final var target = new Target();
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        assertAll(
+                () -> assertEquals("zero", mirror.method("zero").invoke0(target)),
+                () -> assertEquals("a", mirror.method("one", String.class).invoke1(target, "a")),
+                () -> assertEquals(3, mirror.method("two", int.class, int.class).invoke2(target, 1, 2)),
+                () -> assertEquals("abc", mirror.method("three", String.class, String.class, String.class).invoke3(target, "a", "b", "c")),
+                () -> assertEquals("abcd", mirror.method("four", String.class, String.class, String.class, String.class).invoke4(target, "a", "b", "c", "d")),
+                () -> assertEquals("abcde", mirror.method("five", String.class, String.class, String.class, String.class, String.class).invoke(target, "a", "b", "c", "d", "e"))
+        );
+    }
+
+    @Test
+    void invokeVoid() {
+        final var target = new Target();
+        final var method = BeanMirror.of(target, LOOKUP).method("set", String.class);
+        assertAll(
+                () -> assertNull(method.invoke1(target, "a")),
+                () -> assertEquals("a", target.value),
+                () -> {
+                    final var exception = assertThrows(BeanMirrorException.class, () -> method.invoke1(target, null));
+                    assertEquals(NullPointerException.class, exception.getCause().getClass());
+                }
+        );
+    }
+
+    @Test
+    void invokeStatic() {
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        assertAll(
+                () -> assertEquals("ab", mirror.method("join", String.class, String.class).invoke2(null, "a", "b")),
+                () -> assertEquals("ab", mirror.method("join", String.class, String.class).invoke(null, "a", "b")),
+                () -> assertEquals("abc", mirror.method("all", String[].class).invoke1(null, new String[]{ "a", "b", "c" }))
+        );
+    }
+
+    @Test
+    void invokeInherited() {
+        final var target = new SubTarget();
+        final var method = BeanMirror.of(SubTarget.class, LOOKUP).method("zero");
+        assertEquals("zero", method.invoke0(target));
+    }
+
+    @Test
+    void invokeWithAsType() {
+        final var grandChild = new GrandChild();
+        assertAll(
+                () -> assertEquals(2, BeanMirror.of(grandChild, LOOKUP).method("call").invoke0(grandChild)),
+                () -> assertEquals(1, BeanMirror.of(grandChild, LOOKUP).asType(Child.class).method("call").invoke0(grandChild)),
+                () -> assertEquals(0, BeanMirror.of(grandChild, LOOKUP).asType(Parent.class).method("call").invoke0(grandChild))
+        );
+    }
+
+    @Test
+    void invokeWithWrongArity() {
+        final var method = BeanMirror.of(Target.class, LOOKUP).method("one", String.class);
+        final var exception = assertThrows(BeanMirrorException.class, () -> method.invoke0(new Target()));
+        assertEquals(WrongMethodTypeException.class, exception.getCause().getClass());
+        assertEquals(1, method.parameterCount());
+    }
+
+    @Test
+    void missingMethod() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Target.class, LOOKUP).method("one", Integer.class));
+        assertEquals(NoSuchMethodException.class, exception.getCause().getClass());
+    }
+}
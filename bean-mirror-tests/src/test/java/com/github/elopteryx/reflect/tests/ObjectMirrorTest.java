@@ -2,11 +2,14 @@ package com.github.elopteryx.reflect.tests;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.elopteryx.reflect.BeanMirror;
 import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.tests.counter.ChildCounter;
 import org.junit.jupiter.api.Test;
 
 import java.lang.invoke.MethodHandles;
@@ -162,6 +165,136 @@ class ObjectMirrorTest {
         );
     }
 
+    @Test
+    void createGeneratedGetterAndSetter() {
+        final var target = new GetterSetterTarget();
+        final var mirror = BeanMirror.of(target, LOOKUP);
+        final var getter = mirror.createGeneratedGetter("value", String.class);
+        final var setter = mirror.createGeneratedSetter("value", String.class);
+        setter.accept(target, "a");
+        assertAll(
+                () -> assertEquals("a", target.getValue()),
+                () -> assertEquals("a", getter.apply(target)),
+                () -> assertEquals("a", mirror.createMethodGetter("getValue", String.class).apply(target))
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private static class PrimitiveTarget {
+        private int i = 1;
+        private long l = 2L;
+        private double d = 3.0;
+    }
+
+    @Test
+    void createPrimitiveGetterAndSetter() {
+        final var target = new PrimitiveTarget();
+        final var mirror = BeanMirror.of(target, LOOKUP);
+        final var intGetter = mirror.createIntGetter("i");
+        final var longGetter = mirror.createLongGetter("l");
+        final var doubleGetter = mirror.createDoubleGetter("d");
+        assertAll(
+                () -> assertEquals(1, intGetter.applyAsInt(target)),
+                () -> assertEquals(2L, longGetter.applyAsLong(target)),
+                () -> assertEquals(3.0, doubleGetter.applyAsDouble(target)),
+                () -> {
+                    mirror.createIntSetter("i").accept(target, 10);
+                    mirror.createLongSetter("l").accept(target, 20L);
+                    mirror.createDoubleSetter("d").accept(target, 30.0);
+                    assertEquals(10, intGetter.applyAsInt(target));
+                    assertEquals(20L, longGetter.applyAsLong(target));
+                    assertEquals(30.0, doubleGetter.applyAsDouble(target));
+                }
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private static class AtomicTarget {
+        private int count;
+        private long total = 10L;
+        private double sum;
+        private String state = "new";
+        private final int constant = 1;
+    }
+
+    @Test
+    void atomicAccess() {
+        final var target = new AtomicTarget();
+        final var mirror = BeanMirror.of(target, LOOKUP);
+        final var state = target.state;
+        assertAll(
+                () -> assertEquals(0, mirror.getAndAdd("count", 2)),
+                () -> assertEquals(2, mirror.getAndAdd("count", 3)),
+                () -> assertEquals(10L, mirror.getAndAdd("total", 5L)),
+                () -> assertEquals(0.0, mirror.getAndAdd("sum", 1.5)),
+                () -> assertEquals(5, (int) mirror.getVolatile("count", int.class)),
+                () -> assertEquals(15L, target.total),
+                () -> assertEquals(1.5, target.sum),
+                () -> assertTrue(mirror.compareAndSet("count", 5, 6)),
+                () -> assertFalse(mirror.compareAndSet("count", 5, 7)),
+                () -> assertEquals(6, target.count),
+                () -> assertFalse(mirror.compareAndSet("state", new String("new"), "done")),
+                () -> assertTrue(mirror.compareAndSet("state", state, "done")),
+                () -> assertEquals("released", mirror.setRelease("state", "released").getVolatile("state", String.class)),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.compareAndSet("constant", 1, 2)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.setRelease("constant", 2)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.getAndAdd("constant", 1)).getCause().getClass()),
+                () -> assertEquals(15L, mirror.getAndAdd("total", 1)),
+                () -> assertEquals(16L, target.total),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.getAndAdd("count", 0.5)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.getAndAdd("count", 1L << 32)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.getAndAdd("state", 1)).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> mirror.compareAndSet("missing", 1, 2)).getCause().getClass())
+        );
+    }
+
+    @Test
+    void createAtomicAccessors() {
+        final var target = new AtomicTarget();
+        final var mirror = BeanMirror.of(target, LOOKUP);
+        final var updater = mirror.createCasUpdater("count", int.class);
+        final var getter = mirror.createVolatileGetter("count", int.class);
+        assertAll(
+                () -> assertTrue(updater.compareAndSet(target, 0, 1)),
+                () -> assertFalse(updater.compareAndSet(target, 0, 2)),
+                () -> assertEquals(1, (int) getter.apply(target)),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createCasUpdater("constant", int.class)).getCause().getClass())
+        );
+    }
+
+    private static class AtomicTargetChild extends AtomicTarget {}
+
+    @Test
+    void createCasUpdaterForInheritedField() {
+        final var target = new AtomicTargetChild();
+        final var mirror = BeanMirror.of(target, LOOKUP);
+        final var updater = mirror.createCasUpdater("count", int.class);
+        assertAll(
+                () -> assertTrue(updater.compareAndSet(target, 0, 1)),
+                () -> assertEquals(1, (int) mirror.createVolatileGetter("count", int.class).apply(target)),
+                () -> assertTrue(mirror.compareAndSet("count", 1, 2)),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.createCasUpdater("constant", int.class)).getCause().getClass())
+        );
+    }
+
+    @Test
+    void atomicAccessToPrivateSuperTypeField() {
+        final var target = new ChildCounter();
+        final var mirror = BeanMirror.of(target, LOOKUP);
+        final var updater = mirror.createCasUpdater("count", int.class);
+        assertAll(
+                () -> assertTrue(updater.compareAndSet(target, 0, 1)),
+                () -> assertEquals(1, (int) mirror.createVolatileGetter("count", int.class).apply(target)),
+                () -> assertTrue(mirror.compareAndSet("count", 1, 2)),
+                () -> assertEquals(2, (int) mirror.getVolatile("count", int.class)),
+                () -> assertEquals(0L, mirror.getAndAdd("total", 5L)),
+                () -> assertEquals(2, target.count()),
+                () -> assertEquals(5L, target.total())
+        );
+    }
+
     @SuppressWarnings("unused")
     private static class GetterSetterTargetStatic {
         private static String value;
@@ -238,6 +371,29 @@ class ObjectMirrorTest {
         assertEquals(mirror.call(String.class, "call").get(), "callable");
     }
 
+    @SuppressWarnings("unused")
+    private static class InstanceCallTarget {
+        private final String value;
+
+        private InstanceCallTarget(final String value) {
+            this.value = value;
+        }
+
+        private String call() {
+            return value;
+        }
+    }
+
+    @Test
+    void callOnDifferentInstances() {
+        assertAll(
+                () -> assertEquals("a", BeanMirror.of(new InstanceCallTarget("a"), LOOKUP).call(String.class, "call").get()),
+                () -> assertEquals("b", BeanMirror.of(new InstanceCallTarget("b"), LOOKUP).call(String.class, "call").get()),
+                () -> assertEquals("c", BeanMirror.of(new InstanceCallTarget("c"), LOOKUP).asType(InstanceCallTarget.class).call(String.class, "call").get()),
+                () -> assertEquals("d", BeanMirror.of(new InstanceCallTarget("d"), LOOKUP).asType(InstanceCallTarget.class).call(String.class, "call").get())
+        );
+    }
+
     @Test
     void callMissing() {
         final var exception = assertThrows(BeanMirrorException.class,
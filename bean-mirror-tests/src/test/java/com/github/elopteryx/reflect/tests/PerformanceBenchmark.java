@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 @SuppressWarnings("unused")
 @Warmup(iterations = 5, time = 1)
@@ -48,6 +49,10 @@ public class PerformanceBenchmark {
     private static MethodHandle mh;
     private static Function<PerformanceBenchmark, Integer> getter;
 
+    private static ToIntFunction<PerformanceBenchmark> intGetter;
+    private static Function<PerformanceBenchmark, Integer> generatedGetter;
+    private static Function<PerformanceBenchmark, Integer> methodGetter;
+
     private static Map<String, Object> accessors = new ConcurrentHashMap<>();
 
     static {
@@ -65,8 +70,11 @@ public class PerformanceBenchmark {
             final var mh4 = MethodHandles.lookup().findGetter(PerformanceBenchmark.class, "value4", int.class);
             accessors.put("value4", mh4);
 
-            getter = BeanMirror.of(new PerformanceBenchmark(), MethodHandles.lookup()).createGetter("value", Integer.class);
+            getter = BeanMirror.of(new PerformanceBenchmark(), MethodHandles.lookup()).createGetter("value", int.class);
             static_getter = getter;
+            intGetter = BeanMirror.of(PerformanceBenchmark.class, MethodHandles.lookup()).createIntGetter("value");
+            generatedGetter = BeanMirror.of(PerformanceBenchmark.class, MethodHandles.lookup()).createGeneratedGetter("value", int.class);
+            methodGetter = BeanMirror.of(PerformanceBenchmark.class, MethodHandles.lookup()).createMethodGetter("getValue", int.class);
 
             static_reflective = reflective;
             static_unReflect = unReflect;
@@ -79,6 +87,10 @@ public class PerformanceBenchmark {
         }
     }
 
+    public int getValue() {
+        return value;
+    }
+
     @Benchmark
     public int plain() {
         return value;
@@ -184,4 +196,19 @@ public class PerformanceBenchmark {
         return static_getter.apply(this);
     }
 
+    @Benchmark
+    public int int_getter_applyAsInt() {
+        return intGetter.applyAsInt(this);
+    }
+
+    @Benchmark
+    public int generated_getter_apply() {
+        return generatedGetter.apply(this);
+    }
+
+    @Benchmark
+    public int method_getter_apply() {
+        return methodGetter.apply(this);
+    }
+
 }
@@ -0,0 +1,102 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+
+class RecordAccessorTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private record Point(int x, long y, String label) {
+        private Point {
+            Objects.requireNonNull(label);
+        }
+    }
+
+    private record Primitives(boolean b, byte bt, short s, char c, int i, long l, float f, double d) {}
+
+    private record Empty() {}
+
+    private static class NotRecord {}
+
+    @Test
+    void components() {
+        final var point = new Point(1, 2L, "a");
+        final var accessor = BeanMirror.of(Point.class, LOOKUP).recordAccessor();
+        assertAll(
+                () -> assertEquals(3, accessor.size()),
+                () -> assertEquals("x", accessor.name(0)),
+                () -> assertEquals(long.class, accessor.type(1)),
+                () -> assertEquals(2, accessor.indexOf("label")),
+                () -> assertEquals(1, accessor.get(point, 0)),
+                () -> assertEquals("a", accessor.get(point, 2)),
+                () -> assertEquals(1, accessor.getInt(point, 0)),
+                () -> assertEquals(2L, accessor.getLong(point, 1)),
+                () -> assertEquals(2.0, accessor.getDouble(point, 1))
+        );
+    }
+
+    @Test
+    void create() {
+        final var accessor = BeanMirror.of(Point.class, LOOKUP).recordAccessor();
+        assertAll(
+                () -> assertEquals(new Point(1, 2L, "a"), accessor.create(1, 2L, "a")),
+                () -> assertEquals(new Point(1, 2L, "a"), accessor.create(new long[]{ 1, 2 }, new Object[]{ "a" })),
+                () -> {
+                    final var exception = assertThrows(BeanMirrorException.class, () -> accessor.create(1, 2L, null));
+                    assertEquals(NullPointerException.class, exception.getCause().getClass());
+                },
+                () -> {
+                    final var exception = assertThrows(BeanMirrorException.class, () -> accessor.create(1, 2L));
+                    assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+                }
+        );
+    }
+
+    @Test
+    void createFromSlots() {
+        final var accessor = BeanMirror.of(Primitives.class, LOOKUP).recordAccessor();
+        final var slots = new long[]{ 1, 2, 3, 'c', 5, 6, Float.floatToRawIntBits(7.5F), Double.doubleToRawLongBits(8.25) };
+        assertAll(
+                () -> assertEquals(new Primitives(true, (byte) 2, (short) 3, 'c', 5, 6L, 7.5F, 8.25), accessor.create(slots, new Object[0])),
+                () -> assertEquals(new Empty(), BeanMirror.of(Empty.class, LOOKUP).recordAccessor().create())
+        );
+    }
+
+    @Test
+    void with() {
+        final var point = new Point(1, 2L, "a");
+        final var accessor = BeanMirror.of(Point.class, LOOKUP).recordAccessor();
+        assertAll(
+                () -> assertEquals(new Point(3, 2L, "a"), accessor.with(point, 0, 3)),
+                () -> assertEquals(new Point(1, 4L, "a"), accessor.with(point, 1, 4L)),
+                () -> assertEquals(new Point(1, 2L, "b"), accessor.with(point, accessor.indexOf("label"), "b")),
+                () -> assertEquals(new Point(1, 2L, "a"), point),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.with(point, 3, "b")),
+                () -> {
+                    final var exception = assertThrows(BeanMirrorException.class, () -> accessor.with(point, 2, 1));
+                    assertEquals(ClassCastException.class, exception.getCause().getClass());
+                }
+        );
+    }
+
+    @Test
+    void notRecord() {
+        final var exception = assertThrows(BeanMirrorException.class, () -> BeanMirror.of(NotRecord.class, LOOKUP).recordAccessor());
+        assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void sameAccessorForSameType() {
+        assertSame(BeanMirror.of(Point.class, LOOKUP).recordAccessor(), BeanMirror.of(Point.class, LOOKUP).recordAccessor());
+    }
+}
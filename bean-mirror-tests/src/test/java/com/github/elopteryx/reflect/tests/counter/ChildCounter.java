@@ -0,0 +1,3 @@
+package com.github.elopteryx.reflect.tests.counter;
+
+public class ChildCounter extends ParentCounter {}
@@ -0,0 +1,17 @@
+package com.github.elopteryx.reflect.tests.counter;
+
+@SuppressWarnings("unused")
+public class ParentCounter {
+
+    private int count;
+
+    private long total;
+
+    public int count() {
+        return count;
+    }
+
+    public long total() {
+        return total;
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.elopteryx.reflect.tests.hidden;
+
+@SuppressWarnings("unused")
+public final class Hidden {
+
+    private String name;
+
+    private Hidden() {}
+
+    private String getName() {
+        return name;
+    }
+
+    private void setName(final String name) {
+        this.name = name;
+    }
+}
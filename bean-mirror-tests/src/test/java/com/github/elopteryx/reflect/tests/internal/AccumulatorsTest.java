@@ -0,0 +1,133 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Accumulators;
+import com.github.elopteryx.reflect.tests.counter.ChildCounter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+class AccumulatorsTest {
+
+    @SuppressWarnings("unused")
+    private static class Counters {
+        private static long requests;
+        private static String name;
+        private long hits;
+        private int misses;
+        private double ratio;
+        private final long total = 0L;
+    }
+
+    @Test
+    void createAccumulators() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Accumulators.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void accumulate() {
+        final var counters = new Counters();
+        final var hits = BeanMirror.of(counters, MethodHandles.lookup()).createAccumulator("hits");
+        final var misses = BeanMirror.of(counters, MethodHandles.lookup()).createAccumulator("misses");
+        hits.increment();
+        hits.add(41L);
+        misses.add(-3L);
+        assertAll(
+                () -> assertEquals(0L, counters.hits),
+                () -> assertEquals(42L, hits.pending()),
+                () -> assertEquals(42L, hits.flush()),
+                () -> assertEquals(0L, hits.pending()),
+                () -> assertEquals(42L, counters.hits),
+                () -> assertEquals(-3L, misses.get()),
+                () -> assertEquals(-3, counters.misses)
+        );
+        counters.hits = 100L;
+        hits.increment();
+        assertEquals(101L, hits.get());
+    }
+
+    @Test
+    void accumulateWithOverflow() {
+        final var counters = new Counters();
+        final var misses = BeanMirror.of(counters, MethodHandles.lookup()).createAccumulator("misses");
+        counters.misses = Integer.MAX_VALUE;
+        misses.increment();
+        assertAll(
+                () -> assertEquals(Integer.MIN_VALUE, misses.flush()),
+                () -> assertEquals(Integer.MIN_VALUE, counters.misses)
+        );
+        counters.misses = 0;
+        misses.add(1L << 32);
+        misses.add(5L);
+        assertAll(
+                () -> assertEquals(5L, misses.flush()),
+                () -> assertEquals(5, counters.misses)
+        );
+    }
+
+    @Test
+    void accumulateConcurrently() {
+        final var counters = new Counters();
+        final var hits = BeanMirror.of(counters, MethodHandles.lookup()).createAccumulator("hits");
+        final var requests = BeanMirror.of(Counters.class, MethodHandles.lookup()).createAccumulator("requests");
+        final var start = requests.get();
+        final var futures = IntStream.range(0, 8).mapToObj(i -> CompletableFuture.runAsync(() -> {
+            for (var j = 0; j < 10_000; j++) {
+                hits.increment();
+                requests.add(2L);
+                if (j % 1000 == 0) {
+                    hits.flush();
+                }
+            }
+        })).toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        assertAll(
+                () -> assertEquals(80_000L, hits.get()),
+                () -> assertEquals(80_000L, counters.hits),
+                () -> assertEquals(start + 160_000L, requests.get())
+        );
+    }
+
+    @Test
+    void accumulatePrivateSuperTypeField() {
+        final var counter = new ChildCounter();
+        final var total = BeanMirror.of(counter, MethodHandles.lookup()).createAccumulator("total");
+        final var count = BeanMirror.of(counter, MethodHandles.lookup()).createAccumulator("count");
+        total.add(7L);
+        count.increment();
+        assertAll(
+                () -> assertEquals(7L, total.flush()),
+                () -> assertEquals(1L, count.flush()),
+                () -> assertEquals(7L, counter.total()),
+                () -> assertEquals(1, counter.count())
+        );
+    }
+
+    @Test
+    void staticAccumulatorIsShared() {
+        final var mirror = BeanMirror.of(Counters.class, MethodHandles.lookup());
+        assertSame(mirror.createAccumulator("requests"), mirror.createAccumulator("requests"));
+    }
+
+    @Test
+    void invalidFields() {
+        final var counters = new Counters();
+        assertAll(
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(counters, MethodHandles.lookup()).createAccumulator("ratio")),
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(counters, MethodHandles.lookup()).createAccumulator("total")),
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(counters, MethodHandles.lookup()).createAccumulator("nothing")),
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Counters.class, MethodHandles.lookup()).createAccumulator("name")),
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Counters.class, MethodHandles.lookup()).createAccumulator("hits"))
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.ArrayOperations;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class ArrayOperationsTest {
+
+    @Test
+    void createArrayOperations() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(ArrayOperations.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void elementHandleIsCached() {
+        assertAll(
+                () -> assertSame(ArrayOperations.elementHandle(byte[].class), ArrayOperations.elementHandle(byte[].class)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ArrayOperations.elementHandle(String.class))
+        );
+    }
+
+    @Test
+    void everyComponentType() {
+        final Object[] arrays = {new boolean[2], new byte[2], new short[2], new char[2], new int[2], new long[2], new float[2], new double[2], new Object[2]};
+        final Object[] values = {true, (byte) 1, (short) 1, 'a', 1, 1L, 1F, 1D, "a"};
+        for (var i = 0; i < arrays.length; i++) {
+            final var array = arrays[i];
+            final var value = values[i];
+            ArrayOperations.fill(array, 1, 2, value);
+            final var copy = ArrayOperations.copyOf(array, 2);
+            assertAll(
+                    () -> assertEquals(2, ArrayOperations.length(array)),
+                    () -> assertEquals(array.getClass(), copy.getClass()),
+                    () -> assertTrue(ArrayOperations.equals(array, copy)),
+                    () -> assertEquals(ArrayOperations.hashCode(array), ArrayOperations.hashCode(copy)),
+                    () -> assertEquals(-1, ArrayOperations.mismatch(array, copy)),
+                    () -> assertEquals(0, ArrayOperations.compare(array, copy)),
+                    () -> assertEquals(value, ArrayOperations.elementHandle(array.getClass()).get(array, 1))
+            );
+        }
+    }
+
+    @Test
+    void notAnArray() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ArrayOperations.length("value")),
+                () -> assertThrows(IllegalArgumentException.class, () -> ArrayOperations.copyOf("value", 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ArrayOperations.hashCode("value")),
+                () -> assertFalse(ArrayOperations.equals(new int[0], null)),
+                () -> assertFalse(ArrayOperations.equals(new int[0], new long[0]))
+        );
+    }
+}
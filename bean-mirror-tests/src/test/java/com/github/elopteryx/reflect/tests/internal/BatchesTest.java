@@ -0,0 +1,140 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Batches;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+class BatchesTest {
+
+    @SuppressWarnings("unused")
+    private static class Order {
+        private final int quantity;
+        private int total;
+
+        private Order(final int quantity) {
+            this.quantity = quantity;
+        }
+
+        private void recalculate() {
+            if (quantity < 0) {
+                throw new IllegalStateException("Negative quantity: " + quantity);
+            }
+            total = quantity * 10;
+        }
+
+        private void recalculate(final Integer price) {
+            total = quantity * price;
+        }
+
+        private int total() {
+            recalculate();
+            return total;
+        }
+    }
+
+    private static List<Order> orders(final int size) {
+        final var orders = new ArrayList<Order>(size);
+        IntStream.range(0, size).forEach(i -> orders.add(new Order(i)));
+        return orders;
+    }
+
+    @Test
+    void createBatches() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Batches.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void forEach() {
+        final var orders = orders(10_000);
+        final var result = BeanMirror.of(Order.class, MethodHandles.lookup()).forEach(orders, "recalculate");
+        assertAll(
+                () -> assertTrue(result.isSuccessful()),
+                () -> assertEquals(10_000, result.size()),
+                () -> assertNull(result.results().get(0)),
+                () -> assertTrue(orders.stream().allMatch(order -> order.total == order.quantity * 10))
+        );
+    }
+
+    @Test
+    void forEachWithArguments() {
+        final var orders = orders(100);
+        final var pool = new ForkJoinPool(2);
+        try {
+            final var result = BeanMirror.of(Order.class, MethodHandles.lookup()).forEach(pool, orders, "recalculate", 3);
+            assertAll(
+                    () -> assertTrue(result.isSuccessful()),
+                    () -> assertTrue(orders.stream().allMatch(order -> order.total == order.quantity * 3))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void forEachWithFailures() {
+        final var orders = orders(5);
+        orders.set(1, new Order(-1));
+        orders.set(3, null);
+        final var result = BeanMirror.of(Order.class, MethodHandles.lookup()).forEach(orders, "recalculate");
+        assertAll(
+                () -> assertFalse(result.isSuccessful()),
+                () -> assertEquals(Set.of(1, 3), result.failures().keySet()),
+                () -> assertEquals(IllegalStateException.class, result.failures().get(1).getClass()),
+                () -> assertEquals(NullPointerException.class, result.failures().get(3).getClass()),
+                () -> assertEquals(40, orders.get(4).total)
+        );
+        final var exception = assertThrows(BeanMirrorException.class, result::orElseThrow);
+        assertAll(
+                () -> assertEquals(IllegalStateException.class, exception.getCause().getClass()),
+                () -> assertEquals(1, exception.getSuppressed().length)
+        );
+    }
+
+    @Test
+    void map() {
+        final var orders = orders(1_000);
+        final var executor = Executors.newFixedThreadPool(3);
+        try {
+            final var mirror = BeanMirror.of(Order.class, MethodHandles.lookup());
+            final var result = mirror.map(executor, orders, int.class, "total");
+            final var expected = IntStream.range(0, 1_000).map(i -> i * 10).boxed().toList();
+            assertAll(
+                    () -> assertTrue(result.isSuccessful()),
+                    () -> assertEquals(expected, result.orElseThrow()),
+                    () -> assertEquals(expected, mirror.map(orders, Integer.class, "total").results())
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void mapInvalid() {
+        final var mirror = BeanMirror.of(Order.class, MethodHandles.lookup());
+        final var orders = orders(2);
+        assertAll(
+                () -> assertEquals(NoSuchMethodException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.map(orders, int.class, "missing")).getCause().getClass()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> mirror.map(orders, int.class, "total").results().set(0, 1)),
+                () -> assertEquals(0, mirror.map(List.of(), int.class, "total").size())
+        );
+    }
+}
@@ -0,0 +1,251 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.BinaryCodecs;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+class BinaryCodecsTest {
+
+    @SuppressWarnings("unused")
+    private static class Order {
+        private long id;
+        private boolean paid;
+        private byte priority;
+        private short quantity;
+        private char currency;
+        private int amount;
+        private float discount;
+        private double rate;
+        private String customer;
+        private Address address;
+        private transient int cached;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Address {
+        private String city;
+        private int zip;
+    }
+
+    @SuppressWarnings("unused")
+    private static class PostalAddress extends Address {
+        private String box;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Node {
+        private int value;
+        private Node next;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Unsupported {
+        private List<String> values;
+    }
+
+    private static Order order() {
+        final var order = new Order();
+        order.id = 123_456_789_012L;
+        order.paid = true;
+        order.priority = -3;
+        order.quantity = 300;
+        order.currency = '\u20AC';
+        order.amount = -42;
+        order.discount = 0.25F;
+        order.rate = Math.PI;
+        order.customer = "J\u00F6rg \uD83D\uDE00";
+        order.address = new Address();
+        order.address.city = "Budapest";
+        order.address.zip = 1011;
+        order.cached = 7;
+        return order;
+    }
+
+    @Test
+    void createBinaryCodecs() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(BinaryCodecs.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void roundTrip() {
+        final var codec = BeanMirror.of(Order.class, MethodHandles.lookup()).binaryCodec();
+        final var order = order();
+        final var buffer = codec.encode(order);
+        final var decoded = codec.decode(buffer);
+        assertAll(
+                () -> assertEquals(codec.size(order), buffer.limit()),
+                () -> assertFalse(buffer.hasRemaining()),
+                () -> assertEquals(123_456_789_012L, decoded.id),
+                () -> assertTrue(decoded.paid),
+                () -> assertEquals(-3, decoded.priority),
+                () -> assertEquals(300, decoded.quantity),
+                () -> assertEquals('\u20AC', decoded.currency),
+                () -> assertEquals(-42, decoded.amount),
+                () -> assertEquals(0.25F, decoded.discount),
+                () -> assertEquals(Math.PI, decoded.rate),
+                () -> assertEquals(order.customer, decoded.customer),
+                () -> assertEquals("Budapest", decoded.address.city),
+                () -> assertEquals(1011, decoded.address.zip),
+                () -> assertEquals(0, decoded.cached)
+        );
+    }
+
+    @Test
+    void layout() {
+        final var codec = BeanMirror.of(Address.class, MethodHandles.lookup()).binaryCodec();
+        final var address = new Address();
+        address.city = "\u00E9";
+        address.zip = 0x01020304;
+        final var buffer = codec.encode(address);
+        final var bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertAll(
+                () -> assertEquals(10, codec.size(address)),
+                // The int in the fixed section, then the length of the string and its bytes
+                () -> assertEquals(List.of(1, 2, 3, 4, 0, 0, 0, 2, 0xC3, 0xA9), toList(bytes))
+        );
+    }
+
+    @Test
+    void directAndLittleEndianBuffers() {
+        final var codec = BeanMirror.of(Order.class, MethodHandles.lookup()).binaryCodec();
+        final var order = order();
+        final var heap = codec.encode(order);
+        final var direct = ByteBuffer.allocateDirect(100).order(ByteOrder.LITTLE_ENDIAN);
+        direct.position(3);
+        codec.encode(order, direct);
+        direct.flip().position(3);
+        assertAll(
+                () -> assertEquals(heap, direct),
+                () -> assertEquals(order.customer, codec.decode(direct).customer),
+                () -> assertFalse(direct.hasRemaining())
+        );
+    }
+
+    @Test
+    void nullValuesAndRecursiveTypes() {
+        final var codec = BeanMirror.of(Node.class, MethodHandles.lookup()).binaryCodec();
+        final var first = new Node();
+        first.value = 1;
+        first.next = new Node();
+        first.next.value = 2;
+        final var decoded = codec.decode(codec.encode(first));
+        final var orderCodec = BeanMirror.of(Order.class, MethodHandles.lookup()).binaryCodec();
+        final var empty = orderCodec.decode(orderCodec.encode(new Order()));
+        assertAll(
+                () -> assertEquals(1, decoded.value),
+                () -> assertEquals(2, decoded.next.value),
+                () -> assertNull(decoded.next.next),
+                () -> assertNull(empty.customer),
+                () -> assertNull(empty.address)
+        );
+    }
+
+    @Test
+    void stringsMatchPlatformEncoding() {
+        final var codec = BeanMirror.of(Address.class, MethodHandles.lookup()).binaryCodec();
+        for (final var city : new String[] {"", "plain", "\u00E1rv\u00EDzt\u0171r\u0151", "\u4E2D\u6587", "\uD83D\uDE00", "\uD83D", "a\uDE00b"}) {
+            final var address = new Address();
+            address.city = city;
+            final var buffer = codec.encode(address);
+            final var expected = city.getBytes(StandardCharsets.UTF_8);
+            final var actual = new byte[buffer.getInt(4)];
+            buffer.get(8, actual);
+            assertAll(
+                    () -> assertEquals(toList(expected), toList(actual)),
+                    () -> assertEquals(new String(expected, StandardCharsets.UTF_8), codec.decode(buffer).city)
+            );
+        }
+    }
+
+    @Test
+    void bufferBounds() {
+        final var codec = BeanMirror.of(Order.class, MethodHandles.lookup()).binaryCodec();
+        final var order = order();
+        final var encoded = codec.encode(order);
+        assertAll(
+                () -> assertThrows(BufferOverflowException.class, () -> codec.encode(order, ByteBuffer.allocate(10))),
+                () -> assertThrows(BufferOverflowException.class, () -> codec.encode(order, ByteBuffer.allocate(codec.size(order) - 1))),
+                () -> assertThrows(BufferUnderflowException.class, () -> codec.decode(encoded.limit(encoded.limit() - 1))),
+                () -> assertThrows(NullPointerException.class, () -> codec.encode(null, ByteBuffer.allocate(100)))
+        );
+    }
+
+    @Test
+    void bufferPositionIsKeptOnFailure() {
+        final var codec = BeanMirror.of(Order.class, MethodHandles.lookup()).binaryCodec();
+        final var order = order();
+        final var small = ByteBuffer.allocate(codec.size(order) - 1).position(2);
+        final var encoded = codec.encode(order);
+        final var truncated = encoded.limit(encoded.limit() - 1);
+        assertAll(
+                () -> assertThrows(BufferOverflowException.class, () -> codec.encode(order, small)),
+                () -> assertEquals(2, small.position()),
+                () -> assertThrows(BufferUnderflowException.class, () -> codec.decode(truncated)),
+                () -> assertEquals(0, truncated.position())
+        );
+    }
+
+    @Test
+    void subclassesAreRejected() {
+        final var codec = BeanMirror.of(Address.class, MethodHandles.lookup()).binaryCodec();
+        final var postal = new PostalAddress();
+        postal.box = "12";
+        final var order = order();
+        order.address = postal;
+        final var orderCodec = BeanMirror.of(Order.class, MethodHandles.lookup()).binaryCodec();
+        final var buffer = ByteBuffer.allocate(200);
+        final var postalCodec = BeanMirror.of(PostalAddress.class, MethodHandles.lookup()).binaryCodec();
+        final var decoded = postalCodec.decode(postalCodec.encode(postal));
+        assertAll(
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> codec.encode(postal)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> orderCodec.encode(order, buffer)).getCause().getClass()),
+                () -> assertEquals(0, buffer.position()),
+                // The codec of the subclass includes the inherited fields
+                () -> assertEquals("12", decoded.box),
+                () -> assertEquals(0, ((Address) decoded).zip)
+        );
+    }
+
+    @Test
+    void unsupportedTypes() {
+        assertAll(
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Unsupported.class, MethodHandles.lookup()).binaryCodec()),
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(String.class, MethodHandles.lookup()).binaryCodec()),
+                () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Runnable.class, MethodHandles.lookup()).binaryCodec())
+        );
+    }
+
+    @Test
+    void binaryCodecIsCached() {
+        final var mirror = BeanMirror.of(Order.class, MethodHandles.lookup());
+        assertSame(mirror.binaryCodec(), mirror.binaryCodec());
+    }
+
+    private static List<Integer> toList(final byte[] bytes) {
+        final var result = new Integer[bytes.length];
+        for (var i = 0; i < bytes.length; i++) {
+            result[i] = bytes[i] & 0xFF;
+        }
+        return List.of(result);
+    }
+}
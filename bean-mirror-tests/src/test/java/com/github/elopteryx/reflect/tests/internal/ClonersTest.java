@@ -0,0 +1,220 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.CloneDepth;
+import com.github.elopteryx.reflect.internal.Cloners;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+class ClonersTest {
+
+    private record Price(long amount, int[] history) {}
+
+    @SuppressWarnings("unused")
+    private static class Position {
+        private long id = 1L;
+        private final String symbol;
+        private int quantity;
+        private double[] marks = {1.0, 2.0};
+        private Price price = new Price(10L, new int[] {9, 10});
+        private Object[] legs;
+        private Position parent;
+        private TimeUnit unit = TimeUnit.SECONDS;
+        private List<String> tags = new ArrayList<>(List.of("a"));
+
+        private Position() {
+            this.symbol = "default";
+        }
+
+        private Position(final String symbol, final int quantity) {
+            this.symbol = symbol;
+            this.quantity = quantity;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Hedge extends Position {
+        private Position target = new Position("XYZ", 2);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Portfolio {
+        private List<Position> positions = new ArrayList<>();
+        private Map<String, Position> bySymbol = new TreeMap<>(Comparator.reverseOrder());
+        private List<String> names = List.of("a", "b");
+        private List<Position> pinned;
+        private Object notes;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Stamp extends Date {
+        private static final long serialVersionUID = 1L;
+        private String zone = "UTC";
+    }
+
+    @SuppressWarnings("unused")
+    private static class NoDefaultConstructor {
+        private final int value;
+
+        private NoDefaultConstructor(final int value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    void createCloners() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Cloners.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void shallowClone() {
+        final var position = new Position("ABC", 5);
+        final var copy = BeanMirror.of(Position.class, MethodHandles.lookup()).cloner(CloneDepth.SHALLOW).apply(position);
+        assertAll(
+                () -> assertNotSame(position, copy),
+                () -> assertEquals(1L, copy.id),
+                () -> assertEquals("ABC", copy.symbol),
+                () -> assertEquals(5, copy.quantity),
+                () -> assertSame(position.marks, copy.marks),
+                () -> assertSame(position.price, copy.price),
+                () -> assertSame(position.tags, copy.tags)
+        );
+    }
+
+    @Test
+    void deepClone() {
+        final var position = new Position("ABC", 5);
+        position.id = 7L;
+        final var child = new Position("DEF", 1);
+        child.parent = position;
+        position.legs = new Object[] {child, child, position.marks, "leg"};
+        final var copy = BeanMirror.of(Position.class, MethodHandles.lookup()).cloner(CloneDepth.DEEP).apply(position);
+        final var childCopy = (Position) copy.legs[0];
+        assertAll(
+                () -> assertEquals(7L, copy.id),
+                () -> assertEquals("ABC", copy.symbol),
+                () -> assertNotSame(position.marks, copy.marks),
+                () -> assertArrayEquals(position.marks, copy.marks),
+                () -> assertSame(copy.marks, copy.legs[2]),
+                () -> assertNotSame(position.price, copy.price),
+                () -> assertEquals(10L, copy.price.amount()),
+                () -> assertNotSame(position.price.history(), copy.price.history()),
+                () -> assertArrayEquals(new int[] {9, 10}, copy.price.history()),
+                () -> assertNotSame(child, childCopy),
+                () -> assertSame(childCopy, copy.legs[1]),
+                () -> assertSame(copy, childCopy.parent),
+                () -> assertEquals("DEF", childCopy.symbol),
+                () -> assertSame("leg", copy.legs[3]),
+                () -> assertSame(TimeUnit.SECONDS, copy.unit),
+                () -> assertNotSame(position.tags, copy.tags),
+                () -> assertEquals(List.of("a"), copy.tags),
+                () -> assertNull(childCopy.legs)
+        );
+    }
+
+    @Test
+    void deepCloneInheritedFields() {
+        final var hedge = new Hedge();
+        final var copy = BeanMirror.of(Hedge.class, MethodHandles.lookup()).cloner(CloneDepth.DEEP).apply(hedge);
+        final Position original = hedge;
+        final Position inherited = copy;
+        assertAll(
+                () -> assertEquals(1L, inherited.id),
+                () -> assertNotSame(original.marks, inherited.marks),
+                () -> assertNotSame(hedge.target, copy.target),
+                () -> assertEquals("XYZ", copy.target.symbol)
+        );
+    }
+
+    @Test
+    void deepCloneCollections() {
+        final var position = new Position("ABC", 5);
+        final var portfolio = new Portfolio();
+        portfolio.positions.add(position);
+        portfolio.bySymbol.put("ABC", position);
+        portfolio.bySymbol.put("DEF", new Position("DEF", 1));
+        portfolio.pinned = List.of(position);
+        final var cloner = BeanMirror.of(Portfolio.class, MethodHandles.lookup()).cloner(CloneDepth.DEEP);
+        final var copy = cloner.apply(portfolio);
+        final var positionCopy = copy.positions.get(0);
+        assertAll(
+                () -> assertNotSame(portfolio.positions, copy.positions),
+                () -> assertEquals(ArrayList.class, copy.positions.getClass()),
+                () -> assertNotSame(position, positionCopy),
+                () -> assertEquals("ABC", positionCopy.symbol),
+                () -> assertNotSame(portfolio.bySymbol, copy.bySymbol),
+                () -> assertEquals(List.of("DEF", "ABC"), List.copyOf(copy.bySymbol.keySet())),
+                () -> assertSame(positionCopy, copy.bySymbol.get("ABC")),
+                () -> assertSame(portfolio.names, copy.names),
+                () -> assertNotSame(portfolio.pinned, copy.pinned),
+                () -> assertSame(positionCopy, copy.pinned.get(0)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> copy.pinned.add(position))
+        );
+        portfolio.notes = new StringBuilder();
+        final var exception = assertThrows(BeanMirrorException.class, () -> cloner.apply(portfolio));
+        assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void cloneArraysAndRecords() {
+        final var arrays = BeanMirror.of(int[].class, MethodHandles.lookup()).cloner(CloneDepth.DEEP);
+        final var source = new int[] {1, 2, 3};
+        final var price = new Price(3L, source);
+        final var shallowPrice = BeanMirror.of(Price.class, MethodHandles.lookup()).cloner(CloneDepth.SHALLOW).apply(price);
+        assertAll(
+                () -> assertArrayEquals(source, arrays.apply(source)),
+                () -> assertNotSame(source, arrays.apply(source)),
+                () -> assertNull(arrays.apply(null)),
+                () -> assertEquals(3L, shallowPrice.amount()),
+                () -> assertSame(source, shallowPrice.history())
+        );
+    }
+
+    @Test
+    void invalidType() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(NoDefaultConstructor.class, MethodHandles.lookup()).cloner(CloneDepth.DEEP));
+        assertEquals(NoSuchMethodException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void platformSuperTypeWithFields() {
+        final var holder = new Portfolio();
+        holder.notes = new Stamp();
+        final var mirror = BeanMirror.of(Stamp.class, MethodHandles.lookup());
+        final var shallow = assertThrows(BeanMirrorException.class, () -> mirror.cloner(CloneDepth.SHALLOW));
+        final var nested = assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Portfolio.class, MethodHandles.lookup()).cloner(CloneDepth.DEEP).apply(holder));
+        assertAll(
+                () -> assertEquals(IllegalArgumentException.class, shallow.getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, nested.getCause().getClass())
+        );
+    }
+
+    @Test
+    void clonerIsCached() {
+        final var mirror = BeanMirror.of(Position.class, MethodHandles.lookup());
+        assertAll(
+                () -> assertSame(mirror.cloner(CloneDepth.DEEP), mirror.cloner(CloneDepth.DEEP)),
+                () -> assertNotSame(mirror.cloner(CloneDepth.DEEP), mirror.cloner(CloneDepth.SHALLOW))
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Columns;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class ColumnsTest {
+
+    @SuppressWarnings("unused")
+    private static class Item {
+        private int quantity;
+        private double price;
+        private String name = "item";
+        private final int constant = 1;
+
+        private Item(final int quantity) {
+            this.quantity = quantity;
+            this.price = quantity / 2.0;
+        }
+    }
+
+    private static List<Item> items(final int size) {
+        final var items = new ArrayList<Item>(size);
+        IntStream.range(0, size).forEach(i -> items.add(new Item(i)));
+        return items;
+    }
+
+    @Test
+    void createColumns() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Columns.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void extract() {
+        final var mirror = BeanMirror.of(Item.class, MethodHandles.lookup());
+        final var items = items(4);
+        final var destination = new int[5];
+        assertAll(
+                () -> assertSame(destination, mirror.extractInts("quantity", items, destination)),
+                () -> assertArrayEquals(new int[] {0, 1, 2, 3, 0}, destination),
+                () -> assertArrayEquals(new long[] {0L, 1L, 2L, 3L}, mirror.extractLongs("quantity", items, new long[4])),
+                () -> assertArrayEquals(new double[] {0.0, 0.5, 1.0, 1.5}, mirror.extractDoubles("price", items, new double[4])),
+                () -> assertArrayEquals(new int[] {1, 1}, mirror.extractInts("constant", items.subList(0, 2), new int[2])),
+                () -> assertArrayEquals(new int[] {0, 1, 2}, mirror.extractInts("quantity", new LinkedList<>(items.subList(0, 3)), new int[3]))
+        );
+    }
+
+    @Test
+    void extractLargeList() {
+        final var items = items(100_000);
+        final var destination = BeanMirror.of(Item.class, MethodHandles.lookup()).extractLongs("quantity", items, new long[items.size()]);
+        assertArrayEquals(IntStream.range(0, items.size()).asLongStream().toArray(), destination);
+    }
+
+    @Test
+    void extractInvalid() {
+        final var mirror = BeanMirror.of(Item.class, MethodHandles.lookup());
+        final var items = items(3);
+        assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> mirror.extractInts("quantity", items, new int[2])),
+                () -> assertThrows(IllegalArgumentException.class, () -> mirror.extractInts("price", items, new int[3])),
+                () -> assertThrows(IllegalArgumentException.class, () -> mirror.extractInts("name", items, new int[3])),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.extractInts("missing", items, new int[3])).getCause().getClass())
+        );
+    }
+
+    @Test
+    void scatter() {
+        final var mirror = BeanMirror.of(Item.class, MethodHandles.lookup());
+        final var items = items(3);
+        final var linked = new LinkedList<>(items(2));
+        mirror.scatter("quantity", new int[] {5, 6, 7}, items)
+                .scatter("price", new double[] {1.5, 2.5, 3.5}, items)
+                .scatter("quantity", new int[] {8, 9}, linked);
+        assertAll(
+                () -> assertArrayEquals(new int[] {5, 6, 7}, items.stream().mapToInt(item -> item.quantity).toArray()),
+                () -> assertArrayEquals(new double[] {1.5, 2.5, 3.5}, items.stream().mapToDouble(item -> item.price).toArray()),
+                () -> assertArrayEquals(new int[] {8, 9}, linked.stream().mapToInt(item -> item.quantity).toArray()),
+                () -> assertThrows(IllegalArgumentException.class, () -> mirror.scatter("quantity", new long[] {8L, 9L}, items.subList(0, 2))),
+                () -> assertThrows(IllegalArgumentException.class, () -> mirror.scatter("constant", new int[] {2}, items.subList(0, 1))),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> mirror.scatter("quantity", new int[1], items))
+        );
+    }
+
+    @Test
+    void scatterLargeList() {
+        final var items = items(50_000);
+        final var values = IntStream.range(0, items.size()).map(i -> -i).toArray();
+        BeanMirror.of(Item.class, MethodHandles.lookup()).scatter("quantity", values, items);
+        assertArrayEquals(values, items.stream().mapToInt(item -> item.quantity).toArray());
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Copiers;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class CopiersTest {
+
+    @SuppressWarnings("unused")
+    private static class BaseEntity {
+        private long id = 1L;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Entity extends BaseEntity {
+        private int quantity = 2;
+        private char code = 'c';
+        private float ratio = 0.5F;
+        private String name = "entity";
+        private List<String> tags = List.of("a");
+        private int ignored = 3;
+        private String mismatch = "mismatch";
+        private String readOnly = "changed";
+    }
+
+    @SuppressWarnings("unused")
+    private static class Dto {
+        private long id;
+        private long quantity;
+        private int code;
+        private double ratio;
+        private String name;
+        private Iterable<String> tags;
+        private short ignored;
+        private Integer mismatch;
+        private final String readOnly = "original";
+    }
+
+    @Test
+    void createCopiers() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Copiers.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void copy() {
+        final var entity = new Entity();
+        final var dto = new Dto();
+        BeanMirror.copier(Entity.class, Dto.class, MethodHandles.lookup()).accept(entity, dto);
+        assertAll(
+                () -> assertEquals(1L, dto.id),
+                () -> assertEquals(2L, dto.quantity),
+                () -> assertEquals('c', dto.code),
+                () -> assertEquals(0.5, dto.ratio),
+                () -> assertEquals("entity", dto.name),
+                () -> assertSame(entity.tags, dto.tags),
+                () -> assertEquals(0, dto.ignored),
+                () -> assertNull(dto.mismatch),
+                () -> assertEquals("original", dto.readOnly)
+        );
+    }
+
+    @Test
+    void copySameType() {
+        final var source = new Entity();
+        source.name = "source";
+        source.quantity = 5;
+        final var destination = new Entity();
+        BeanMirror.copier(Entity.class, Entity.class, MethodHandles.lookup()).accept(source, destination);
+        assertAll(
+                () -> assertEquals("source", destination.name),
+                () -> assertEquals(5, destination.quantity)
+        );
+    }
+
+    @Test
+    void copyWithNameMapping() {
+        final var entity = new Entity();
+        final var dto = new Dto();
+        BeanMirror.copier(Entity.class, Dto.class, MethodHandles.lookup(), name -> switch (name) {
+            case "quantity" -> "id";
+            case "name" -> null;
+            default -> name;
+        }).accept(entity, dto);
+        assertAll(
+                () -> assertEquals(2L, dto.id),
+                () -> assertEquals(0L, dto.quantity),
+                () -> assertNull(dto.name),
+                () -> assertEquals(0.5, dto.ratio)
+        );
+    }
+
+    @Test
+    void copierIsCached() {
+        assertAll(
+                () -> assertSame(BeanMirror.copier(Entity.class, Dto.class, MethodHandles.lookup()), BeanMirror.copier(Entity.class, Dto.class, MethodHandles.lookup())),
+                () -> assertNotSame(BeanMirror.copier(Entity.class, Dto.class, MethodHandles.lookup()), BeanMirror.copier(Entity.class, Entity.class, MethodHandles.lookup())),
+                () -> assertThrows(NullPointerException.class, () -> BeanMirror.copier(Entity.class, Dto.class, MethodHandles.lookup()).accept(null, new Dto()))
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.ChangeSet;
+import com.github.elopteryx.reflect.internal.Differs;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+
+class DiffersTest {
+
+    @SuppressWarnings("unused")
+    private static class Account {
+        private long version;
+        private String owner;
+        private int balance;
+        private double rate;
+        private boolean active;
+
+        private Account(final long version, final String owner, final int balance, final double rate, final boolean active) {
+            this.version = version;
+            this.owner = owner;
+            this.balance = balance;
+            this.rate = rate;
+            this.active = active;
+        }
+    }
+
+    @Test
+    void createDiffers() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Differs.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void diff() {
+        final var mirror = BeanMirror.of(Account.class, MethodHandles.lookup());
+        final var differ = mirror.differ();
+        final var changes = new ChangeSet();
+        final var before = new Account(1L, "owner", 100, 0.5, true);
+        final var after = new Account(2L, new String("owner"), 100, 0.75, true);
+        final var count = differ.diff(before, after, changes);
+        assertAll(
+                () -> assertEquals(2, count),
+                () -> assertEquals(2, changes.size()),
+                () -> assertEquals(mirror.accessor().indexOf("version"), changes.index(0)),
+                () -> assertEquals(1L, changes.before(0)),
+                () -> assertEquals(2L, changes.after(0)),
+                () -> assertEquals(mirror.accessor().indexOf("rate"), changes.index(1)),
+                () -> assertEquals(0.5, changes.before(1)),
+                () -> assertEquals(0.75, changes.after(1)),
+                () -> assertEquals("ChangeSet[0: 1 -> 2, 3: 0.5 -> 0.75]", changes.toString()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> changes.index(2))
+        );
+    }
+
+    @Test
+    void diffReusingSink() {
+        final var differ = BeanMirror.of(Account.class, MethodHandles.lookup()).differ();
+        final var changes = new ChangeSet();
+        final var before = new Account(1L, "owner", 100, 0.5, true);
+        final var reported = new ArrayList<Integer>();
+        for (var i = 0; i < 20; i++) {
+            differ.diff(before, new Account(i, null, i, 0.5, false), changes);
+        }
+        assertAll(
+                () -> assertEquals(79, changes.size()),
+                () -> assertTrue(changes.clear().isEmpty()),
+                () -> assertEquals(0, differ.diff(before, before, changes)),
+                () -> assertEquals(0, differ.diff(before, new Account(1L, "owner", 100, 0.5, true), changes)),
+                () -> assertEquals(1, differ.diff(before, new Account(1L, null, 100, 0.5, true), (index, previous, next) -> reported.add(index))),
+                () -> assertEquals(1, (int) reported.get(0)),
+                () -> assertTrue(changes.isEmpty())
+        );
+    }
+
+    @Test
+    void differIsCached() {
+        final var mirror = BeanMirror.of(Account.class, MethodHandles.lookup());
+        assertSame(mirror.differ(), mirror.differ());
+    }
+}
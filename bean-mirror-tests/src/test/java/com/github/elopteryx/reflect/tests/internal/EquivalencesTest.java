@@ -0,0 +1,118 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Equivalences;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+class EquivalencesTest {
+
+    @SuppressWarnings("unused")
+    private static class Point {
+        private final long id;
+        private final int x;
+        private final char code;
+        private final double weight;
+        private final boolean visible;
+        private final String label;
+        private final Object payload = new Object();
+
+        private Point(final long id, final int x, final char code, final double weight, final boolean visible, final String label) {
+            this.id = id;
+            this.x = x;
+            this.code = code;
+            this.weight = weight;
+            this.visible = visible;
+            this.label = label;
+        }
+    }
+
+    @Test
+    void createEquivalences() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Equivalences.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void equivalence() {
+        final var equivalence = BeanMirror.of(Point.class, MethodHandles.lookup()).equivalence("id", "x", "code", "weight", "visible", "label");
+        final var point = new Point(1L, 2, 'a', Double.NaN, true, "label");
+        final var same = new Point(1L, 2, 'a', Double.NaN, true, new String("label"));
+        assertAll(
+                () -> assertTrue(equivalence.equivalent(point, same)),
+                () -> assertEquals(equivalence.hash(point), equivalence.hash(same)),
+                () -> assertEquals(Objects.hash(1L, 2, 'a', Double.NaN, true, "label"), equivalence.hash(point)),
+                () -> assertTrue(equivalence.equivalent(null, null)),
+                () -> assertFalse(equivalence.equivalent(point, null)),
+                () -> assertFalse(equivalence.equivalent(null, point)),
+                () -> assertEquals(0, equivalence.hash(null)),
+                () -> assertFalse(equivalence.equivalent(point, new Point(2L, 2, 'a', Double.NaN, true, "label"))),
+                () -> assertFalse(equivalence.equivalent(point, new Point(1L, 2, 'b', Double.NaN, true, "label"))),
+                () -> assertFalse(equivalence.equivalent(point, new Point(1L, 2, 'a', 0.0, true, "label"))),
+                () -> assertFalse(equivalence.equivalent(point, new Point(1L, 2, 'a', Double.NaN, false, "label"))),
+                () -> assertFalse(equivalence.equivalent(point, new Point(1L, 2, 'a', Double.NaN, true, null))),
+                () -> assertFalse(equivalence.equivalent(new Point(1L, 2, 'a', 0.0, true, "label"), new Point(1L, 2, 'a', -0.0, true, "label")))
+        );
+    }
+
+    @Test
+    void equivalenceOfEveryField() {
+        final var equivalence = BeanMirror.of(Point.class, MethodHandles.lookup()).equivalence();
+        final var point = new Point(1L, 2, 'a', 0.5, true, "label");
+        assertAll(
+                () -> assertTrue(equivalence.equivalent(point, point)),
+                () -> assertFalse(equivalence.equivalent(point, new Point(1L, 2, 'a', 0.5, true, "label"))),
+                () -> assertNotEquals(equivalence.hash(point), BeanMirror.of(Point.class, MethodHandles.lookup()).equivalence("x").hash(point))
+        );
+    }
+
+    @Test
+    void comparator() {
+        final var comparator = BeanMirror.of(Point.class, MethodHandles.lookup()).comparator("label", "x", "weight");
+        final var points = new ArrayList<>(List.of(
+                new Point(1L, 3, 'a', 0.5, true, "b"),
+                new Point(2L, 1, 'a', 0.5, true, "b"),
+                new Point(3L, 1, 'a', 0.25, true, "b"),
+                new Point(4L, 9, 'a', 0.5, true, null),
+                new Point(5L, 0, 'a', 0.5, true, "c")));
+        points.sort(comparator);
+        assertAll(
+                () -> assertEquals(List.of(4L, 3L, 2L, 1L, 5L), points.stream().map(point -> point.id).toList()),
+                () -> assertEquals(0, comparator.compare(points.get(0), points.get(0))),
+                () -> assertEquals(0, BeanMirror.of(Point.class, MethodHandles.lookup()).comparator("code", "visible").compare(points.get(0), points.get(1))),
+                () -> assertThrows(NullPointerException.class, () -> comparator.compare(null, points.get(0)))
+        );
+    }
+
+    @Test
+    void invalidFields() {
+        final var mirror = BeanMirror.of(Point.class, MethodHandles.lookup());
+        assertAll(
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> mirror.equivalence("missing")).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.comparator("payload")).getCause().getClass())
+        );
+    }
+
+    @Test
+    void strategiesAreCached() {
+        final var mirror = BeanMirror.of(Point.class, MethodHandles.lookup());
+        assertAll(
+                () -> assertSame(mirror.equivalence("x", "label"), mirror.equivalence("x", "label")),
+                () -> assertSame(mirror.comparator("x", "label"), mirror.comparator("x", "label"))
+        );
+    }
+}
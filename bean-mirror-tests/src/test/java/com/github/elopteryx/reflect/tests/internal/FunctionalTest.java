@@ -64,4 +64,33 @@ class FunctionalTest {
         Functional.createSetter("c", MethodHandles.lookup(), Target.class, int.class);
         Functional.createStaticSetter("f", MethodHandles.lookup(), Target.class, int.class);
     }
+
+    @Test
+    void primitiveGetterForNonExistentField() {
+        Functional.createIntGetter("a", MethodHandles.lookup(), Target.class);
+        assertThrows(BeanMirrorException.class, () -> Functional.createIntGetter("b", MethodHandles.lookup(), Target.class));
+        assertThrows(BeanMirrorException.class, () -> Functional.createLongGetter("a", MethodHandles.lookup(), Target.class));
+        assertThrows(BeanMirrorException.class, () -> Functional.createDoubleGetter("a", MethodHandles.lookup(), Target.class));
+        Functional.createStaticIntGetter("d", MethodHandles.lookup(), Target.class);
+        assertThrows(BeanMirrorException.class, () -> Functional.createStaticIntGetter("e", MethodHandles.lookup(), Target.class));
+    }
+
+    @Test
+    void primitiveSetterForNonExistentField() {
+        Functional.createIntSetter("a", MethodHandles.lookup(), Target.class);
+        assertThrows(BeanMirrorException.class, () -> Functional.createIntSetter("b", MethodHandles.lookup(), Target.class));
+        assertThrows(BeanMirrorException.class, () -> Functional.createLongSetter("a", MethodHandles.lookup(), Target.class));
+        assertThrows(BeanMirrorException.class, () -> Functional.createDoubleSetter("a", MethodHandles.lookup(), Target.class));
+        Functional.createStaticIntSetter("d", MethodHandles.lookup(), Target.class);
+        assertThrows(BeanMirrorException.class, () -> Functional.createStaticIntSetter("e", MethodHandles.lookup(), Target.class));
+    }
+
+    @Test
+    void atomicAccessForNonExistentField() {
+        Functional.createVolatileGetter("a", MethodHandles.lookup(), Target.class, int.class);
+        Functional.createCasUpdater("a", MethodHandles.lookup(), Target.class, int.class);
+        assertThrows(BeanMirrorException.class, () -> Functional.createVolatileGetter("b", MethodHandles.lookup(), Target.class, int.class));
+        assertThrows(BeanMirrorException.class, () -> Functional.createCasUpdater("b", MethodHandles.lookup(), Target.class, int.class));
+        assertThrows(BeanMirrorException.class, () -> Functional.createCasUpdater("a", MethodHandles.lookup(), Target.class, long.class));
+    }
 }
@@ -0,0 +1,175 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.HandleCache;
+import com.github.elopteryx.reflect.tests.plugin.Plugin;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HandleCacheTest {
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private int a = 1;
+
+        private static String b = "b";
+
+        private int call() {
+            return a;
+        }
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class Sink {
+
+        private Object taken;
+
+        private void take(final Object value) {
+            taken = value;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Source {
+        private String name = "source";
+    }
+
+    /**
+     * Defines a copy of a class of the tests, the parent
+     * loads the other classes.
+     */
+    private static final class PluginLoader extends ClassLoader {
+
+        private PluginLoader() {
+            super(HandleCacheTest.class.getClassLoader());
+        }
+
+        private Class<?> define(final Class<?> type) throws IOException {
+            try (var stream = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+                final var bytes = stream.readAllBytes();
+                return defineClass(type.getName(), bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    @Test
+    void createHandleCache() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(HandleCache.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void sameHandleForSameLookup() throws Exception {
+        final var lookup = MethodHandles.lookup();
+        assertSame(HandleCache.findVarHandle(lookup, Target.class, "a", int.class),
+                HandleCache.findVarHandle(MethodHandles.lookup(), Target.class, "a", int.class));
+        assertSame(HandleCache.findStaticVarHandle(lookup, Target.class, "b", String.class),
+                HandleCache.findStaticVarHandle(MethodHandles.lookup(), Target.class, "b", String.class));
+    }
+
+    @Test
+    void differentHandleForDifferentLookupModes() throws Exception {
+        final var lookup = MethodHandles.lookup();
+        final var restricted = lookup.dropLookupMode(MethodHandles.Lookup.PROTECTED);
+        assertNotSame(HandleCache.findVarHandle(lookup, Target.class, "a", int.class),
+                HandleCache.findVarHandle(restricted, Target.class, "a", int.class));
+    }
+
+    @Test
+    void handlesAreUsable() throws Exception {
+        final var lookup = MethodHandles.lookup();
+        assertEquals(1, (int) HandleCache.findVarHandle(lookup, Target.class, "a", int.class).get(new Target()));
+        assertEquals("b", (String) HandleCache.findStaticVarHandle(lookup, Target.class, "b", String.class).get());
+    }
+
+    @Test
+    void missingFieldIsNotCached() {
+        final var lookup = MethodHandles.lookup();
+        assertThrows(NoSuchFieldException.class, () -> HandleCache.findVarHandle(lookup, Target.class, "c", int.class));
+        assertThrows(NoSuchFieldException.class, () -> HandleCache.findVarHandle(lookup, Target.class, "c", int.class));
+        assertThrows(IllegalAccessException.class, () -> HandleCache.findStaticVarHandle(lookup, Target.class, "a", int.class));
+    }
+
+    @Test
+    void constructorIsAdapted() throws Throwable {
+        final var lookup = MethodHandles.lookup();
+        final var constructor = HandleCache.findConstructor(lookup, Target.class);
+        assertSame(constructor, HandleCache.findConstructor(lookup, Target.class));
+        assertEquals(MethodType.methodType(Object.class, Object[].class), constructor.type());
+        assertEquals(Target.class, ((Object) constructor.invokeExact(new Object[0])).getClass());
+        assertThrows(NoSuchMethodException.class, () -> HandleCache.findConstructor(lookup, Target.class, int.class));
+    }
+
+    @Test
+    void methodIsResolvedOnce() throws Exception {
+        final var lookup = MethodHandles.lookup();
+        final var counter = new AtomicInteger();
+        final HandleCache.Resolver resolver = () -> {
+            counter.incrementAndGet();
+            return lookup.findVirtual(Target.class, "call", MethodType.methodType(int.class));
+        };
+        final MethodHandle first = HandleCache.findVirtual(lookup, Target.class, "call", int.class, new Class<?>[0], resolver);
+        final MethodHandle second = HandleCache.findVirtual(lookup, Target.class, "call", int.class, new Class<?>[0], resolver);
+        assertSame(first, second);
+        assertEquals(1, counter.get());
+        assertThrows(IllegalAccessException.class,
+                () -> HandleCache.findStatic(lookup, Target.class, "call", int.class, new Class<?>[0], () -> lookup.findStatic(Target.class, "call", MethodType.methodType(int.class))));
+    }
+
+    @Test
+    void classLoadersOfTheArgumentsAreNotPinned() throws Exception {
+        final var loader = new WeakReference<>(usePlugin());
+        for (var i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get());
+    }
+
+    private static ClassLoader usePlugin() throws Exception {
+        final var loader = new PluginLoader();
+        final var plugin = loader.define(Plugin.class);
+        final var value = plugin.getConstructor().newInstance();
+        final var sink = new Sink();
+        BeanMirror.of(sink, MethodHandles.lookup()).run("take", value);
+        copy(plugin, value);
+        assertSame(value, sink.taken);
+        assertEquals("source", plugin.getField("name").get(value));
+        return loader;
+    }
+
+    private static <D> void copy(final Class<D> type, final Object value) {
+        BeanMirror.copier(Source.class, type, MethodHandles.lookup()).accept(new Source(), type.cast(value));
+    }
+
+    @Test
+    void missingMethodIsCached() {
+        final var lookup = MethodHandles.lookup();
+        final var counter = new AtomicInteger();
+        final HandleCache.Resolver resolver = () -> {
+            counter.incrementAndGet();
+            throw new NoSuchMethodException("missing");
+        };
+        final var first = assertThrows(NoSuchMethodException.class, () -> HandleCache.findVirtual(lookup, Target.class, "missing", void.class, new Class<?>[0], resolver));
+        final var second = assertThrows(NoSuchMethodException.class, () -> HandleCache.findVirtual(lookup, Target.class, "missing", void.class, new Class<?>[0], resolver));
+        assertEquals("missing", first.getMessage());
+        assertEquals("missing", second.getMessage());
+        assertEquals(1, counter.get());
+    }
+}
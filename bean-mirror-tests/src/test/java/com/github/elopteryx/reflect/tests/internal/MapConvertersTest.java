@@ -0,0 +1,108 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.MapConverters;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class MapConvertersTest {
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+        private String name = "parent";
+        private int count = 1;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Bean extends Parent {
+        private String name = "bean";
+        private long total = 2L;
+        private final String constant = "constant";
+    }
+
+    private record Point(int x, int y, String label) {}
+
+    @Test
+    void createMapConverters() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(MapConverters.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void toMap() {
+        final var map = BeanMirror.of(Bean.class, MethodHandles.lookup()).toMapConverter().apply(new Bean());
+        assertAll(
+                () -> assertEquals(4, map.size()),
+                () -> assertEquals(List.of("count", "name", "total", "constant"), List.copyOf(map.keySet())),
+                () -> assertEquals("bean", map.get("name")),
+                () -> assertEquals(1, map.get("count")),
+                () -> assertEquals(2L, map.get("total")),
+                () -> assertNull(map.get("missing")),
+                () -> assertTrue(map.containsKey("constant")),
+                () -> assertEquals(Map.of("count", 1, "name", "bean", "total", 2L, "constant", "constant"), map),
+                () -> assertEquals(Map.of("count", 1, "name", "bean", "total", 2L, "constant", "constant").hashCode(), map.hashCode()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> map.put("name", "other"))
+        );
+    }
+
+    @Test
+    void toMapWithFactory() {
+        final var map = BeanMirror.of(Point.class, MethodHandles.lookup()).toMapConverter(LinkedHashMap::new).apply(new Point(1, 2, "a"));
+        assertAll(
+                () -> assertEquals(LinkedHashMap.class, map.getClass()),
+                () -> assertEquals(Map.of("x", 1, "y", 2, "label", "a"), map)
+        );
+    }
+
+    @Test
+    void fromMap() {
+        final var mirror = BeanMirror.of(Bean.class, MethodHandles.lookup());
+        final var values = new HashMap<String, Object>();
+        values.put("name", "map");
+        values.put("count", null);
+        values.put("constant", "ignored");
+        final var bean = mirror.fromMapConverter().apply(values);
+        final var copy = mirror.fromMapConverter().apply(mirror.toMapConverter().apply(bean));
+        assertAll(
+                () -> assertEquals("map", bean.name),
+                () -> assertEquals(1, ((Parent) bean).count),
+                () -> assertEquals(2L, bean.total),
+                () -> assertEquals("constant", bean.constant),
+                () -> assertEquals("map", copy.name),
+                () -> assertThrows(ClassCastException.class, () -> mirror.fromMapConverter().apply(Map.of("total", "text")))
+        );
+    }
+
+    @Test
+    void fromMapForRecord() {
+        final var mirror = BeanMirror.of(Point.class, MethodHandles.lookup());
+        final var point = new Point(1, 2, "a");
+        assertAll(
+                () -> assertEquals(point, mirror.fromMapConverter().apply(mirror.toMapConverter().apply(point))),
+                () -> assertEquals(new Point(3, 0, null), mirror.fromMapConverter().apply(Map.of("x", 3)))
+        );
+    }
+
+    @Test
+    void convertersAreCached() {
+        final var mirror = BeanMirror.of(Bean.class, MethodHandles.lookup());
+        assertAll(
+                () -> assertSame(mirror.toMapConverter(), mirror.toMapConverter()),
+                () -> assertSame(mirror.fromMapConverter(), mirror.fromMapConverter())
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.MemoryViews;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class MemoryViewsTest {
+
+    @SuppressWarnings("unused")
+    private static class Point {
+        private double x;
+        private double y;
+    }
+
+    @Test
+    void createMemoryViews() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(MemoryViews.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void foreignMemoryRequiresNewerRuntime() {
+        assumeTrue(Runtime.version().feature() < 22, "The foreign memory views are covered by the Java 22 tests");
+        final var mirror = BeanMirror.of(Point.class, MethodHandles.lookup());
+        final var layoutException = assertThrows(BeanMirrorException.class, mirror::memoryLayout);
+        final var viewException = assertThrows(BeanMirrorException.class, () -> mirror.memoryView(new Object()));
+        assertAll(
+                () -> assertEquals(UnsupportedOperationException.class, layoutException.getCause().getClass()),
+                () -> assertEquals(UnsupportedOperationException.class, viewException.getCause().getClass())
+        );
+    }
+}
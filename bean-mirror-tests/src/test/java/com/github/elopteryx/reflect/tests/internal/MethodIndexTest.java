@@ -0,0 +1,85 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.internal.MethodIndex;
+import com.github.elopteryx.reflect.internal.NULL;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class MethodIndexTest {
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+
+        private String call(final Number value) {
+            return "number";
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Target extends Parent {
+
+        private String call(final Object value) {
+            return "object";
+        }
+
+        private String call(final Integer value) {
+            return "integer";
+        }
+
+        private String call(final CharSequence value, final Object other) {
+            return "sequence";
+        }
+
+        private String call(final String value, final Object other) {
+            return "string";
+        }
+
+        private static String call(final Long value) {
+            return "static";
+        }
+    }
+
+    @Test
+    void findMostSpecific() {
+        final var index = MethodIndex.of(Target.class);
+        assertAll(
+                () -> assertEquals(Integer.class, index.findVirtual("call", Integer.class).getParameterTypes()[0]),
+                () -> assertEquals(Integer.class, index.findVirtual("call", int.class).getParameterTypes()[0]),
+                () -> assertEquals(Number.class, index.findVirtual("call", Double.class).getParameterTypes()[0]),
+                () -> assertEquals(Object.class, index.findVirtual("call", Object.class).getParameterTypes()[0]),
+                () -> assertEquals(Integer.class, index.findVirtual("call", NULL.class).getParameterTypes()[0]),
+                () -> assertEquals(String.class, index.findVirtual("call", String.class, Object.class).getParameterTypes()[0]),
+                () -> assertEquals(CharSequence.class, index.findVirtual("call", StringBuilder.class, Object.class).getParameterTypes()[0]),
+                () -> assertEquals(Long.class, index.findStatic("call", Long.class).getParameterTypes()[0]),
+                () -> assertSame(index, MethodIndex.of(Target.class))
+        );
+    }
+
+    @Test
+    void findMissing() {
+        final var index = MethodIndex.of(Target.class);
+        assertAll(
+                () -> assertThrows(NoSuchMethodException.class, () -> index.findStatic("call", Integer.class)),
+                () -> assertThrows(NoSuchMethodException.class, () -> index.findVirtual("call")),
+                () -> assertThrows(NoSuchMethodException.class, () -> index.findVirtual("missing", Integer.class))
+        );
+    }
+
+    @Test
+    void callWithMirror() {
+        final var target = new Target();
+        final var mirror = BeanMirror.of(target, MethodHandles.lookup());
+        assertAll(
+                () -> assertEquals("number", mirror.call(String.class, "call", 1.0).get()),
+                () -> assertEquals("string", mirror.call(String.class, "call", "a", 1).get()),
+                () -> assertEquals("static", BeanMirror.of(Target.class, MethodHandles.lookup()).callStatic(String.class, "call", 1L).get())
+        );
+    }
+}
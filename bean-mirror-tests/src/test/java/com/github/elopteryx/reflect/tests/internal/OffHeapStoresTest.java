@@ -0,0 +1,249 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.OffHeapStore;
+import com.github.elopteryx.reflect.internal.OffHeapStores;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+class OffHeapStoresTest {
+
+    @SuppressWarnings("unused")
+    private static class Tick {
+        private long id;
+        private double price;
+        private int volume;
+        private boolean buy;
+        private transient String cached;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Named {
+        private int id;
+        private String name;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Quote {
+        private long id;
+        private double bid;
+        private double ask;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Counter {
+        private int count;
+        private int step;
+    }
+
+    @SuppressWarnings("unused")
+    private static class WideCounter extends Counter {
+        private long count;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Empty {
+        private transient int value;
+    }
+
+    private static Tick tick(final long id, final double price, final int volume, final boolean buy) {
+        final var tick = new Tick();
+        tick.id = id;
+        tick.price = price;
+        tick.volume = volume;
+        tick.buy = buy;
+        return tick;
+    }
+
+    @Test
+    void createOffHeapStores() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(OffHeapStores.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        final var file = Files.createTempFile("ticks", ".bin");
+        try (var store = BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, 1000)) {
+            store.write(0, tick(1L, 10.5, 100, true));
+            store.write(999, tick(2L, 11.5, 200, false));
+            final var first = store.read(0);
+            final var last = store.read(999);
+            assertAll(
+                    () -> assertEquals(1000, store.capacity()),
+                    // 8 + 8 + 4 + 1 bytes, padded to 8
+                    () -> assertEquals(24, store.rowSize()),
+                    // The header, then the rows
+                    () -> assertEquals(16L + 24_000L, Files.size(file)),
+                    () -> assertEquals(1L, first.id),
+                    () -> assertEquals(10.5, first.price),
+                    () -> assertEquals(100, first.volume),
+                    () -> assertTrue(first.buy),
+                    () -> assertEquals(2L, last.id),
+                    () -> assertEquals(0L, store.read(500).id),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> store.read(1000)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> store.write(-1, first))
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void flyweightAccessors() throws IOException {
+        final var file = Files.createTempFile("ticks", ".bin");
+        try (var store = BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, 100)) {
+            final var idSetter = store.createLongSetter("id");
+            final var priceSetter = store.createDoubleSetter("price");
+            final var volumeSetter = store.createIntSetter("volume");
+            final var buySetter = store.createSetter("buy", boolean.class);
+            final var row = store.row(0);
+            for (var i = 0; i < store.capacity(); i++) {
+                row.moveTo(i);
+                idSetter.accept(row, i);
+                priceSetter.accept(row, i * 0.5);
+                volumeSetter.accept(row, i * 10);
+                buySetter.accept(row, i % 2 == 0);
+            }
+            final var idGetter = store.createLongGetter("id");
+            final var priceGetter = store.createDoubleGetter("price");
+            final var volumeGetter = store.createIntGetter("volume");
+            final Function<OffHeapStore.Row, Boolean> buyGetter = store.createGetter("buy", Boolean.class);
+            final var volume = store.createGetter("volume", int.class);
+            var total = 0L;
+            for (var i = 0; i < store.capacity(); i++) {
+                total += volumeGetter.applyAsInt(row.moveTo(i));
+            }
+            final var sum = total;
+            final var read = store.read(42);
+            assertAll(
+                    () -> assertEquals(49_500L, sum),
+                    () -> assertSame(row, row.moveTo(7)),
+                    () -> assertEquals(7L, row.index()),
+                    () -> assertEquals(7L, idGetter.applyAsLong(row)),
+                    () -> assertEquals(3.5, priceGetter.applyAsDouble(row)),
+                    () -> assertEquals(70, (int) volume.apply(row)),
+                    () -> assertFalse(buyGetter.apply(row)),
+                    () -> assertEquals(42L, read.id),
+                    () -> assertEquals(420, read.volume),
+                    () -> assertTrue(read.buy),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> row.moveTo(100))
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void reopen() throws IOException {
+        final var file = Files.createTempFile("ticks", ".bin");
+        try {
+            try (var store = BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, 10)) {
+                store.write(3, tick(33L, 1.0, 1, true));
+            }
+            try (var store = BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, 20)) {
+                final ToLongFunction<OffHeapStore.Row> id = store.createLongGetter("id");
+                assertAll(
+                        () -> assertEquals(33L, id.applyAsLong(store.row(3))),
+                        () -> assertEquals(0L, id.applyAsLong(store.row(19)))
+                );
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void reopenWithDifferentLayout() throws IOException {
+        final var file = Files.createTempFile("ticks", ".bin");
+        final var other = Files.createTempFile("ticks", ".bin");
+        try {
+            BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, 10).close();
+            Files.write(other, new byte[] {1, 2, 3});
+            final var layout = assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Quote.class, MethodHandles.lookup()).offHeapStore(file, 10));
+            final var garbage = assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(other, 10));
+            assertAll(
+                    () -> assertEquals(IllegalArgumentException.class, layout.getCause().getClass()),
+                    () -> assertEquals(IllegalArgumentException.class, garbage.getCause().getClass())
+            );
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(other);
+        }
+    }
+
+    @Test
+    void shadowedFields() throws IOException {
+        final var file = Files.createTempFile("counters", ".bin");
+        try (var store = BeanMirror.of(WideCounter.class, MethodHandles.lookup()).offHeapStore(file, 10)) {
+            final var counter = new WideCounter();
+            counter.count = 1L << 40;
+            final Counter inherited = counter;
+            inherited.count = 3;
+            inherited.step = 4;
+            store.write(0, counter);
+            final var row = store.row(0);
+            final var read = store.read(0);
+            final Counter readInherited = read;
+            assertAll(
+                    // The field of the subtype shadows the one of the super type
+                    () -> assertEquals(1L << 40, store.createLongGetter("count").applyAsLong(row)),
+                    () -> assertEquals(4, store.createIntGetter("step").applyAsInt(row)),
+                    () -> assertThrows(BeanMirrorException.class, () -> store.createIntGetter("count")),
+                    () -> assertEquals(1L << 40, read.count),
+                    () -> assertEquals(3, readInherited.count)
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void invalidAccessors() throws IOException {
+        final var file = Files.createTempFile("ticks", ".bin");
+        try (var store = BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, 10);
+             var other = BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, 10)) {
+            final var volume = store.createIntGetter("volume");
+            assertAll(
+                    () -> assertThrows(BeanMirrorException.class, () -> store.createIntGetter("id")),
+                    () -> assertThrows(BeanMirrorException.class, () -> store.createLongSetter("price")),
+                    () -> assertThrows(BeanMirrorException.class, () -> store.createGetter("volume", long.class)),
+                    () -> assertThrows(BeanMirrorException.class, () -> store.createGetter("cached", String.class)),
+                    () -> assertThrows(BeanMirrorException.class, () -> store.createDoubleGetter("nothing")),
+                    () -> assertThrows(IllegalArgumentException.class, () -> volume.applyAsInt(other.row(0)))
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void unsupportedTypes() throws IOException {
+        final var file = Files.createTempFile("ticks", ".bin");
+        try {
+            assertAll(
+                    () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Named.class, MethodHandles.lookup()).offHeapStore(file, 10)),
+                    () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Empty.class, MethodHandles.lookup()).offHeapStore(file, 10)),
+                    () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(file, -1)),
+                    () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Tick.class, MethodHandles.lookup()).offHeapStore(Path.of("/nonexistent/ticks.bin"), 10))
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
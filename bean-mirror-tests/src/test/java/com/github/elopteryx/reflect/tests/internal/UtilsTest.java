@@ -49,6 +49,30 @@ class UtilsTest {
         assertTrue(Utils.isSimilarSignature(callMethod, "call", boolean.class));
     }
 
+    @SuppressWarnings("unused")
+    private static class FieldsParent {
+        private int a;
+        private static int b;
+    }
+
+    @SuppressWarnings("unused")
+    private static class FieldsChild extends FieldsParent {
+        private int a;
+        private String c;
+    }
+
+    @Test
+    void useInstanceFields() {
+        final var fields = Utils.instanceFields(FieldsChild.class);
+        assertAll(
+                () -> assertEquals(3, fields.size()),
+                () -> assertEquals(FieldsParent.class, fields.get(0).getDeclaringClass()),
+                () -> assertEquals(FieldsChild.class, fields.get(1).getDeclaringClass()),
+                () -> assertEquals("c", fields.get(2).getName()),
+                () -> assertEquals(0, Utils.instanceFields(Object.class).size())
+        );
+    }
+
     @Test
     void useTypes() {
         assertAll(
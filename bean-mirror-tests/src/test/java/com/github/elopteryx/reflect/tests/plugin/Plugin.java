@@ -0,0 +1,10 @@
+package com.github.elopteryx.reflect.tests.plugin;
+
+/**
+ * Defined again by a new class loader in the tests, like a class of a plugin.
+ */
+@SuppressWarnings("unused")
+public class Plugin {
+
+    public String name;
+}
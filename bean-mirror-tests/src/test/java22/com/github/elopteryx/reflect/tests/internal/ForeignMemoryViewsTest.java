@@ -0,0 +1,205 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.OffHeapStore;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.function.Function;
+
+class ForeignMemoryViewsTest {
+
+    @SuppressWarnings("unused")
+    private static class Particle {
+        private byte flag;
+        private int count;
+        private double x;
+        private long id;
+        private transient String cached;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Counter {
+        private int count;
+        private int step;
+    }
+
+    @SuppressWarnings("unused")
+    private static class WideCounter extends Counter {
+        private long count;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Named {
+        private int id;
+        private String name;
+    }
+
+    private static Particle particle(final long id, final double x, final int count, final boolean flag) {
+        final var particle = new Particle();
+        particle.id = id;
+        particle.x = x;
+        particle.count = count;
+        particle.flag = (byte) (flag ? 1 : 0);
+        return particle;
+    }
+
+    @Test
+    void layout() {
+        final var mirror = BeanMirror.of(Particle.class, MethodHandles.lookup());
+        final var layout = (StructLayout) mirror.memoryLayout();
+        final var names = layout.memberLayouts().stream()
+                .map(member -> member.name().orElse("padding"))
+                .toList();
+        assertAll(
+                // The widest fields first, then the declaration order, padded to 8
+                () -> assertEquals(List.of("x", "id", "count", "flag", "padding"), names),
+                () -> assertEquals(24L, layout.byteSize()),
+                () -> assertEquals(8L, layout.byteAlignment()),
+                () -> assertEquals(0L, layout.byteOffset(MemoryLayout.PathElement.groupElement("x"))),
+                () -> assertEquals(8L, layout.byteOffset(MemoryLayout.PathElement.groupElement("id"))),
+                () -> assertEquals(16L, layout.byteOffset(MemoryLayout.PathElement.groupElement("count"))),
+                () -> assertEquals(20L, layout.byteOffset(MemoryLayout.PathElement.groupElement("flag"))),
+                () -> assertSame(layout, mirror.memoryLayout())
+        );
+    }
+
+    @Test
+    void writeAndRead() {
+        final var mirror = BeanMirror.of(Particle.class, MethodHandles.lookup());
+        try (var arena = Arena.ofConfined()) {
+            final var segment = arena.allocate((MemoryLayout) mirror.memoryLayout(), 10);
+            final var view = mirror.memoryView(segment);
+            view.write(0, particle(1L, 0.5, 10, true));
+            view.write(9, particle(2L, 1.5, 20, false));
+            final var first = view.read(0);
+            final var last = view.read(9);
+            assertAll(
+                    () -> assertEquals(10L, view.capacity()),
+                    () -> assertEquals(24, view.rowSize()),
+                    // The values are in the native byte order
+                    () -> assertEquals(1L, segment.get(ValueLayout.JAVA_LONG, 8L)),
+                    () -> assertEquals(2L, segment.get(ValueLayout.JAVA_LONG, 9 * 24L + 8L)),
+                    () -> assertEquals(1L, first.id),
+                    () -> assertEquals(0.5, first.x),
+                    () -> assertEquals(10, first.count),
+                    () -> assertEquals(1, first.flag),
+                    () -> assertEquals(2L, last.id),
+                    () -> assertEquals(0, last.flag),
+                    () -> assertEquals(0L, view.read(5).id),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> view.read(10)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> view.write(-1, first))
+            );
+        }
+    }
+
+    @Test
+    void flyweightAccessors() {
+        final var mirror = BeanMirror.of(Particle.class, MethodHandles.lookup());
+        try (var arena = Arena.ofConfined()) {
+            final var view = mirror.memoryView(arena.allocate((MemoryLayout) mirror.memoryLayout(), 100));
+            final var idSetter = view.createLongSetter("id");
+            final var xSetter = view.createDoubleSetter("x");
+            final var countSetter = view.createIntSetter("count");
+            final var flagSetter = view.createSetter("flag", Byte.class);
+            final var row = view.row(0);
+            for (var i = 0; i < view.capacity(); i++) {
+                row.moveTo(i);
+                idSetter.accept(row, i);
+                xSetter.accept(row, i * 0.5);
+                countSetter.accept(row, i * 10);
+                flagSetter.accept(row, (byte) (i % 2));
+            }
+            final var idGetter = view.createLongGetter("id");
+            final var xGetter = view.createDoubleGetter("x");
+            final var countGetter = view.createIntGetter("count");
+            final Function<OffHeapStore.Row, Byte> flagGetter = view.createGetter("flag", byte.class);
+            var total = 0L;
+            for (var i = 0; i < view.capacity(); i++) {
+                total += countGetter.applyAsInt(row.moveTo(i));
+            }
+            final var sum = total;
+            final var read = view.read(42);
+            assertAll(
+                    () -> assertEquals(49_500L, sum),
+                    () -> assertSame(row, row.moveTo(7)),
+                    () -> assertEquals(7L, row.index()),
+                    () -> assertEquals(7L, idGetter.applyAsLong(row)),
+                    () -> assertEquals(3.5, xGetter.applyAsDouble(row)),
+                    () -> assertEquals(1, (byte) flagGetter.apply(row)),
+                    () -> assertEquals(42L, read.id),
+                    () -> assertEquals(420, read.count),
+                    () -> assertEquals(0, read.flag),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> row.moveTo(100))
+            );
+        }
+    }
+
+    @Test
+    void shadowedFields() {
+        final var mirror = BeanMirror.of(WideCounter.class, MethodHandles.lookup());
+        try (var arena = Arena.ofConfined()) {
+            final var view = mirror.memoryView(arena.allocate((MemoryLayout) mirror.memoryLayout(), 1));
+            final var counter = new WideCounter();
+            counter.count = 1L << 40;
+            final Counter inherited = counter;
+            inherited.step = 4;
+            view.write(0, counter);
+            final var row = view.row(0);
+            assertAll(
+                    // The field of the subtype shadows the one of the super type
+                    () -> assertEquals(1L << 40, view.createLongGetter("count").applyAsLong(row)),
+                    () -> assertEquals(4, view.createIntGetter("step").applyAsInt(row)),
+                    () -> assertThrows(BeanMirrorException.class, () -> view.createIntGetter("count"))
+            );
+        }
+    }
+
+    @Test
+    void invalidAccessors() {
+        final var mirror = BeanMirror.of(Particle.class, MethodHandles.lookup());
+        try (var arena = Arena.ofConfined()) {
+            final var view = mirror.memoryView(arena.allocate((MemoryLayout) mirror.memoryLayout(), 10));
+            final var other = mirror.memoryView(arena.allocate((MemoryLayout) mirror.memoryLayout(), 10));
+            final var count = view.createIntGetter("count");
+            final var notSegment = assertThrows(BeanMirrorException.class, () -> mirror.memoryView(new Object()));
+            assertAll(
+                    () -> assertThrows(BeanMirrorException.class, () -> view.createIntGetter("id")),
+                    () -> assertThrows(BeanMirrorException.class, () -> view.createLongSetter("x")),
+                    () -> assertThrows(BeanMirrorException.class, () -> view.createGetter("count", long.class)),
+                    () -> assertThrows(BeanMirrorException.class, () -> view.createGetter("cached", String.class)),
+                    () -> assertThrows(BeanMirrorException.class, () -> view.createDoubleGetter("nothing")),
+                    () -> assertThrows(IllegalArgumentException.class, () -> count.applyAsInt(other.row(0))),
+                    () -> assertEquals(IllegalArgumentException.class, notSegment.getCause().getClass()),
+                    () -> assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Named.class, MethodHandles.lookup()).memoryLayout())
+            );
+        }
+    }
+
+    @Test
+    void closeKeepsTheSegment() {
+        final var mirror = BeanMirror.of(Particle.class, MethodHandles.lookup());
+        try (var arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate((MemoryLayout) mirror.memoryLayout(), 1);
+            try (var view = mirror.memoryView(segment)) {
+                view.write(0, particle(5L, 2.5, 1, true));
+                assertFalse(segment.isMapped());
+            }
+            // The segment is released by its arena, not by the view
+            assertEquals(5L, segment.get(ValueLayout.JAVA_LONG, 8L));
+        }
+    }
+}